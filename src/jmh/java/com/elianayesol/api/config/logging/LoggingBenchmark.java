@@ -0,0 +1,141 @@
+package com.elianayesol.api.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 1건당 로그 비용 측정 (출력은 버리는 스트림으로 보내 I/O 장치 차이를 제외)
+ * - systemOutBanner: 기존 방식 (System.out 과 같은 autoflush PrintStream에 여러 줄 문자열 결합)
+ * - syncJson: SLF4J + JSON 인코더, 호출 스레드에서 직접 출력
+ * - asyncJson: AsyncAppender, logback-spring.xml의 ASYNC_CONSOLE과 같은 설정
+ *   (queueSize 8192, neverBlock=true, 기본 discardingThreshold: 80% 이상 차면 INFO 이하 버림)
+ *   → 출력 스레드가 못 따라가면 버려지는 이벤트가 생기며, 운영과 같은 조건의 요청 스레드 비용을 측정
+ * - asyncJsonSampled: asyncJson + SAMPLED 마커 (SamplingTurboFilter rate=100)
+ * - debugDisabled: 비활성 레벨의 파라미터 로그 (메시지 생성 없음)
+ * 동시 로그인 경합은 -PjmhThreads=8 처럼 스레드 수를 늘려 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggingBenchmark {
+
+	private static final String USER_ID = "1234567890";
+	private static final String PROVIDER = "google";
+
+	private PrintStream console;
+	private LoggerContext syncContext;
+	private LoggerContext asyncContext;
+	private LoggerContext sampledContext;
+	private Logger syncLogger;
+	private Logger asyncLogger;
+	private Logger sampledLogger;
+	private LocalDateTime expiresAt;
+
+	@Setup
+	public void setUp() {
+		console = new PrintStream(OutputStream.nullOutputStream(), true);
+		syncContext = new LoggerContext();
+		asyncContext = new LoggerContext();
+		sampledContext = new LoggerContext();
+		syncLogger = logger(syncContext, outputAppender(syncContext));
+		asyncLogger = logger(asyncContext, asyncAppender(asyncContext));
+
+		SamplingTurboFilter samplingFilter = new SamplingTurboFilter();
+		samplingFilter.setRate(100);
+		samplingFilter.setContext(sampledContext);
+		samplingFilter.start();
+		sampledContext.addTurboFilter(samplingFilter);
+		sampledLogger = logger(sampledContext, asyncAppender(sampledContext));
+
+		expiresAt = LocalDateTime.now().plusDays(30);
+	}
+
+	@TearDown
+	public void tearDown() {
+		syncContext.stop();
+		asyncContext.stop();
+		sampledContext.stop();
+	}
+
+	@Benchmark
+	public void systemOutBanner() {
+		console.println("✅ [Token Storage] Refresh Token 저장 완료 (Neon DB)");
+		console.println("   - User ID: " + USER_ID);
+		console.println("   - Provider: " + PROVIDER);
+		console.println("   - Expires At: " + expiresAt);
+	}
+
+	@Benchmark
+	public void syncJson() {
+		syncLogger.info("Refresh token saved: userId={}, provider={}, expiresAt={}", USER_ID, PROVIDER, expiresAt);
+	}
+
+	@Benchmark
+	public void asyncJson() {
+		asyncLogger.info("Refresh token saved: userId={}, provider={}, expiresAt={}", USER_ID, PROVIDER, expiresAt);
+	}
+
+	@Benchmark
+	public void asyncJsonSampled() {
+		sampledLogger.info(LogMarkers.SAMPLED, "Refresh token saved: userId={}, provider={}, expiresAt={}",
+				USER_ID, PROVIDER, expiresAt);
+	}
+
+	@Benchmark
+	public void debugDisabled() {
+		asyncLogger.debug("Refresh token saved: userId={}, provider={}, expiresAt={}", USER_ID, PROVIDER, expiresAt);
+	}
+
+	private static Logger logger(LoggerContext context, Appender<ILoggingEvent> appender) {
+		Logger logger = context.getLogger(LoggingBenchmark.class);
+		logger.setLevel(Level.INFO);
+		logger.setAdditive(false);
+		logger.addAppender(appender);
+		return logger;
+	}
+
+	private static OutputStreamAppender<ILoggingEvent> outputAppender(LoggerContext context) {
+		JsonEncoder encoder = new JsonEncoder();
+		encoder.setContext(context);
+		encoder.start();
+
+		OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+		appender.setContext(context);
+		appender.setEncoder(encoder);
+		appender.setOutputStream(OutputStream.nullOutputStream());
+		appender.start();
+		return appender;
+	}
+
+	private static AsyncAppender asyncAppender(LoggerContext context) {
+		// logback-spring.xml ASYNC_CONSOLE과 동일 (discardingThreshold는 기본값)
+		AsyncAppender appender = new AsyncAppender();
+		appender.setContext(context);
+		appender.setQueueSize(8192);
+		appender.setNeverBlock(true);
+		appender.setIncludeCallerData(false);
+		appender.setMaxFlushTime(2000);
+		appender.addAppender(outputAppender(context));
+		appender.start();
+		return appender;
+	}
+}
@@ -0,0 +1,113 @@
+package com.elianayesol.api.repository;
+
+import com.elianayesol.api.services.oauthservice.jwt.TokenDigest;
+import com.elianayesol.api.services.oauthservice.token.RefreshTokenPartitionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token 저장 벤치마크 (로그인/초): find-delete-insert vs 락 + 교체 쓰기
+ * - 로컬 Postgres가 필요함: docker run --rm -p 5432:5432 -e POSTGRES_PASSWORD=postgres postgres:16-alpine
+ * - 접속 정보: -Dbench.pg.url=jdbc:postgresql://localhost:5432/postgres -Dbench.pg.user=postgres -Dbench.pg.password=postgres
+ * - 스키마는 db/migration 마이그레이션으로 생성
+ * - users: 로그인하는 사용자 수 (작을수록 같은 (userId, provider) 경합이 커짐)
+ * - 실행 예: ./gradlew jmh -PjmhIncludes=RefreshTokenUpsertBenchmark -PjmhThreads=8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RefreshTokenUpsertBenchmark {
+
+	@Param({"10", "10000"})
+	private int users;
+
+	private NamedParameterJdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				System.getProperty("bench.pg.url", "jdbc:postgresql://localhost:5432/postgres"),
+				System.getProperty("bench.pg.user", "postgres"),
+				System.getProperty("bench.pg.password", "postgres"));
+		Flyway.configure().dataSource(dataSource).load().migrate();
+		new JdbcTemplate(dataSource).execute("TRUNCATE refresh_tokens");
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		new RefreshTokenPartitionManager(new JdbcTemplate(dataSource), transactionManager, new SimpleMeterRegistry(),
+				TimeUnit.DAYS.toMillis(30), 2, 1).maintain();
+
+		jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		jdbcTemplate.getJdbcTemplate().execute("TRUNCATE refresh_tokens");
+	}
+
+	/**
+	 * 기존 방식: 조회 → 삭제 → 삽입 (3회 왕복)
+	 * - 락이 없어 같은 사용자가 동시에 로그인하면 중복 행이 남을 수 있음
+	 */
+	@Benchmark
+	public void findDeleteInsert() {
+		MapSqlParameterSource params = loginParams();
+		transactionTemplate.executeWithoutResult(status -> {
+			List<Long> existing = jdbcTemplate.queryForList(
+					"SELECT id FROM refresh_tokens WHERE user_id = :userId AND provider = :provider",
+					params, Long.class);
+			for (Long id : existing) {
+				jdbcTemplate.update("DELETE FROM refresh_tokens WHERE id = :id", new MapSqlParameterSource("id", id));
+			}
+			jdbcTemplate.update(
+					"INSERT INTO refresh_tokens (token_hash, user_id, provider, expires_at, created_at, is_revoked) "
+					+ "VALUES (:tokenHash, :userId, :provider, :expiresAt, :createdAt, false)",
+					params);
+		});
+	}
+
+	/**
+	 * RefreshTokenRepository.upsert 와 같은 방식: advisory lock + 삭제/삽입 단일 문장 (2회 왕복)
+	 */
+	@Benchmark
+	public void upsert() {
+		MapSqlParameterSource params = loginParams();
+		params.addValue("lockKey", params.getValue("userId") + ":google");
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.queryForObject(RefreshTokenRepository.LOCK_SQL, params, Integer.class);
+			jdbcTemplate.update(RefreshTokenRepository.REPLACE_SQL, params);
+		});
+	}
+
+	private MapSqlParameterSource loginParams() {
+		LocalDateTime now = LocalDateTime.now();
+		return new MapSqlParameterSource()
+				.addValue("tokenHash", TokenDigest.sha256(UUID.randomUUID().toString()))
+				.addValue("userId", "bench-user-" + ThreadLocalRandom.current().nextInt(users))
+				.addValue("provider", "google")
+				.addValue("expiresAt", now.plusDays(30))
+				.addValue("createdAt", now);
+	}
+}
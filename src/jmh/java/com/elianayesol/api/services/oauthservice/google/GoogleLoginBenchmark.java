@@ -0,0 +1,70 @@
+package com.elianayesol.api.services.oauthservice.google;
+
+import com.elianayesol.api.services.oauthservice.google.dto.GoogleUserInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google 로그인 응답 처리 비용 측정
+ * - userInfoDeserialization: userinfo 응답 JSON → GoogleUserInfo
+ * - successRedirect: 프론트엔드 콜백 URL 생성 (토큰 URL 인코딩 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GoogleLoginBenchmark {
+
+	private static final String ACCESS_TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIxMDk4NzY1NDMyMTA5ODc2NTQzMjEiLCJlbWFpbCI6InVzZXJAZXhhbXBs"
+			+ "ZS5jb20iLCJuYW1lIjoiQmVuY2htYXJrIFVzZXIiLCJpYXQiOjE3MDAwMDAwMDAsImV4cCI6MTcwMDA4NjQwMH0."
+			+ "dGhpcy1pcy1hLWJlbmNobWFyay1zaWduYXR1cmUtbm90LWEtcmVhbC1vbmU";
+	private static final String REFRESH_TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIxMDk4NzY1NDMyMTA5ODc2NTQzMjEiLCJqdGkiOiI1ZjFkYjE3Yy0"
+			+ "yZDQxLTRiMWMtOWE2Ny0xYjJmOGUzZDRjNWEiLCJpYXQiOjE3MDAwMDAwMDAsImV4cCI6MTcwMjU5MjAwMH0."
+			+ "cmVmcmVzaC1iZW5jaG1hcmstc2lnbmF0dXJlLW5vdC1hLXJlYWwtb25l";
+
+	private static final String USER_INFO_JSON = """
+			{
+			  "id": "109876543210987654321",
+			  "email": "user@example.com",
+			  "verified_email": true,
+			  "name": "Benchmark User",
+			  "given_name": "Benchmark",
+			  "family_name": "User",
+			  "picture": "https://lh3.googleusercontent.com/a/ACg8ocJbenchmarkpicture=s96-c",
+			  "locale": "ko"
+			}
+			""";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private byte[] userInfoJson;
+	private GoogleController controller;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		userInfoJson = USER_INFO_JSON.getBytes(StandardCharsets.UTF_8);
+		controller = new GoogleController(null, null, null);
+		Field frontendUrl = GoogleController.class.getDeclaredField("frontendUrl");
+		frontendUrl.setAccessible(true);
+		frontendUrl.set(controller, "https://www.elianayesol.com");
+	}
+
+	@Benchmark
+	public GoogleUserInfo userInfoDeserialization() throws IOException {
+		return objectMapper.readValue(userInfoJson, GoogleUserInfo.class);
+	}
+
+	@Benchmark
+	public String successRedirect() {
+		return controller.buildSuccessRedirect(ACCESS_TOKEN, REFRESH_TOKEN);
+	}
+}
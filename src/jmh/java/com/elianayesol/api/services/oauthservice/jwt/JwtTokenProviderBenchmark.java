@@ -0,0 +1,76 @@
+package com.elianayesol.api.services.oauthservice.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 토큰 1개당 비용 측정
+ * - legacy*: 매 호출마다 파서를 새로 만드는 기존 방식
+ * - 나머지: 시작 시 만든 파서/알고리즘을 재사용하는 현재 방식
+ * 스레드 수는 -PjmhThreads=1|8|32 로 지정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+	static final String SECRET = "benchmark-secret-key-at-least-256-bits-long-for-hs256-algorithm-benchmark-only";
+
+	private JwtTokenProvider provider;
+	private SecretKey legacyKey;
+	private Map<String, Object> claims;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecret(SECRET);
+		properties.setExpiration(86400000L);
+		properties.setRefreshExpiration(2592000000L);
+
+		provider = new JwtTokenProvider(properties);
+		legacyKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+		claims = Map.of("email", "user@example.com", "name", "Benchmark User");
+		token = provider.generateAccessToken("1234567890", claims);
+	}
+
+	@Benchmark
+	public Claims legacyValidateAndReadClaims() {
+		// 기존: validateToken + getClaimsFromToken 각각 파서를 새로 만들어 두 번 파싱
+		Jwts.parser().verifyWith(legacyKey).build().parseSignedClaims(token);
+		return Jwts.parser().verifyWith(legacyKey).build().parseSignedClaims(token).getPayload();
+	}
+
+	@Benchmark
+	public JwtValidationResult parseAndValidate() {
+		return provider.parseAndValidate(token);
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return provider.validateToken(token);
+	}
+
+	@Benchmark
+	public String generateAccessToken() {
+		return provider.generateAccessToken("1234567890", claims);
+	}
+
+	@Benchmark
+	public String generateRefreshToken() {
+		return provider.generateRefreshToken("1234567890");
+	}
+}
@@ -0,0 +1,91 @@
+package com.elianayesol.api.services.oauthservice.kakao;
+
+import com.elianayesol.api.services.oauthservice.kakao.dto.KakaoUserInfo;
+import com.elianayesol.api.services.oauthservice.login.OAuthLoginResult;
+import com.elianayesol.api.services.oauthservice.login.OAuthUserProfile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kakao 로그인 응답 처리 비용 측정
+ * - userInfoDeserialization: /v2/user/me 응답 JSON → KakaoUserInfo
+ * - successRedirect: 프론트엔드 콜백 URL 생성 (UriComponentsBuilder + 토큰/사용자 정보 URL 인코딩)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KakaoLoginBenchmark {
+
+	private static final String ACCESS_TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIzMTQxNTkyNjUzIiwiZW1haWwiOiJ1c2VyQGV4YW1wbGUuY29tIiwi"
+			+ "bmFtZSI6IuuypOy5mOuniO2BrCIsImlhdCI6MTcwMDAwMDAwMCwiZXhwIjoxNzAwMDg2NDAwfQ."
+			+ "dGhpcy1pcy1hLWJlbmNobWFyay1zaWduYXR1cmUtbm90LWEtcmVhbC1vbmU";
+	private static final String REFRESH_TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIzMTQxNTkyNjUzIiwianRpIjoiNWYxZGIxN2MtMmQ0MS00YjFjLTlh"
+			+ "NjctMWIyZjhlM2Q0YzVhIiwiaWF0IjoxNzAwMDAwMDAwLCJleHAiOjE3MDI1OTIwMDB9."
+			+ "cmVmcmVzaC1iZW5jaG1hcmstc2lnbmF0dXJlLW5vdC1hLXJlYWwtb25l";
+
+	private static final String USER_INFO_JSON = """
+			{
+			  "id": 3141592653,
+			  "connected_at": "2024-01-01T00:00:00Z",
+			  "kakao_account": {
+			    "profile_nickname_needs_agreement": false,
+			    "profile_image_needs_agreement": false,
+			    "profile": {
+			      "nickname": "벤치마크",
+			      "thumbnail_image_url": "http://k.kakaocdn.net/dn/benchmark/img_110x110.jpg",
+			      "profile_image_url": "http://k.kakaocdn.net/dn/benchmark/img_640x640.jpg",
+			      "is_default_image": false
+			    },
+			    "has_email": true,
+			    "email_needs_agreement": false,
+			    "is_email_valid": true,
+			    "is_email_verified": true,
+			    "email": "user@example.com"
+			  }
+			}
+			""";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private byte[] userInfoJson;
+	private KakaoController controller;
+	private OAuthLoginResult loginResult;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		userInfoJson = USER_INFO_JSON.getBytes(StandardCharsets.UTF_8);
+		controller = new KakaoController(null, null);
+		Field frontendUrl = KakaoController.class.getDeclaredField("frontendUrl");
+		frontendUrl.setAccessible(true);
+		frontendUrl.set(controller, "https://www.elianayesol.com");
+
+		OAuthUserProfile profile = OAuthUserProfile.builder()
+				.provider("kakao")
+				.id("3141592653")
+				.email("user@example.com")
+				.nickname("벤치마크")
+				.profileImage("http://k.kakaocdn.net/dn/benchmark/img_640x640.jpg")
+				.build();
+		loginResult = new OAuthLoginResult(profile, ACCESS_TOKEN, REFRESH_TOKEN);
+	}
+
+	@Benchmark
+	public KakaoUserInfo userInfoDeserialization() throws IOException {
+		return objectMapper.readValue(userInfoJson, KakaoUserInfo.class);
+	}
+
+	@Benchmark
+	public String successRedirect() {
+		return controller.buildSuccessRedirect(loginResult);
+	}
+}
@@ -0,0 +1,83 @@
+package com.elianayesol.api.services.oauthservice.naver;
+
+import com.elianayesol.api.services.oauthservice.login.OAuthLoginResult;
+import com.elianayesol.api.services.oauthservice.login.OAuthUserProfile;
+import com.elianayesol.api.services.oauthservice.naver.dto.NaverUserInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Naver 로그인 응답 처리 비용 측정
+ * - userInfoDeserialization: /v1/nid/me 응답 JSON → NaverUserInfo
+ * - successRedirect: 프론트엔드 콜백 URL 생성 (UriComponentsBuilder + 토큰/사용자 정보 URL 인코딩)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NaverLoginBenchmark {
+
+	private static final String ACCESS_TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIzMjc0Mjc3NiIsImVtYWlsIjoidXNlckBleGFtcGxlLmNvbSIs"
+			+ "Im5hbWUiOiLrsqTsuZjrp4jtgawiLCJpYXQiOjE3MDAwMDAwMDAsImV4cCI6MTcwMDA4NjQwMH0."
+			+ "dGhpcy1pcy1hLWJlbmNobWFyay1zaWduYXR1cmUtbm90LWEtcmVhbC1vbmU";
+	private static final String REFRESH_TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJzdWIiOiIzMjc0Mjc3NiIsImp0aSI6IjVmMWRiMTdjLTJkNDEtNGIxYy05"
+			+ "YTY3LTFiMmY4ZTNkNGM1YSIsImlhdCI6MTcwMDAwMDAwMCwiZXhwIjoxNzAyNTkyMDAwfQ."
+			+ "cmVmcmVzaC1iZW5jaG1hcmstc2lnbmF0dXJlLW5vdC1hLXJlYWwtb25l";
+
+	private static final String USER_INFO_JSON = """
+			{
+			  "resultcode": "00",
+			  "message": "success",
+			  "response": {
+			    "id": "32742776-benchmark-naver-id-abcdefghijklmnop",
+			    "email": "user@example.com",
+			    "nickname": "벤치마크",
+			    "name": "벤치마크 사용자",
+			    "profile_image": "https://ssl.pstatic.net/static/pwe/address/img_profile.png"
+			  }
+			}
+			""";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private byte[] userInfoJson;
+	private NaverController controller;
+	private OAuthLoginResult loginResult;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		userInfoJson = USER_INFO_JSON.getBytes(StandardCharsets.UTF_8);
+		controller = new NaverController(null, null);
+		Field frontendUrl = NaverController.class.getDeclaredField("frontendUrl");
+		frontendUrl.setAccessible(true);
+		frontendUrl.set(controller, "https://www.elianayesol.com");
+
+		OAuthUserProfile profile = OAuthUserProfile.builder()
+				.provider("naver")
+				.id("32742776-benchmark-naver-id-abcdefghijklmnop")
+				.email("user@example.com")
+				.name("벤치마크 사용자")
+				.nickname("벤치마크")
+				.build();
+		loginResult = new OAuthLoginResult(profile, ACCESS_TOKEN, REFRESH_TOKEN);
+	}
+
+	@Benchmark
+	public NaverUserInfo userInfoDeserialization() throws IOException {
+		return objectMapper.readValue(userInfoJson, NaverUserInfo.class);
+	}
+
+	@Benchmark
+	public String successRedirect() {
+		return controller.buildSuccessRedirect(loginResult);
+	}
+}
@@ -0,0 +1,216 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크용 인프로세스 Redis 대역 (RESP2, loopback)
+ * - TokenStorageService가 쓰는 명령만 지원: SET(EX/PX/NX/XX), SETEX, GET, GETDEL, DEL, EXISTS, PUBLISH
+ * - 연결 시 Lettuce 핸드셰이크: HELLO는 오류로 응답해 RESP2로 내려가게 하고, CLIENT/SELECT/PING은 OK
+ * - TTL은 저장하지 않는다 (벤치마크 수명 동안 만료될 일이 없음)
+ * - 서버 처리 비용은 실제 Redis와 다르므로 클라이언트 측 비용(직렬화, 왕복 횟수, 파이프라인) 비교용
+ */
+final class LocalRedisStandIn implements AutoCloseable {
+
+	private static final byte[] OK = "+OK\r\n".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] PONG = "+PONG\r\n".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] NULL_BULK = "$-1\r\n".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+	private final ConcurrentHashMap<String, byte[]> store = new ConcurrentHashMap<>();
+	private final List<Socket> clients = new ArrayList<>();
+	private final ServerSocket serverSocket;
+	private volatile boolean running = true;
+
+	LocalRedisStandIn() throws IOException {
+		serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		Thread.ofPlatform().name("redis-stand-in-accept").daemon(true).start(this::acceptLoop);
+	}
+
+	int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	@Override
+	public void close() throws IOException {
+		running = false;
+		serverSocket.close();
+		synchronized (clients) {
+			for (Socket client : clients) {
+				client.close();
+			}
+		}
+	}
+
+	private void acceptLoop() {
+		int connection = 0;
+		while (running) {
+			try {
+				Socket client = serverSocket.accept();
+				client.setTcpNoDelay(true);
+				synchronized (clients) {
+					clients.add(client);
+				}
+				Thread.ofPlatform().name("redis-stand-in-" + connection++).daemon(true).start(() -> serve(client));
+			} catch (IOException e) {
+				// close()로 소켓이 닫히면 종료
+			}
+		}
+	}
+
+	private void serve(Socket client) {
+		try (client) {
+			InputStream in = new BufferedInputStream(client.getInputStream());
+			OutputStream out = new BufferedOutputStream(client.getOutputStream());
+			while (running) {
+				List<byte[]> command = readCommand(in);
+				if (command == null) {
+					return;
+				}
+				execute(command, out);
+				// 파이프라인으로 들어온 명령은 모아서 한 번에 응답
+				if (in.available() == 0) {
+					out.flush();
+				}
+			}
+		} catch (IOException e) {
+			// 클라이언트 연결 종료
+		}
+	}
+
+	private void execute(List<byte[]> command, OutputStream out) throws IOException {
+		String name = new String(command.get(0), StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT);
+		switch (name) {
+			case "PING" -> out.write(PONG);
+			case "CLIENT", "SELECT", "QUIT" -> out.write(OK);
+			case "SET" -> set(command, out);
+			case "SETEX", "PSETEX" -> {
+				store.put(key(command, 1), command.get(3));
+				out.write(OK);
+			}
+			case "GET" -> writeBulk(out, store.get(key(command, 1)));
+			case "GETDEL" -> writeBulk(out, store.remove(key(command, 1)));
+			case "DEL" -> {
+				long removed = 0;
+				for (int i = 1; i < command.size(); i++) {
+					removed += store.remove(key(command, i)) != null ? 1 : 0;
+				}
+				writeInteger(out, removed);
+			}
+			case "EXISTS" -> {
+				long found = 0;
+				for (int i = 1; i < command.size(); i++) {
+					found += store.containsKey(key(command, i)) ? 1 : 0;
+				}
+				writeInteger(out, found);
+			}
+			case "PUBLISH" -> writeInteger(out, 0);
+			default -> writeError(out, "ERR unknown command '" + name + "'");
+		}
+	}
+
+	private void set(List<byte[]> command, OutputStream out) throws IOException {
+		String key = key(command, 1);
+		byte[] value = command.get(2);
+		boolean nx = false;
+		boolean xx = false;
+		for (int i = 3; i < command.size(); i++) {
+			String option = new String(command.get(i), StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT);
+			if (option.equals("NX")) {
+				nx = true;
+			} else if (option.equals("XX")) {
+				xx = true;
+			}
+		}
+		if (nx) {
+			writeIfApplied(out, store.putIfAbsent(key, value) == null);
+		} else if (xx) {
+			writeIfApplied(out, store.replace(key, value) != null);
+		} else {
+			store.put(key, value);
+			out.write(OK);
+		}
+	}
+
+	private static void writeIfApplied(OutputStream out, boolean applied) throws IOException {
+		out.write(applied ? OK : NULL_BULK);
+	}
+
+	private static String key(List<byte[]> command, int index) {
+		return new String(command.get(index), StandardCharsets.ISO_8859_1);
+	}
+
+	private static void writeBulk(OutputStream out, byte[] value) throws IOException {
+		if (value == null) {
+			out.write(NULL_BULK);
+			return;
+		}
+		out.write(('$' + Integer.toString(value.length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+		out.write(value);
+		out.write(CRLF);
+	}
+
+	private static void writeInteger(OutputStream out, long value) throws IOException {
+		out.write((':' + Long.toString(value) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+	}
+
+	private static void writeError(OutputStream out, String message) throws IOException {
+		out.write(('-' + message + "\r\n").getBytes(StandardCharsets.US_ASCII));
+	}
+
+	/**
+	 * RESP 배열(*N\r\n$len\r\n...) 한 개를 읽는다. 연결이 닫혔으면 null
+	 */
+	private static List<byte[]> readCommand(InputStream in) throws IOException {
+		int first = in.read();
+		if (first == -1) {
+			return null;
+		}
+		if (first != '*') {
+			throw new IOException("Unsupported RESP type: " + (char) first);
+		}
+		int count = (int) readLong(in);
+		List<byte[]> parts = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			if (in.read() != '$') {
+				throw new IOException("Expected bulk string");
+			}
+			int length = (int) readLong(in);
+			parts.add(in.readNBytes(length));
+			if (in.read() != '\r' || in.read() != '\n') {
+				throw new IOException("Malformed bulk string");
+			}
+		}
+		return parts;
+	}
+
+	private static long readLong(InputStream in) throws IOException {
+		long value = 0;
+		boolean negative = false;
+		int c;
+		while ((c = in.read()) != '\r') {
+			if (c == -1) {
+				throw new EOFException();
+			}
+			if (c == '-') {
+				negative = true;
+			} else {
+				value = value * 10 + (c - '0');
+			}
+		}
+		in.read(); // \n
+		return negative ? -value : value;
+	}
+}
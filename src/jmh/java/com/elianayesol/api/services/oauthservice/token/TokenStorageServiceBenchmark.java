@@ -0,0 +1,101 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenStorageService Redis 경로 벤치마크 (단건 왕복 vs 파이프라인)
+ * - 기본: 인프로세스 Redis 대역(LocalRedisStandIn)을 띄워 사용 - 외부 의존 없이 빌드 머신에서 실행 가능
+ * - 실제 Redis로 측정: -Dbench.redis.host=localhost -Dbench.redis.port=6379
+ *   (docker run --rm -p 6379:6379 redis:7-alpine)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenStorageServiceBenchmark {
+
+	@Param({"1", "10", "100"})
+	private int batchSize;
+
+	private LocalRedisStandIn standIn;
+	private LettuceConnectionFactory connectionFactory;
+	private TokenStorageService tokenStorageService;
+	private Map<String, String> accessTokens;
+	private List<String> userIds;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		String host = System.getProperty("bench.redis.host");
+		int port = Integer.getInteger("bench.redis.port", 6379);
+		if (host == null) {
+			standIn = new LocalRedisStandIn();
+			host = "127.0.0.1";
+			port = standIn.getPort();
+		}
+		connectionFactory = new LettuceConnectionFactory(host, port);
+		connectionFactory.afterPropertiesSet();
+		connectionFactory.start();
+
+		RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(new StringRedisSerializer());
+		redisTemplate.afterPropertiesSet();
+
+		tokenStorageService = new TokenStorageService(redisTemplate, null, new SimpleAsyncTaskExecutor());
+
+		accessTokens = new LinkedHashMap<>();
+		for (int i = 0; i < batchSize; i++) {
+			accessTokens.put("bench-user-" + i, "bench-access-token-" + i);
+		}
+		userIds = new ArrayList<>(accessTokens.keySet());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		tokenStorageService.deleteAccessTokens(userIds);
+		connectionFactory.destroy();
+		if (standIn != null) {
+			standIn.close();
+		}
+	}
+
+	@Benchmark
+	public void saveAccessTokenOneByOne() {
+		accessTokens.forEach(tokenStorageService::saveAccessToken);
+	}
+
+	@Benchmark
+	public void saveAccessTokensPipelined() {
+		tokenStorageService.saveAccessTokens(accessTokens);
+	}
+
+	@Benchmark
+	public void deleteAccessTokenOneByOne() {
+		userIds.forEach(tokenStorageService::deleteAccessToken);
+	}
+
+	@Benchmark
+	public void deleteAccessTokensPipelined() {
+		tokenStorageService.deleteAccessTokens(userIds);
+	}
+}
@@ -0,0 +1,217 @@
+package com.elianayesol.api.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 OAuth 제공자 시뮬레이터 (Google, Kakao, Naver의 token / user-info 응답 흉내)
+ * - 경로: /google/token, /google/oauth2/v2/userinfo, /kakao/oauth/token, /kakao/v2/user/me,
+ *         /naver/oauth2.0/token, /naver/v1/nid/me
+ * - 응답마다 latency + [0, jitter) 만큼 지연, error-rate 확률로 500 응답
+ * - 발급한 access token에 사용자 키를 담아 user-info에서 같은 사용자를 돌려준다
+ *   (users > 0 이면 인가 코드를 users명으로 나눠 매핑 → 재로그인(upsert) 경로, 0이면 코드마다 새 사용자)
+ *
+ * 단독 실행: ./gradlew fakeProviders -PfakeProvidersArgs="--port=9090 --latency-ms=80 --jitter-ms=40 --error-rate=0.01"
+ * 출력되는 환경 변수로 API 서버를 띄우면 모든 제공자 호출이 이 서버로 간다.
+ * LoginLoadTest --embedded-providers=true 로 부하 도구와 같은 JVM에서 띄울 수도 있다.
+ */
+public class FakeOAuthProviderServer implements AutoCloseable {
+
+	private static final String TOKEN_PREFIX = "sim-";
+
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final long latencyNanos;
+	private final long jitterNanos;
+	private final double errorRate;
+	private final int users;
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong injectedErrors = new AtomicLong();
+
+	public FakeOAuthProviderServer(int port, Duration latency, Duration jitter, double errorRate, int users)
+			throws IOException {
+		this.latencyNanos = latency.toNanos();
+		this.jitterNanos = jitter.toNanos();
+		this.errorRate = errorRate;
+		this.users = users;
+		this.server = HttpServer.create(new InetSocketAddress(port), 1024);
+		server.setExecutor(executor);
+		server.createContext("/google/token", exchange -> handleToken(exchange, "google"));
+		server.createContext("/google/oauth2/v2/userinfo", exchange -> handleUserInfo(exchange, "google"));
+		server.createContext("/kakao/oauth/token", exchange -> handleToken(exchange, "kakao"));
+		server.createContext("/kakao/v2/user/me", exchange -> handleUserInfo(exchange, "kakao"));
+		server.createContext("/naver/oauth2.0/token", exchange -> handleToken(exchange, "naver"));
+		server.createContext("/naver/v1/nid/me", exchange -> handleUserInfo(exchange, "naver"));
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = LoadTestSupport.parseOptions(args);
+		FakeOAuthProviderServer server = fromOptions(options, 9090);
+		server.start();
+		System.out.println("Fake OAuth providers listening on " + server.getBaseUrl());
+		System.out.println("Start the API server with:");
+		server.environment().forEach((name, value) -> System.out.println("  " + name + "=" + value));
+		Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+		Thread.currentThread().join();
+	}
+
+	/**
+	 * --port, --latency-ms, --jitter-ms, --error-rate, --users 옵션으로 생성
+	 */
+	static FakeOAuthProviderServer fromOptions(Map<String, String> options, int defaultPort) throws IOException {
+		return new FakeOAuthProviderServer(
+				Integer.parseInt(options.getOrDefault("port", Integer.toString(defaultPort))),
+				Duration.ofMillis(Long.parseLong(options.getOrDefault("latency-ms", "50"))),
+				Duration.ofMillis(Long.parseLong(options.getOrDefault("jitter-ms", "0"))),
+				Double.parseDouble(options.getOrDefault("error-rate", "0")),
+				Integer.parseInt(options.getOrDefault("users", "0")));
+	}
+
+	public void start() {
+		server.start();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.close();
+	}
+
+	public String getBaseUrl() {
+		return "http://localhost:" + server.getAddress().getPort();
+	}
+
+	public long getRequestCount() {
+		return requests.get();
+	}
+
+	public long getInjectedErrorCount() {
+		return injectedErrors.get();
+	}
+
+	/**
+	 * API 서버가 이 시뮬레이터를 쓰도록 하는 환경 변수 (google/kakao/naver.token-uri, user-info-uri)
+	 */
+	public Map<String, String> environment() {
+		String baseUrl = getBaseUrl();
+		Map<String, String> environment = new LinkedHashMap<>();
+		environment.put("GOOGLE_TOKEN_URI", baseUrl + "/google/token");
+		environment.put("GOOGLE_USER_INFO_URI", baseUrl + "/google/oauth2/v2/userinfo");
+		environment.put("KAKAO_TOKEN_URI", baseUrl + "/kakao/oauth/token");
+		environment.put("KAKAO_USER_INFO_URI", baseUrl + "/kakao/v2/user/me");
+		environment.put("NAVER_TOKEN_URI", baseUrl + "/naver/oauth2.0/token");
+		environment.put("NAVER_USER_INFO_URI", baseUrl + "/naver/v1/nid/me");
+		return environment;
+	}
+
+	private void handleToken(HttpExchange exchange, String provider) throws IOException {
+		try (exchange) {
+			if (!simulate(exchange)) {
+				return;
+			}
+			String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+			String code = formValue(body, "code");
+			if (code == null || code.isEmpty()) {
+				respond(exchange, 400, "{\"error\":\"invalid_request\",\"error_description\":\"code is required\"}");
+				return;
+			}
+			String accessToken = TOKEN_PREFIX + provider + "-" + userKey(code);
+			respond(exchange, 200, "{\"access_token\":\"" + accessToken + "\","
+					+ "\"token_type\":\"bearer\","
+					+ "\"refresh_token\":\"" + accessToken + "-refresh\","
+					+ "\"expires_in\":3599,"
+					+ "\"scope\":\"profile email\"}");
+		}
+	}
+
+	private void handleUserInfo(HttpExchange exchange, String provider) throws IOException {
+		try (exchange) {
+			if (!simulate(exchange)) {
+				return;
+			}
+			String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+			String prefix = "Bearer " + TOKEN_PREFIX + provider + "-";
+			if (authorization == null || !authorization.startsWith(prefix)) {
+				respond(exchange, 401, "{\"error\":\"invalid_token\"}");
+				return;
+			}
+			long key = Long.parseLong(authorization.substring(prefix.length()));
+			String email = "user" + key + "@" + provider + ".loadtest";
+			String body = switch (provider) {
+				case "google" -> "{\"id\":\"" + (100000000000000000L + key) + "\","
+						+ "\"email\":\"" + email + "\",\"verified_email\":true,"
+						+ "\"name\":\"Load Test " + key + "\",\"given_name\":\"Load\",\"family_name\":\"Test\","
+						+ "\"picture\":\"https://example.com/avatar/" + key + ".png\",\"locale\":\"ko\"}";
+				case "kakao" -> "{\"id\":" + (1000000000L + key) + ","
+						+ "\"connected_at\":\"2024-01-01T00:00:00Z\","
+						+ "\"kakao_account\":{\"profile\":{\"nickname\":\"loadtest" + key + "\","
+						+ "\"profile_image_url\":\"https://example.com/avatar/" + key + ".png\",\"is_default_image\":false},"
+						+ "\"has_email\":true,\"is_email_valid\":true,\"is_email_verified\":true,"
+						+ "\"email\":\"" + email + "\"}}";
+				default -> "{\"resultcode\":\"00\",\"message\":\"success\",\"response\":{"
+						+ "\"id\":\"naver-" + key + "\",\"email\":\"" + email + "\","
+						+ "\"nickname\":\"loadtest" + key + "\",\"name\":\"Load Test " + key + "\"}}";
+			};
+			respond(exchange, 200, body);
+		}
+	}
+
+	/**
+	 * 지연과 오류 주입. 오류 응답을 보냈으면 false
+	 */
+	private boolean simulate(HttpExchange exchange) throws IOException {
+		requests.incrementAndGet();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long delay = latencyNanos + (jitterNanos > 0 ? random.nextLong(jitterNanos) : 0);
+		if (delay > 0) {
+			try {
+				Thread.sleep(Duration.ofNanos(delay));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		if (errorRate > 0 && random.nextDouble() < errorRate) {
+			injectedErrors.incrementAndGet();
+			respond(exchange, 500, "{\"error\":\"server_error\",\"error_description\":\"injected by simulator\"}");
+			return false;
+		}
+		return true;
+	}
+
+	private long userKey(String code) {
+		long hash = code.hashCode() & 0x7fffffffL;
+		return users > 0 ? hash % users : hash;
+	}
+
+	private static String formValue(String body, String name) {
+		for (String pair : body.split("&")) {
+			int eq = pair.indexOf('=');
+			if (eq > 0 && pair.substring(0, eq).equals(name)) {
+				return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+			}
+		}
+		return null;
+	}
+
+	private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+		byte[] body = json.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
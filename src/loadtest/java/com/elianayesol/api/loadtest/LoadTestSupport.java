@@ -0,0 +1,32 @@
+package com.elianayesol.api.loadtest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 도구 공통 (--key=value 인자, 백분위 계산)
+ */
+final class LoadTestSupport {
+
+	private LoadTestSupport() {
+	}
+
+	static Map<String, String> parseOptions(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			if (arg.startsWith("--") && arg.contains("=")) {
+				options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+			}
+		}
+		return options;
+	}
+
+	static double percentileMillis(List<Long> sortedNanos, double percentile) {
+		if (sortedNanos.isEmpty()) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+		return sortedNanos.get(Math.max(0, index)) / 1_000_000.0;
+	}
+}
@@ -0,0 +1,121 @@
+package com.elianayesol.api.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 동시 로그인 처리량 측정 도구
+ * - 단계별 동시 사용자 수(levels)만큼 OAuth 콜백(/api/oauth/{provider}/callback)을 계속 호출
+ * - 단계마다 처리량, p50/p99 지연, 최대 동시 처리 중 요청 수, 최대 힙 사용량(/actuator/metrics)을 출력
+ *
+ * 플랫폼 스레드 모드와 가상 스레드 모드(VIRTUAL_THREADS_ENABLED=true)로 서버를 각각 띄워 같은 인자로 실행해 비교한다.
+ * 제공자 호출 지연을 재현하려면 FakeOAuthProviderServer를 띄우고 출력되는 환경 변수로 서버를 실행한다.
+ *
+ * 인자: --base-url=http://localhost:8080 --providers=kakao,naver --levels=50,200,800 --duration-seconds=20
+ */
+public class LoginConcurrencyProbe {
+
+	private static final Pattern METRIC_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.Ee+-]+)");
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = LoadTestSupport.parseOptions(args);
+		String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+		String[] providers = options.getOrDefault("providers", "kakao,naver").split(",");
+		int durationSeconds = Integer.parseInt(options.getOrDefault("duration-seconds", "20"));
+
+		HttpClient client = HttpClient.newBuilder()
+				.followRedirects(HttpClient.Redirect.NEVER)
+				.connectTimeout(Duration.ofSeconds(5))
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.build();
+
+		System.out.printf("%-8s %10s %10s %10s %10s %12s %12s%n",
+				"level", "requests", "req/s", "p50(ms)", "p99(ms)", "maxInFlight", "maxHeap(MB)");
+		for (String level : options.getOrDefault("levels", "50,200,800").split(",")) {
+			runLevel(client, baseUrl, providers, Integer.parseInt(level.trim()), durationSeconds);
+		}
+	}
+
+	private static void runLevel(HttpClient client, String baseUrl, String[] providers, int concurrency,
+			int durationSeconds) throws Exception {
+		long deadline = System.nanoTime() + Duration.ofSeconds(durationSeconds).toNanos();
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		AtomicLong maxHeapBytes = new AtomicLong();
+		List<List<Long>> latencies = new ArrayList<>();
+
+		try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			workers.submit(() -> sampleHeap(client, baseUrl, deadline, maxHeapBytes));
+			for (int worker = 0; worker < concurrency; worker++) {
+				List<Long> workerLatencies = new ArrayList<>();
+				latencies.add(workerLatencies);
+				String provider = providers[worker % providers.length].trim();
+				int workerId = worker;
+				workers.submit(() -> {
+					int sequence = 0;
+					while (System.nanoTime() < deadline) {
+						URI uri = URI.create(baseUrl + "/api/oauth/" + provider + "/callback?code=loadtest-"
+								+ workerId + "-" + sequence++ + "&state=loadtest");
+						maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+						long start = System.nanoTime();
+						try {
+							client.send(HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build(),
+									HttpResponse.BodyHandlers.discarding());
+							workerLatencies.add(System.nanoTime() - start);
+						} catch (Exception e) {
+							// 연결 실패 등은 지연 통계에서 제외
+						} finally {
+							inFlight.decrementAndGet();
+						}
+					}
+					return null;
+				});
+			}
+		}
+
+		List<Long> all = new ArrayList<>();
+		latencies.forEach(all::addAll);
+		all.sort(null);
+		System.out.printf("%-8d %10d %10.1f %10.1f %10.1f %12d %12.1f%n",
+				concurrency,
+				all.size(),
+				all.size() / (double) durationSeconds,
+				LoadTestSupport.percentileMillis(all, 0.50),
+				LoadTestSupport.percentileMillis(all, 0.99),
+				maxInFlight.get(),
+				maxHeapBytes.get() / (1024.0 * 1024.0));
+	}
+
+	private static Void sampleHeap(HttpClient client, String baseUrl, long deadline, AtomicLong maxHeapBytes) {
+		URI uri = URI.create(baseUrl + "/actuator/metrics/jvm.memory.used?tag=area:heap");
+		while (System.nanoTime() < deadline) {
+			try {
+				String body = client.send(HttpRequest.newBuilder(uri).GET().build(),
+						HttpResponse.BodyHandlers.ofString()).body();
+				Matcher matcher = METRIC_VALUE.matcher(body);
+				if (matcher.find()) {
+					maxHeapBytes.accumulateAndGet((long) Double.parseDouble(matcher.group(1)), Math::max);
+				}
+				Thread.sleep(500);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			} catch (Exception e) {
+				// 지표 조회 실패는 무시하고 다음 주기에 재시도
+			}
+		}
+		return null;
+	}
+}
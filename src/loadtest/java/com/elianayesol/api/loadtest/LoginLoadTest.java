@@ -0,0 +1,190 @@
+package com.elianayesol.api.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 목표 RPS 기반 로그인 부하 테스트 (open model, k6 constant-arrival-rate 방식)
+ * - 단계별 목표 RPS로 /api/oauth/{provider}/callback 을 일정 간격으로 발사 (응답을 기다리지 않음)
+ * - 지연은 "예정된 발사 시각"부터 측정 (서버가 밀려도 요청 간격이 늘어나지 않으므로 coordinated omission 없음)
+ * - 성공: 3xx + Location에 success=true, 그 외 응답/예외는 실패
+ * - 동시 진행 요청이 max-in-flight를 넘으면 발사하지 않고 dropped로 센다
+ * - 단계마다 달성 RPS, 성공/실패/drop 수, p50/p90/p99/p99.9/max 지연을 출력 (--report=파일 이면 JSON도 저장)
+ *
+ * 제공자 호출은 FakeOAuthProviderServer로 대신한다.
+ * --embedded-providers=true 이면 이 JVM에서 시뮬레이터를 띄우고 (--provider-port, --latency-ms, --jitter-ms,
+ * --error-rate, --users), API 서버는 출력되는 환경 변수로 실행해 둔다.
+ *
+ * 인자: --base-url=http://localhost:8080 --providers=google,kakao,naver --rps=50,100,200
+ *       --duration-seconds=30 --warmup-seconds=5 --max-in-flight=2000 --report=build/reports/loadtest.json
+ */
+public class LoginLoadTest {
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = LoadTestSupport.parseOptions(args);
+		String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+		String[] providers = options.getOrDefault("providers", "google,kakao,naver").split(",");
+		int durationSeconds = Integer.parseInt(options.getOrDefault("duration-seconds", "30"));
+		int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "5"));
+		int maxInFlight = Integer.parseInt(options.getOrDefault("max-in-flight", "2000"));
+
+		FakeOAuthProviderServer providerServer = null;
+		if (Boolean.parseBoolean(options.getOrDefault("embedded-providers", "false"))) {
+			Map<String, String> providerOptions = new HashMap<>(options);
+			providerOptions.put("port", options.getOrDefault("provider-port", "9090"));
+			providerServer = FakeOAuthProviderServer.fromOptions(providerOptions, 9090);
+			providerServer.start();
+			System.out.println("Embedded fake providers on " + providerServer.getBaseUrl()
+					+ " (API server must be started with these variables):");
+			providerServer.environment().forEach((name, value) -> System.out.println("  " + name + "=" + value));
+		}
+
+		HttpClient client = HttpClient.newBuilder()
+				.followRedirects(HttpClient.Redirect.NEVER)
+				.connectTimeout(Duration.ofSeconds(5))
+				.executor(Executors.newVirtualThreadPerTaskExecutor())
+				.build();
+
+		try {
+			if (warmupSeconds > 0) {
+				int warmupRps = Integer.parseInt(options.getOrDefault("rps", "50").split(",")[0].trim());
+				runStage(client, baseUrl, providers, warmupRps, warmupSeconds, maxInFlight, "warmup");
+			}
+
+			System.out.printf("%-8s %9s %9s %9s %8s %8s %9s %9s %9s %9s %9s%n",
+					"rps", "achieved", "ok", "failed", "dropped", "p50(ms)", "p90(ms)", "p99(ms)",
+					"p99.9(ms)", "max(ms)", "inFlight");
+			List<StageResult> results = new ArrayList<>();
+			for (String rps : options.getOrDefault("rps", "50,100,200").split(",")) {
+				StageResult result = runStage(client, baseUrl, providers, Integer.parseInt(rps.trim()),
+						durationSeconds, maxInFlight, "stage");
+				results.add(result);
+				System.out.println(result.toRow());
+			}
+
+			String report = options.get("report");
+			if (report != null) {
+				writeReport(Path.of(report), results);
+				System.out.println("Report written to " + report);
+			}
+			if (providerServer != null) {
+				System.out.printf("Fake providers served %d requests (%d injected errors)%n",
+						providerServer.getRequestCount(), providerServer.getInjectedErrorCount());
+			}
+		} finally {
+			if (providerServer != null) {
+				providerServer.close();
+			}
+		}
+	}
+
+	private static StageResult runStage(HttpClient client, String baseUrl, String[] providers, int rps,
+			int durationSeconds, int maxInFlight, String label) {
+		long intervalNanos = 1_000_000_000L / rps;
+		long total = (long) rps * durationSeconds;
+		ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+		LongAdder ok = new LongAdder();
+		LongAdder failed = new LongAdder();
+		long dropped = 0;
+		AtomicInteger inFlight = new AtomicInteger();
+		int peakInFlight = 0;
+		// 단계가 끝날 때 아직 진행 중인 요청을 기다린다
+		Phaser outstanding = new Phaser(1);
+
+		long start = System.nanoTime();
+		for (long i = 0; i < total; i++) {
+			long scheduledAt = start + i * intervalNanos;
+			long wait = scheduledAt - System.nanoTime();
+			if (wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			int current = inFlight.get();
+			if (current >= maxInFlight) {
+				dropped++;
+				continue;
+			}
+			peakInFlight = Math.max(peakInFlight, current + 1);
+			inFlight.incrementAndGet();
+			outstanding.register();
+
+			String provider = providers[(int) (i % providers.length)].trim();
+			URI uri = URI.create(baseUrl + "/api/oauth/" + provider + "/callback?code=" + label + "-" + rps + "-" + i
+					+ "-" + System.nanoTime() + "&state=loadtest");
+			HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+			client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+					.whenComplete((response, error) -> {
+						latencies.add(System.nanoTime() - scheduledAt);
+						if (error == null && isSuccessfulLogin(response)) {
+							ok.increment();
+						} else {
+							failed.increment();
+						}
+						inFlight.decrementAndGet();
+						outstanding.arriveAndDeregister();
+					});
+		}
+		outstanding.arriveAndAwaitAdvance();
+		double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+		List<Long> sorted = new ArrayList<>(latencies);
+		sorted.sort(null);
+		return new StageResult(rps, (ok.sum() + failed.sum()) / elapsedSeconds, ok.sum(), failed.sum(), dropped,
+				LoadTestSupport.percentileMillis(sorted, 0.50),
+				LoadTestSupport.percentileMillis(sorted, 0.90),
+				LoadTestSupport.percentileMillis(sorted, 0.99),
+				LoadTestSupport.percentileMillis(sorted, 0.999),
+				LoadTestSupport.percentileMillis(sorted, 1.0),
+				peakInFlight);
+	}
+
+	private static boolean isSuccessfulLogin(HttpResponse<?> response) {
+		int status = response.statusCode();
+		return status >= 300 && status < 400
+				&& response.headers().firstValue("Location").map(location -> location.contains("success=true")).orElse(false);
+	}
+
+	private static void writeReport(Path path, List<StageResult> results) throws IOException {
+		StringBuilder json = new StringBuilder("[\n");
+		for (int i = 0; i < results.size(); i++) {
+			json.append("  ").append(results.get(i).toJson()).append(i + 1 < results.size() ? ",\n" : "\n");
+		}
+		json.append("]\n");
+		if (path.getParent() != null) {
+			Files.createDirectories(path.getParent());
+		}
+		Files.writeString(path, json);
+	}
+
+	private record StageResult(int targetRps, double achievedRps, long ok, long failed, long dropped,
+			double p50, double p90, double p99, double p999, double max, int peakInFlight) {
+
+		String toRow() {
+			return String.format(Locale.ROOT, "%-8d %9.1f %9d %9d %8d %8.1f %9.1f %9.1f %9.1f %9.1f %9d",
+					targetRps, achievedRps, ok, failed, dropped, p50, p90, p99, p999, max, peakInFlight);
+		}
+
+		String toJson() {
+			return String.format(Locale.ROOT, "{\"targetRps\":%d,\"achievedRps\":%.2f,\"ok\":%d,\"failed\":%d,"
+							+ "\"dropped\":%d,\"p50Ms\":%.3f,\"p90Ms\":%.3f,\"p99Ms\":%.3f,\"p999Ms\":%.3f,"
+							+ "\"maxMs\":%.3f,\"peakInFlight\":%d}",
+					targetRps, achievedRps, ok, failed, dropped, p50, p90, p99, p999, max, peakInFlight);
+		}
+	}
+}
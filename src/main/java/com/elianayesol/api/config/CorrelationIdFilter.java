@@ -0,0 +1,47 @@
+package com.elianayesol.api.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 요청별 상관관계 ID
+ * - X-Request-Id 헤더가 있으면 그대로 쓰고, 없으면 새로 만든다 (응답 헤더로도 반환)
+ * - 요청 처리 동안 MDC requestId 로 두어 모든 로그 이벤트(JSON)에 포함
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "X-Request-Id";
+	public static final String MDC_KEY = "requestId";
+
+	// 로그 주입을 막기 위해 짧은 영숫자/하이픈 값만 받아들인다
+	private static final Pattern VALID_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		String requestId = request.getHeader(HEADER);
+		if (requestId == null || !VALID_ID.matcher(requestId).matches()) {
+			requestId = UUID.randomUUID().toString();
+		}
+		MDC.put(MDC_KEY, requestId);
+		response.setHeader(HEADER, requestId);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			MDC.remove(MDC_KEY);
+		}
+	}
+}
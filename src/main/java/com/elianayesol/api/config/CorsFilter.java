@@ -2,7 +2,6 @@ package com.elianayesol.api.config;
 
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
-import jakarta.servlet.FilterConfig;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
@@ -13,11 +12,57 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
+/**
+ * 프로젝트 유일의 CORS 처리 (설정: cors.*, CorsProperties)
+ * - 허용 Origin은 시작 시 정확 일치 Set + 서브도메인 와일드카드 목록으로 컴파일
+ * - 응답 헤더 값은 시작 시 한 번만 만들어 두고 요청마다 재사용
+ * - preflight(OPTIONS + Access-Control-Request-Method)는 DispatcherServlet에 들어가지 않고 여기서 바로 응답
+ */
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class CorsFilter implements Filter {
 
+	private static final String VARY_ACTUAL = "Origin";
+	private static final String VARY_PREFLIGHT = "Origin, Access-Control-Request-Method, Access-Control-Request-Headers";
+
+	private final Set<String> exactOrigins = new HashSet<>();
+	private final List<WildcardOrigin> wildcardOrigins = new ArrayList<>();
+	private final Set<String> allowedMethods = new LinkedHashSet<>();
+	private final boolean allowAnyHeader;
+	private final boolean allowCredentials;
+	private final String allowMethodsValue;
+	private final String allowHeadersValue;
+	private final String exposeHeadersValue;
+	private final String maxAgeValue;
+
+	public CorsFilter(CorsProperties properties) {
+		for (String origin : properties.getAllowedOrigins()) {
+			String normalized = origin.trim().toLowerCase(Locale.ROOT);
+			if (normalized.indexOf('*') >= 0) {
+				wildcardOrigins.add(WildcardOrigin.parse(normalized));
+			} else {
+				exactOrigins.add(normalized);
+			}
+		}
+		for (String method : properties.getAllowedMethods()) {
+			allowedMethods.add(method.trim().toUpperCase(Locale.ROOT));
+		}
+		this.allowAnyHeader = properties.getAllowedHeaders().contains("*");
+		this.allowCredentials = properties.isAllowCredentials();
+		this.allowMethodsValue = String.join(", ", allowedMethods);
+		this.allowHeadersValue = allowAnyHeader ? null : String.join(", ", properties.getAllowedHeaders());
+		this.exposeHeadersValue = properties.getExposedHeaders().isEmpty()
+			? null : String.join(", ", properties.getExposedHeaders());
+		this.maxAgeValue = Long.toString(properties.getMaxAge());
+	}
+
 	@Override
 	public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
 			throws IOException, ServletException {
@@ -25,19 +70,32 @@ public class CorsFilter implements Filter {
 		HttpServletResponse response = (HttpServletResponse) res;
 
 		String origin = request.getHeader("Origin");
-		
-		// 허용된 Origin 확인
-		if (origin != null && isAllowedOrigin(origin)) {
-			response.setHeader("Access-Control-Allow-Origin", origin);
-			response.setHeader("Access-Control-Allow-Credentials", "true");
-			response.setHeader("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS, PATCH");
-			response.setHeader("Access-Control-Allow-Headers", 
-				"Origin, X-Requested-With, Content-Type, Accept, Authorization, Cache-Control");
-			response.setHeader("Access-Control-Max-Age", "3600");
+		boolean options = "OPTIONS".equals(request.getMethod());
+
+		// preflight: 허용 여부만 판단해서 바로 응답 (브라우저는 max-age 동안 결과를 캐시)
+		if (options && origin != null) {
+			String requestMethod = request.getHeader("Access-Control-Request-Method");
+			if (requestMethod != null) {
+				handlePreflight(request, response, origin, requestMethod);
+				return;
+			}
+		}
+
+		if (origin != null) {
+			response.addHeader("Vary", VARY_ACTUAL);
+			if (isAllowedOrigin(origin)) {
+				response.setHeader("Access-Control-Allow-Origin", origin);
+				if (allowCredentials) {
+					response.setHeader("Access-Control-Allow-Credentials", "true");
+				}
+				if (exposeHeadersValue != null) {
+					response.setHeader("Access-Control-Expose-Headers", exposeHeadersValue);
+				}
+			}
 		}
 
-		// OPTIONS 요청 (preflight) 처리
-		if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
+		// preflight가 아닌 OPTIONS 요청도 컨트롤러까지 보내지 않는다
+		if (options) {
 			response.setStatus(HttpServletResponse.SC_OK);
 			return;
 		}
@@ -45,21 +103,69 @@ public class CorsFilter implements Filter {
 		chain.doFilter(req, res);
 	}
 
-	private boolean isAllowedOrigin(String origin) {
-		return origin.equals("http://localhost:3000") ||
-			   origin.equals("http://127.0.0.1:3000") ||
-			   origin.equals("https://www.elianayesol.com") ||
-			   origin.equals("https://elianayesol.com");
+	private void handlePreflight(HttpServletRequest request, HttpServletResponse response,
+			String origin, String requestMethod) {
+		response.addHeader("Vary", VARY_PREFLIGHT);
+		if (!isAllowedOrigin(origin) || !allowedMethods.contains(requestMethod)) {
+			response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+			return;
+		}
+
+		response.setHeader("Access-Control-Allow-Origin", origin);
+		if (allowCredentials) {
+			response.setHeader("Access-Control-Allow-Credentials", "true");
+		}
+		response.setHeader("Access-Control-Allow-Methods", allowMethodsValue);
+		String allowHeaders = allowAnyHeader ? request.getHeader("Access-Control-Request-Headers") : allowHeadersValue;
+		if (allowHeaders != null) {
+			response.setHeader("Access-Control-Allow-Headers", allowHeaders);
+		}
+		response.setHeader("Access-Control-Max-Age", maxAgeValue);
+		response.setStatus(HttpServletResponse.SC_OK);
 	}
 
-	@Override
-	public void init(FilterConfig filterConfig) throws ServletException {
-		// 초기화 로직 없음
+	boolean isAllowedOrigin(String origin) {
+		// 브라우저는 Origin을 소문자 scheme/host로 보내므로 대소문자 변환 없이 비교
+		if (exactOrigins.contains(origin)) {
+			return true;
+		}
+		for (int i = 0; i < wildcardOrigins.size(); i++) {
+			if (wildcardOrigins.get(i).matches(origin)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
-	@Override
-	public void destroy() {
-		// 정리 로직 없음
+	/**
+	 * scheme://*.domain[:port] 형태의 서브도메인 와일드카드
+	 * - "*" 자리에는 한 단계 이상의 서브도메인만 올 수 있다 (domain 자체는 매칭하지 않음)
+	 */
+	private record WildcardOrigin(String prefix, String suffix) {
+
+		static WildcardOrigin parse(String pattern) {
+			int schemeEnd = pattern.indexOf("://");
+			int star = pattern.indexOf('*');
+			if (schemeEnd < 0 || star != schemeEnd + 3 || pattern.indexOf('*', star + 1) >= 0
+					|| pattern.length() < star + 3 || pattern.charAt(star + 1) != '.') {
+				throw new IllegalArgumentException("Unsupported CORS origin pattern: " + pattern
+					+ " (expected scheme://*.domain[:port])");
+			}
+			return new WildcardOrigin(pattern.substring(0, star), pattern.substring(star + 1));
+		}
+
+		boolean matches(String origin) {
+			int hostEnd = origin.length() - suffix.length();
+			if (hostEnd <= prefix.length() || !origin.startsWith(prefix) || !origin.endsWith(suffix)) {
+				return false;
+			}
+			for (int i = prefix.length(); i < hostEnd; i++) {
+				char c = origin.charAt(i);
+				if (!(c >= 'a' && c <= 'z') && !(c >= '0' && c <= '9') && c != '-' && c != '.') {
+					return false;
+				}
+			}
+			return true;
+		}
 	}
 }
-
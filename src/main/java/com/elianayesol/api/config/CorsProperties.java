@@ -0,0 +1,79 @@
+package com.elianayesol.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CORS 설정 (cors.*) - CorsFilter가 시작 시 한 번 컴파일해서 사용
+ * - allowed-origins: 정확한 Origin 또는 서브도메인 와일드카드 (예: https://*.elianayesol.com)
+ * - allowed-headers: "*" 이면 preflight의 Access-Control-Request-Headers를 그대로 허용
+ * - max-age: preflight 결과 캐시 시간(초). Chromium은 7200초까지만 인정한다
+ */
+@Component
+@ConfigurationProperties(prefix = "cors")
+public class CorsProperties {
+	private List<String> allowedOrigins = new ArrayList<>(List.of(
+		"http://localhost:3000",
+		"http://127.0.0.1:3000",
+		"https://www.elianayesol.com",
+		"https://elianayesol.com"
+	));
+	private List<String> allowedMethods = new ArrayList<>(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
+	private List<String> allowedHeaders = new ArrayList<>(List.of(
+		"Origin", "X-Requested-With", "Content-Type", "Accept", "Authorization", "Cache-Control", "X-Request-Id"
+	));
+	private List<String> exposedHeaders = new ArrayList<>(List.of("X-Request-Id"));
+	private boolean allowCredentials = true;
+	private long maxAge = 3600;
+
+	public List<String> getAllowedOrigins() {
+		return allowedOrigins;
+	}
+
+	public void setAllowedOrigins(List<String> allowedOrigins) {
+		this.allowedOrigins = allowedOrigins;
+	}
+
+	public List<String> getAllowedMethods() {
+		return allowedMethods;
+	}
+
+	public void setAllowedMethods(List<String> allowedMethods) {
+		this.allowedMethods = allowedMethods;
+	}
+
+	public List<String> getAllowedHeaders() {
+		return allowedHeaders;
+	}
+
+	public void setAllowedHeaders(List<String> allowedHeaders) {
+		this.allowedHeaders = allowedHeaders;
+	}
+
+	public List<String> getExposedHeaders() {
+		return exposedHeaders;
+	}
+
+	public void setExposedHeaders(List<String> exposedHeaders) {
+		this.exposedHeaders = exposedHeaders;
+	}
+
+	public boolean isAllowCredentials() {
+		return allowCredentials;
+	}
+
+	public void setAllowCredentials(boolean allowCredentials) {
+		this.allowCredentials = allowCredentials;
+	}
+
+	public long getMaxAge() {
+		return maxAge;
+	}
+
+	public void setMaxAge(long maxAge) {
+		this.maxAge = maxAge;
+	}
+}
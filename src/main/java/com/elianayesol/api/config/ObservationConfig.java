@@ -0,0 +1,20 @@
+package com.elianayesol.api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * Observation/트레이스 컨텍스트 전파
+ * - Boot 자동 설정 applicationTaskExecutor가 이 TaskDecorator를 사용
+ *   → 비동기로 실행되는 로그인 단계(redis)도 요청 span의 자식으로 기록
+ */
+@Configuration
+public class ObservationConfig {
+
+	@Bean
+	public TaskDecorator contextPropagatingTaskDecorator() {
+		return new ContextPropagatingTaskDecorator();
+	}
+}
@@ -0,0 +1,15 @@
+package com.elianayesol.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (만료 토큰 정리 등)
+ * - 실행 스레드는 Boot 자동 설정 taskScheduler 사용 (spring.task.scheduling.pool.size, 기본 4)
+ * - TaskScheduler 빈을 따로 등록하면 자동 설정 taskScheduler가 빠지므로, 전용 스레드가 필요한 작업은
+ *   빈이 아닌 자체 executor를 쓴다 (DependencyHealthMonitor)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,16 @@
+package com.elianayesol.api.config.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * 공통 로그 마커
+ * - SAMPLED: 요청마다 남는 고빈도 이벤트 (SamplingTurboFilter가 1/rate 만 통과시킴, WARN 이상은 항상 기록)
+ */
+public final class LogMarkers {
+
+	public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+	private LogMarkers() {
+	}
+}
@@ -0,0 +1,35 @@
+package com.elianayesol.api.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * SAMPLED 마커가 붙은 이벤트를 1/rate 확률로만 통과시키는 logback TurboFilter (logback-spring.xml)
+ * - 이벤트 객체를 만들기 전에 판단하므로 버려지는 로그는 메시지 포맷/할당 비용이 없다
+ * - 스레드별 난수를 쓰므로 공유 카운터 경합이 없다
+ * - WARN 이상, 마커가 없는 이벤트는 판단하지 않음 (NEUTRAL)
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+	private int rate = 100;
+
+	@Override
+	public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+		if (marker == null || rate <= 1 || (level != null && level.isGreaterOrEqual(Level.WARN))) {
+			return FilterReply.NEUTRAL;
+		}
+		if (!marker.contains(LogMarkers.SAMPLED)) {
+			return FilterReply.NEUTRAL;
+		}
+		return ThreadLocalRandom.current().nextInt(rate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+	}
+
+	public void setRate(int rate) {
+		this.rate = rate;
+	}
+}
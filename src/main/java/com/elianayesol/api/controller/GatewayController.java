@@ -1,20 +1,20 @@
 package com.elianayesol.api.controller;
 
+import com.elianayesol.api.health.DependencyHealthMonitor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
 import java.util.Map;
 
 @RestController
@@ -22,62 +22,35 @@ import java.util.Map;
 @Tag(name = "Gateway", description = "게이트웨이 상태 및 관리 API")
 public class GatewayController {
 
-    @Value("${spring.application.name:api-service}")
-    private String applicationName;
+    private final DependencyHealthMonitor dependencyHealthMonitor;
 
-    @Value("${server.port:8080}")
-    private String serverPort;
+    public GatewayController(DependencyHealthMonitor dependencyHealthMonitor) {
+        this.dependencyHealthMonitor = dependencyHealthMonitor;
+    }
 
     @Operation(
         summary = "게이트웨이 상태 조회",
-        description = "API 게이트웨이의 현재 상태, 서버 정보, 연결 상태를 반환합니다."
+        description = "API 게이트웨이의 현재 상태, 서버 정보, 의존 서비스(Redis, DB, OAuth 제공자) 점검 결과를 반환합니다. "
+            + "점검은 백그라운드에서 주기적으로 실행되며 마지막 결과를 반환합니다."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "상태 조회 성공",
+            description = "상태 조회 성공 (UP 또는 DEGRADED)",
+            content = @Content(schema = @Schema(implementation = Map.class))
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Redis 또는 DB 점검 실패 (DOWN)",
             content = @Content(schema = @Schema(implementation = Map.class))
         )
     })
-    @GetMapping("/status")
-    public ResponseEntity<Map<String, Object>> getGatewayStatus() {
-        Map<String, Object> status = new HashMap<>();
-        
-        // 기본 상태 정보
-        status.put("status", "UP");
-        status.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-        
-        // 서버 정보
-        Map<String, Object> server = new HashMap<>();
-        server.put("name", applicationName);
-        server.put("port", serverPort);
-        server.put("environment", getEnvironment());
-        status.put("server", server);
-        
-        // 서비스 상태
-        Map<String, Object> services = new HashMap<>();
-        services.put("api", "UP");
-        services.put("database", "UP");
-        services.put("redis", "UP");
-        status.put("services", services);
-        
-        // 메타 정보
-        Map<String, Object> metadata = new HashMap<>();
-        metadata.put("version", "1.0.0");
-        metadata.put("uptime", "Running");
-        status.put("metadata", metadata);
-        
-        return ResponseEntity.ok(status);
-    }
-
-    /**
-     * 현재 환경 정보 반환
-     */
-    private String getEnvironment() {
-        String activeProfile = System.getProperty("spring.profiles.active");
-        if (activeProfile == null || activeProfile.isEmpty()) {
-            activeProfile = System.getenv("SPRING_PROFILES_ACTIVE");
-        }
-        return activeProfile != null ? activeProfile : "default";
+    @GetMapping(value = "/status", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getGatewayStatus() {
+        // 백그라운드 점검 결과를 미리 직렬화한 스냅샷 (요청마다 원격 호출/직렬화 없음)
+        DependencyHealthMonitor.Snapshot snapshot = dependencyHealthMonitor.getSnapshot();
+        return ResponseEntity.status(snapshot.up() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .cacheControl(CacheControl.noStore())
+                .body(snapshot.json());
     }
 }
@@ -9,7 +9,14 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "refresh_tokens")
+// expires_at 기준 월별 RANGE 파티션 (db/migration/V4), 인덱스는 파티션별로 생성됨
+@Table(
+	name = "refresh_tokens",
+	indexes = {
+		@Index(name = "ix_refresh_tokens_token_hash", columnList = "token_hash"),
+		@Index(name = "ix_refresh_tokens_user_id_provider", columnList = "user_id, provider")
+	}
+)
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,8 +27,9 @@ public class RefreshToken {
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 	
-	@Column(nullable = false, unique = true)
-	private String token;
+	// Refresh Token 원문의 SHA-256 다이제스트 (32바이트, TokenDigest.sha256)
+	@Column(name = "token_hash", nullable = false, length = 32)
+	private byte[] tokenHash;
 	
 	@Column(nullable = false)
 	private String userId;
@@ -0,0 +1,338 @@
+package com.elianayesol.api.health;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 의존 서비스 상태 점검 (/api/gateway/status)
+ * - Redis(PING), Postgres(SELECT 1), OAuth 제공자 엔드포인트(HTTP 응답 여부)를 백그라운드에서 주기적으로 점검
+ * - 점검마다 새 가상 스레드에서 병렬로 실행하고, 의존 서비스마다 health.probe.timeout 안에 끝나지 않으면
+ *   DOWN 후 interrupt. 인터럽트를 무시하고 멈춘 점검(JDBC 등)은 끝날 때까지 다시 띄우지 않고 DOWN으로 보고
+ *   (고정 풀이 아니므로 멈춘 점검이 다른 의존 서비스나 다음 회차 점검을 막지 않음)
+ * - 제공자 점검은 로그인용 커넥션 풀이 아닌 별도 HTTP 클라이언트를 사용 (로그인 트래픽과 경합하지 않음)
+ * - 결과는 JSON으로 미리 직렬화해 두고, 요청은 그 스냅샷을 그대로 반환 (요청 경로에서 원격 호출 없음)
+ * - 점검 주기는 공용 taskScheduler가 아닌 전용 스레드에서 돈다 (리퍼 등 오래 걸리는 @Scheduled 작업에 밀리지 않도록)
+ * - 스냅샷이 (interval × 2 + timeout)보다 오래되면 stale=true, snapshotAgeMs와 함께 UP 대신 DEGRADED로 응답
+ *   (점검 스레드가 멈춰도 마지막 결과를 UP으로 계속 내보내지 않음)
+ * - 전체 상태: Redis/Postgres 중 하나라도 DOWN이면 DOWN, 제공자만 DOWN이면 DEGRADED
+ * - 지표: gateway.dependency.probe{dependency, outcome} (소요 시간), gateway.dependency.up{dependency}
+ */
+@Component
+public class DependencyHealthMonitor {
+
+	private static final Logger log = LoggerFactory.getLogger(DependencyHealthMonitor.class);
+
+	static final String UP = "UP";
+	static final String DOWN = "DOWN";
+	static final String DEGRADED = "DEGRADED";
+	static final String UNKNOWN = "UNKNOWN";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<Probe> probes = new ArrayList<>();
+	private final ThreadFactory threadFactory;
+	private final HttpClient httpClient;
+	private final Duration timeout;
+	private final Duration interval;
+	private final Duration initialDelay;
+	private final ScheduledExecutorService scheduler;
+	private final Map<String, Object> server;
+	private final MeterRegistry meterRegistry;
+
+	private volatile Published published;
+
+	public DependencyHealthMonitor(
+			RedisTemplate<String, String> redisTemplate,
+			DataSource dataSource,
+			MeterRegistry meterRegistry,
+			@Value("${health.probe.timeout:2s}") Duration timeout,
+			@Value("${health.probe.interval:15s}") Duration interval,
+			@Value("${health.probe.initial-delay:0s}") Duration initialDelay,
+			@Value("${google.token-uri:https://oauth2.googleapis.com/token}") String googleTokenUri,
+			@Value("${google.user-info-uri:https://www.googleapis.com/oauth2/v2/userinfo}") String googleUserInfoUri,
+			@Value("${kakao.token-uri:https://kauth.kakao.com/oauth/token}") String kakaoTokenUri,
+			@Value("${kakao.user-info-uri:https://kapi.kakao.com/v2/user/me}") String kakaoUserInfoUri,
+			@Value("${naver.token-uri:https://nid.naver.com/oauth2.0/token}") String naverTokenUri,
+			@Value("${naver.user-info-uri:https://openapi.naver.com/v1/nid/me}") String naverUserInfoUri,
+			@Value("${spring.application.name:api-service}") String applicationName,
+			@Value("${server.port:8080}") String serverPort) {
+		this.timeout = timeout;
+		this.interval = interval;
+		this.initialDelay = initialDelay;
+		this.meterRegistry = meterRegistry;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(
+				Thread.ofPlatform().name("health-probe-scheduler").daemon(true).factory());
+		this.httpClient = HttpClient.newBuilder()
+				.connectTimeout(timeout)
+				.followRedirects(HttpClient.Redirect.NEVER)
+				.build();
+
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.setQueryTimeout((int) Math.max(1, timeout.toSeconds()));
+
+		probes.add(new Probe("redis", true, () ->
+				redisTemplate.execute((RedisCallback<String>) connection -> connection.ping())));
+		probes.add(new Probe("database", true, () ->
+				jdbcTemplate.queryForObject("SELECT 1", Integer.class)));
+		addHttpProbe("google-token", googleTokenUri);
+		addHttpProbe("google-userinfo", googleUserInfoUri);
+		addHttpProbe("kakao-token", kakaoTokenUri);
+		addHttpProbe("kakao-userinfo", kakaoUserInfoUri);
+		addHttpProbe("naver-token", naverTokenUri);
+		addHttpProbe("naver-userinfo", naverUserInfoUri);
+
+		this.threadFactory = Thread.ofVirtual().name("health-probe-", 0).factory();
+
+		Map<String, Object> serverInfo = new LinkedHashMap<>();
+		serverInfo.put("name", applicationName);
+		serverInfo.put("port", serverPort);
+		serverInfo.put("environment", environment());
+		this.server = serverInfo;
+
+		for (Probe probe : probes) {
+			Gauge.builder("gateway.dependency.up", probe, p -> UP.equals(p.last.status()) ? 1 : 0)
+					.tag("dependency", probe.name)
+					.register(meterRegistry);
+		}
+		this.published = publish();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		scheduler.scheduleWithFixedDelay(this::refreshSafely, initialDelay.toMillis(), interval.toMillis(),
+				TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 현재 스냅샷 (직렬화된 JSON + 전체 상태)
+	 * - 마지막 점검이 오래되었으면 경과 시간을 붙여 다시 직렬화 (점검이 멈춘 경우에만)
+	 */
+	public Snapshot getSnapshot() {
+		Published current = published;
+		long ageNanos = System.nanoTime() - current.refreshedAtNanos();
+		if (ageNanos <= interval.multipliedBy(2).plus(timeout).toNanos()) {
+			return current.snapshot();
+		}
+		Map<String, Object> status = new LinkedHashMap<>(current.status());
+		if (UP.equals(status.get("status"))) {
+			status.put("status", DEGRADED);
+		}
+		status.put("stale", true);
+		status.put("snapshotAgeMs", TimeUnit.NANOSECONDS.toMillis(ageNanos));
+		return new Snapshot(serialize(status), current.snapshot().up());
+	}
+
+	private void refreshSafely() {
+		try {
+			refresh();
+		} catch (RuntimeException e) {
+			// 예외로 주기 작업이 취소되지 않도록
+			log.error("Dependency health refresh failed", e);
+		}
+	}
+
+	void refresh() {
+		List<Long> startedAt = new ArrayList<>(probes.size());
+		List<CompletableFuture<Object>> results = new ArrayList<>(probes.size());
+		for (Probe probe : probes) {
+			startedAt.add(System.nanoTime());
+			// 이전 점검 스레드가 취소(interrupt)를 무시하고 아직 살아 있으면 새로 띄우지 않는다
+			results.add(probe.thread != null && probe.thread.isAlive() ? null : start(probe));
+		}
+
+		long deadline = System.nanoTime() + timeout.toNanos();
+		for (int i = 0; i < probes.size(); i++) {
+			Probe probe = probes.get(i);
+			CompletableFuture<Object> result = results.get(i);
+			String status = UP;
+			String error = null;
+			try {
+				if (result == null) {
+					status = DOWN;
+					error = "previous probe still running after cancel";
+				} else {
+					result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				}
+			} catch (TimeoutException e) {
+				probe.thread.interrupt();
+				status = DOWN;
+				error = "timeout after " + timeout.toMillis() + "ms";
+			} catch (ExecutionException e) {
+				status = DOWN;
+				error = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			long latencyNanos = System.nanoTime() - startedAt.get(i);
+			Timer.builder("gateway.dependency.probe")
+					.tag("dependency", probe.name)
+					.tag("outcome", UP.equals(status) ? "success" : "error")
+					.register(meterRegistry)
+					.record(latencyNanos, TimeUnit.NANOSECONDS);
+			if (DOWN.equals(status) && !DOWN.equals(probe.last.status())) {
+				log.warn("Dependency probe failed: dependency={}, error={}", probe.name, error);
+			}
+			probe.last = new ProbeResult(status, TimeUnit.NANOSECONDS.toMillis(latencyNanos),
+					LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME), error);
+		}
+		published = publish();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdownNow();
+		for (Probe probe : probes) {
+			if (probe.thread != null) {
+				probe.thread.interrupt();
+			}
+		}
+	}
+
+	/**
+	 * 점검 하나를 새 가상 스레드에서 시작 (스레드를 보관해 끝났는지 확인하고 취소할 수 있게)
+	 */
+	private CompletableFuture<Object> start(Probe probe) {
+		CompletableFuture<Object> result = new CompletableFuture<>();
+		probe.thread = threadFactory.newThread(() -> {
+			try {
+				result.complete(probe.check.call());
+			} catch (Throwable e) {
+				result.completeExceptionally(e);
+			}
+		});
+		probe.thread.start();
+		return result;
+	}
+
+	private void addHttpProbe(String name, String uri) {
+		HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+				.timeout(timeout)
+				.GET()
+				.build();
+		// 인증 없이 호출하므로 4xx는 정상 (엔드포인트가 응답했는지만 확인), 5xx만 DOWN
+		probes.add(new Probe(name, false, () -> {
+			int statusCode = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+			if (statusCode >= 500) {
+				throw new IllegalStateException("HTTP " + statusCode);
+			}
+			return statusCode;
+		}));
+	}
+
+	private Published publish() {
+		boolean coreUp = true;
+		boolean allUp = true;
+		Map<String, Object> services = new LinkedHashMap<>();
+		Map<String, Object> dependencies = new LinkedHashMap<>();
+		services.put("api", UP);
+		for (Probe probe : probes) {
+			ProbeResult result = probe.last;
+			if (probe.core) {
+				services.put(probe.name, result.status());
+				coreUp &= !DOWN.equals(result.status());
+			}
+			allUp &= UP.equals(result.status());
+			dependencies.put(probe.name, result);
+		}
+		String overall = !coreUp ? DOWN : (allUp ? UP : DEGRADED);
+
+		Map<String, Object> metadata = new LinkedHashMap<>();
+		metadata.put("version", "1.0.0");
+		metadata.put("uptime", "Running");
+
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("status", overall);
+		status.put("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+		status.put("server", server);
+		status.put("services", services);
+		status.put("dependencies", dependencies);
+		status.put("metadata", metadata);
+		status.put("stale", false);
+		return new Published(new Snapshot(serialize(status), coreUp), Collections.unmodifiableMap(status), System.nanoTime());
+	}
+
+	private byte[] serialize(Map<String, Object> status) {
+		try {
+			return objectMapper.writeValueAsBytes(status);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize gateway status", e);
+		}
+	}
+
+	private static String environment() {
+		String activeProfile = System.getProperty("spring.profiles.active");
+		if (activeProfile == null || activeProfile.isEmpty()) {
+			activeProfile = System.getenv("SPRING_PROFILES_ACTIVE");
+		}
+		return activeProfile != null ? activeProfile : "default";
+	}
+
+	/**
+	 * @param json 직렬화된 상태 응답 본문
+	 * @param up   Redis/Postgres가 모두 DOWN이 아니면 true
+	 */
+	public record Snapshot(byte[] json, boolean up) {
+	}
+
+	/**
+	 * 마지막으로 만든 스냅샷과 그 원본, 만든 시각 (stale 응답을 만들 때 사용)
+	 */
+	private record Published(Snapshot snapshot, Map<String, Object> status, long refreshedAtNanos) {
+	}
+
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public record ProbeResult(String status, Long latencyMs, String checkedAt, String error) {
+	}
+
+	private static final class Probe {
+		private final String name;
+		private final boolean core;
+		private final Callable<?> check;
+		// 점검 스레드(전용 스케줄러)에서만 쓰고, 지표 수집 스레드가 읽는다
+		private volatile ProbeResult last = new ProbeResult(UNKNOWN, null, null, null);
+		// 마지막으로 띄운 점검 스레드 (스케줄러 스레드에서만 교체)
+		private volatile Thread thread;
+
+		private Probe(String name, boolean core, Callable<?> check) {
+			this.name = name;
+			this.core = core;
+			this.check = check;
+		}
+	}
+}
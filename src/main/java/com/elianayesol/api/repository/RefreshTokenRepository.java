@@ -2,19 +2,72 @@ package com.elianayesol.api.repository;
 
 import com.elianayesol.api.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-	
-	Optional<RefreshToken> findByToken(String token);
-	
-	Optional<RefreshToken> findByUserIdAndProvider(String userId, String provider);
-	
-	void deleteByToken(String token);
-	
-	void deleteByUserIdAndProvider(String userId, String provider);
-}
 
+	/**
+	 * (user_id, provider) 단위 advisory lock (트랜잭션 종료 시 해제)
+	 * - 파티션 테이블에서는 (user_id, provider) 유니크 제약을 둘 수 없어 교체 쓰기를 이 락으로 직렬화
+	 * - 파라미터: lockKey (userId + ":" + provider)
+	 */
+	String LOCK_SQL = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtextextended(:lockKey, 0))) locked";
+
+	/**
+	 * (user_id, provider)의 기존 Refresh Token을 지우고 새 토큰 저장 (LOCK_SQL과 같은 트랜잭션에서 실행)
+	 * - 파라미터: tokenHash (TokenDigest.sha256), userId, provider, expiresAt, createdAt
+	 */
+	String REPLACE_SQL = "WITH removed AS ("
+		+ "DELETE FROM refresh_tokens WHERE user_id = :userId AND provider = :provider) "
+		+ "INSERT INTO refresh_tokens (token_hash, user_id, provider, expires_at, created_at, is_revoked) "
+		+ "VALUES (:tokenHash, :userId, :provider, :expiresAt, :createdAt, false)";
+
+	/**
+	 * 만료되지 않은 토큰만 조회 (expires_at 조건으로 지난 파티션은 스캔하지 않음)
+	 */
+	@Query("SELECT r FROM RefreshToken r WHERE r.tokenHash = :tokenHash AND r.expiresAt > :now")
+	Optional<RefreshToken> findActiveByTokenHash(@Param("tokenHash") byte[] tokenHash, @Param("now") LocalDateTime now);
+
+	/**
+	 * 사용자/제공자의 토큰 취소
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE RefreshToken r SET r.isRevoked = true "
+		+ "WHERE r.userId = :userId AND r.provider = :provider AND r.expiresAt > :now")
+	int revokeByUserIdAndProvider(
+		@Param("userId") String userId,
+		@Param("provider") String provider,
+		@Param("now") LocalDateTime now);
+
+	/**
+	 * Refresh Token 저장 (기존 토큰이 있으면 교체)
+	 */
+	@Transactional
+	default void upsert(byte[] tokenHash, String userId, String provider, LocalDateTime expiresAt, LocalDateTime createdAt) {
+		lock(userId + ":" + provider);
+		replace(tokenHash, userId, provider, expiresAt, createdAt);
+	}
+
+	@Query(value = LOCK_SQL, nativeQuery = true)
+	int lock(@Param("lockKey") String lockKey);
+
+	@Modifying
+	@Query(value = REPLACE_SQL, nativeQuery = true)
+	int replace(
+		@Param("tokenHash") byte[] tokenHash,
+		@Param("userId") String userId,
+		@Param("provider") String provider,
+		@Param("expiresAt") LocalDateTime expiresAt,
+		@Param("createdAt") LocalDateTime createdAt);
+
+	void deleteByTokenHash(byte[] tokenHash);
+}
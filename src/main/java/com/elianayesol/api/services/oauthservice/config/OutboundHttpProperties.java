@@ -0,0 +1,96 @@
+package com.elianayesol.api.services.oauthservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * OAuth 제공자(Google, Kakao, Naver) 호출용 HTTP 클라이언트 설정 (outbound.http.*)
+ * - mode: pooled (Apache HttpClient 5 커넥션 풀, 기본값) | http2 (JDK HttpClient, HTTP/2 멀티플렉싱)
+ */
+@Component
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+	private String mode = "pooled";
+	private Duration connectTimeout = Duration.ofSeconds(5);
+	private Duration readTimeout = Duration.ofSeconds(20);
+	private Duration poolAcquireTimeout = Duration.ofSeconds(2);
+	private int maxTotal = 100;
+	private int maxPerHost = 32;
+	private Duration keepAlive = Duration.ofSeconds(30);
+	private Duration idleEviction = Duration.ofSeconds(30);
+	private Duration timeToLive = Duration.ofMinutes(5);
+
+	public String getMode() {
+		return mode;
+	}
+
+	public void setMode(String mode) {
+		this.mode = mode;
+	}
+
+	public Duration getConnectTimeout() {
+		return connectTimeout;
+	}
+
+	public void setConnectTimeout(Duration connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	public Duration getReadTimeout() {
+		return readTimeout;
+	}
+
+	public void setReadTimeout(Duration readTimeout) {
+		this.readTimeout = readTimeout;
+	}
+
+	public Duration getPoolAcquireTimeout() {
+		return poolAcquireTimeout;
+	}
+
+	public void setPoolAcquireTimeout(Duration poolAcquireTimeout) {
+		this.poolAcquireTimeout = poolAcquireTimeout;
+	}
+
+	public int getMaxTotal() {
+		return maxTotal;
+	}
+
+	public void setMaxTotal(int maxTotal) {
+		this.maxTotal = maxTotal;
+	}
+
+	public int getMaxPerHost() {
+		return maxPerHost;
+	}
+
+	public void setMaxPerHost(int maxPerHost) {
+		this.maxPerHost = maxPerHost;
+	}
+
+	public Duration getKeepAlive() {
+		return keepAlive;
+	}
+
+	public void setKeepAlive(Duration keepAlive) {
+		this.keepAlive = keepAlive;
+	}
+
+	public Duration getIdleEviction() {
+		return idleEviction;
+	}
+
+	public void setIdleEviction(Duration idleEviction) {
+		this.idleEviction = idleEviction;
+	}
+
+	public Duration getTimeToLive() {
+		return timeToLive;
+	}
+
+	public void setTimeToLive(Duration timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+}
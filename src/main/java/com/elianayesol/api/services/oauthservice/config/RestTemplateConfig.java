@@ -1,26 +1,79 @@
 package com.elianayesol.api.services.oauthservice.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+
 /**
  * RestTemplate Configuration
  * Used in WebMVC environment
+ * - GoogleAuthService, KakaoService, NaverService가 같은 RestTemplate(커넥션 풀)을 공유
  */
 @Configuration
 public class RestTemplateConfig {
 
+	/**
+	 * OAuth 제공자 호출용 요청 팩토리
+	 * - pooled: 호스트별 커넥션 풀 + keep-alive + 유휴 커넥션 정리, 풀 지표는 httpcomponents.httpclient.pool.* 로 노출
+	 * - http2: JDK HttpClient (HTTP/2를 지원하는 제공자는 하나의 커넥션으로 멀티플렉싱)
+	 */
+	@Bean
+	public ClientHttpRequestFactory outboundRequestFactory(OutboundHttpProperties properties, MeterRegistry meterRegistry) {
+		if ("http2".equalsIgnoreCase(properties.getMode())) {
+			HttpClient httpClient = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_2)
+					.connectTimeout(properties.getConnectTimeout())
+					.build();
+			JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+			factory.setReadTimeout(properties.getReadTimeout());
+			return factory;
+		}
+
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(properties.getMaxTotal())
+				.setMaxConnPerRoute(properties.getMaxPerHost())
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+						.setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+						.setTimeToLive(TimeValue.of(properties.getTimeToLive()))
+						.setValidateAfterInactivity(TimeValue.ofSeconds(2))
+						.build())
+				.build();
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "oauth-providers").bindTo(meterRegistry);
+
+		CloseableHttpClient httpClient = HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(Timeout.of(properties.getPoolAcquireTimeout()))
+						.setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+						.build())
+				.setKeepAliveStrategy((response, context) -> TimeValue.of(properties.getKeepAlive()))
+				.evictExpiredConnections()
+				.evictIdleConnections(TimeValue.of(properties.getIdleEviction()))
+				.build();
+		return new HttpComponentsClientHttpRequestFactory(httpClient);
+	}
+
 	/**
 	 * RestTemplate Bean
 	 */
 	@Bean
-	public RestTemplate restTemplate() {
-		SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-		factory.setConnectTimeout(5000); // 5 seconds
-		factory.setReadTimeout(20000); // 20 seconds (sufficient time for Google API calls)
-		
-		return new RestTemplate(factory);
+	public RestTemplate restTemplate(ClientHttpRequestFactory outboundRequestFactory) {
+		return new RestTemplate(outboundRequestFactory);
 	}
 }
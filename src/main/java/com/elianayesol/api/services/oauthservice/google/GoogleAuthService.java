@@ -1,5 +1,8 @@
 package com.elianayesol.api.services.oauthservice.google;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -9,15 +12,24 @@ import org.springframework.web.client.RestTemplate;
 
 import com.elianayesol.api.services.oauthservice.google.dto.GoogleTokenResponse;
 import com.elianayesol.api.services.oauthservice.google.dto.GoogleUserInfo;
+import com.elianayesol.api.services.oauthservice.login.OAuthProviderAdapter;
+import com.elianayesol.api.services.oauthservice.login.OAuthProviderToken;
+import com.elianayesol.api.services.oauthservice.login.OAuthUserProfile;
+import com.elianayesol.api.services.oauthservice.resilience.ProviderResilience;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
-public class GoogleAuthService {
+public class GoogleAuthService implements OAuthProviderAdapter {
+
+	private static final Logger log = LoggerFactory.getLogger(GoogleAuthService.class);
 
 	private final RestTemplate restTemplate;
+	private final ProviderResilience providerResilience;
 
 	@Value("${google.client-id}")
 	private String clientId;
@@ -28,12 +40,27 @@ public class GoogleAuthService {
 	@Value("${google.redirect-uri}")
 	private String redirectUri;
 
-	private static final String GOOGLE_AUTH_URL = "https://accounts.google.com/o/oauth2/v2/auth";
-	private static final String GOOGLE_TOKEN_URL = "https://oauth2.googleapis.com/token";
-	private static final String GOOGLE_USER_INFO_URL = "https://www.googleapis.com/oauth2/v2/userinfo";
+	// 부하 테스트 시 로컬 제공자 시뮬레이터(FakeOAuthProviderServer)로 바꿔 지정할 수 있다
+	@Value("${google.authorize-uri:https://accounts.google.com/o/oauth2/v2/auth}")
+	private String authorizeUri;
+
+	@Value("${google.token-uri:https://oauth2.googleapis.com/token}")
+	private String tokenUri;
+
+	@Value("${google.user-info-uri:https://www.googleapis.com/oauth2/v2/userinfo}")
+	private String userInfoUri;
 
-	public GoogleAuthService(RestTemplate restTemplate) {
+	// 선택 사항: google.id-token.enabled=true(기본값) 일 때만 주입됨
+	private GoogleIdTokenVerifier idTokenVerifier;
+
+	public GoogleAuthService(RestTemplate restTemplate, ProviderResilience providerResilience) {
 		this.restTemplate = restTemplate;
+		this.providerResilience = providerResilience;
+	}
+
+	@Autowired(required = false)
+	public void setIdTokenVerifier(GoogleIdTokenVerifier idTokenVerifier) {
+		this.idTokenVerifier = idTokenVerifier;
 	}
 
 	/**
@@ -45,8 +72,9 @@ public class GoogleAuthService {
 		try {
 			// URL encoding
 			String encodedRedirectUri = URLEncoder.encode(redirectUri, StandardCharsets.UTF_8.toString());
-			String encodedScope = URLEncoder.encode("profile email", StandardCharsets.UTF_8.toString());
-			String authUrl = GOOGLE_AUTH_URL +
+			// openid: 토큰 응답에 id_token 포함 (로컬 검증으로 userinfo 호출 생략)
+			String encodedScope = URLEncoder.encode("openid profile email", StandardCharsets.UTF_8.toString());
+			String authUrl = authorizeUri +
 					"?client_id=" + clientId +
 					"&redirect_uri=" + encodedRedirectUri +
 					"&response_type=code" +
@@ -64,8 +92,13 @@ public class GoogleAuthService {
 	 * Request Google Access Token
 	 */
 	public String getAccessToken(String code, String state) {
-		System.out.println("   -> Google Token API call: " + GOOGLE_TOKEN_URL);
-		
+		return requestToken(code).getAccessToken();
+	}
+
+	/**
+	 * Request Google Token (access_token + id_token)
+	 */
+	public GoogleTokenResponse requestToken(String code) {
 		// Set request headers
 		HttpHeaders headers = new HttpHeaders();
 		headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
@@ -81,27 +114,25 @@ public class GoogleAuthService {
 		HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
 
 		try {
-			// Call Google Token API
-			ResponseEntity<GoogleTokenResponse> response = restTemplate.exchange(
-					GOOGLE_TOKEN_URL,
-					HttpMethod.POST,
-					request,
-					GoogleTokenResponse.class
-			);
+			// Call Google Token API (인가 코드는 1회용이므로 재시도/hedge 없음)
+			ResponseEntity<GoogleTokenResponse> response = providerResilience.call(getProvider(), "token", false,
+					() -> restTemplate.exchange(
+							tokenUri,
+							HttpMethod.POST,
+							request,
+							GoogleTokenResponse.class
+					));
 
 			GoogleTokenResponse tokenResponse = response.getBody();
 			if (tokenResponse != null && tokenResponse.getAccessToken() != null) {
-				System.out.println("   -> Access token obtained successfully (length: " + tokenResponse.getAccessToken().length() + ")");
-				if (tokenResponse.getRefreshToken() != null) {
-					System.out.println("   -> Refresh token also obtained");
-				}
-				return tokenResponse.getAccessToken();
+				log.debug("Google access token obtained: hasRefreshToken={}, hasIdToken={}",
+						tokenResponse.getRefreshToken() != null, tokenResponse.getIdToken() != null);
+				return tokenResponse;
 			} else {
-				System.out.println("   -> Access token not in response.");
 				throw new RuntimeException("Failed to issue Google access token");
 			}
 		} catch (Exception e) {
-			System.out.println("   -> Google access token request failed: " + e.getMessage());
+			log.warn("Google access token request failed: {}", e.getMessage());
 			throw new RuntimeException("Failed to request Google access token", e);
 		}
 	}
@@ -110,8 +141,6 @@ public class GoogleAuthService {
 	 * Get Google User Info
 	 */
 	public GoogleUserInfo getUserInfo(String accessToken) {
-		System.out.println("   -> Google User Info API call: " + GOOGLE_USER_INFO_URL);
-		
 		// Set request headers
 		HttpHeaders headers = new HttpHeaders();
 		headers.setBearerAuth(accessToken);
@@ -120,30 +149,77 @@ public class GoogleAuthService {
 
 		try {
 			// Call Google User Info API
-			ResponseEntity<GoogleUserInfo> response = restTemplate.exchange(
-					GOOGLE_USER_INFO_URL,
-					HttpMethod.GET,
-					request,
-					GoogleUserInfo.class
-			);
+			ResponseEntity<GoogleUserInfo> response = providerResilience.call(getProvider(), "userinfo", true,
+					() -> restTemplate.exchange(
+							userInfoUri,
+							HttpMethod.GET,
+							request,
+							GoogleUserInfo.class
+					));
 
 			GoogleUserInfo userInfo = response.getBody();
 			if (userInfo != null && userInfo.getId() != null) {
-				System.out.println("   -> User info retrieved successfully");
-				System.out.println("      - ID: " + userInfo.getId());
-				System.out.println("      - Email: " + userInfo.getEmail());
-				System.out.println("      - Name: " + userInfo.getName());
-				if (userInfo.getPicture() != null) {
-					System.out.println("      - Picture: " + userInfo.getPicture());
-				}
+				log.debug("Google user info retrieved: id={}", userInfo.getId());
 				return userInfo;
 			} else {
-				System.out.println("   -> User info not in response.");
 				throw new RuntimeException("Failed to retrieve Google user info");
 			}
 		} catch (Exception e) {
-			System.out.println("   -> Google user info retrieval failed: " + e.getMessage());
+			log.warn("Google user info request failed: {}", e.getMessage());
 			throw new RuntimeException("Failed to retrieve Google user info", e);
 		}
 	}
+
+	@Override
+	public String getProvider() {
+		return "google";
+	}
+
+	/**
+	 * id_token을 검증할 수 있으면 사용자 정보를 토큰에 담아 둔다 (검증 실패/미포함 시 fetchProfile에서 userinfo 호출)
+	 */
+	@Override
+	public OAuthProviderToken exchangeCode(String code, String state) {
+		GoogleTokenResponse tokenResponse = requestToken(code);
+		GoogleUserInfo verifiedUserInfo = idTokenVerifier != null
+				? idTokenVerifier.verify(tokenResponse.getIdToken())
+				: null;
+		if (verifiedUserInfo != null && verifiedUserInfo.getId() != null) {
+			return new GoogleProviderToken(tokenResponse.getAccessToken(), verifiedUserInfo);
+		}
+		return new OAuthProviderToken(tokenResponse.getAccessToken());
+	}
+
+	@Override
+	public OAuthUserProfile fetchProfile(OAuthProviderToken token) {
+		GoogleUserInfo googleUserInfo = token instanceof GoogleProviderToken googleToken
+				? googleToken.getVerifiedUserInfo()
+				: getUserInfo(token.getAccessToken());
+
+		// JWT 클레임
+		Map<String, Object> claims = new HashMap<>();
+		claims.put("googleId", googleUserInfo.getId());
+		claims.put("email", googleUserInfo.getEmail());
+		claims.put("name", googleUserInfo.getName());
+
+		// 응답에 내려줄 사용자 정보
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("googleId", googleUserInfo.getId());
+		attributes.put("email", googleUserInfo.getEmail());
+		attributes.put("name", googleUserInfo.getName());
+		attributes.put("givenName", googleUserInfo.getGivenName());
+		attributes.put("familyName", googleUserInfo.getFamilyName());
+		attributes.put("picture", googleUserInfo.getPicture());
+		attributes.put("locale", googleUserInfo.getLocale());
+
+		return OAuthUserProfile.builder()
+				.provider(getProvider())
+				.id(googleUserInfo.getId())
+				.email(googleUserInfo.getEmail())
+				.name(googleUserInfo.getName())
+				.profileImage(googleUserInfo.getPicture())
+				.claims(claims)
+				.attributes(attributes)
+				.build();
+	}
 }
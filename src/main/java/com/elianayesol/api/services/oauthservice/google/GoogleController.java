@@ -1,17 +1,19 @@
 package com.elianayesol.api.services.oauthservice.google;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.view.RedirectView;
-import org.springframework.web.bind.annotation.CrossOrigin;
 
-import com.elianayesol.api.services.oauthservice.google.dto.GoogleUserInfo;
+import com.elianayesol.api.config.logging.LogMarkers;
 import com.elianayesol.api.services.oauthservice.google.dto.LoginResponse;
-import com.elianayesol.api.services.oauthservice.jwt.JwtTokenProvider;
-import com.elianayesol.api.services.oauthservice.jwt.JwtProperties;
-import com.elianayesol.api.services.oauthservice.token.TokenStorageService;
+import com.elianayesol.api.services.oauthservice.login.LoginMetrics;
+import com.elianayesol.api.services.oauthservice.login.OAuthLoginPipeline;
+import com.elianayesol.api.services.oauthservice.login.OAuthLoginResult;
+import com.elianayesol.api.services.oauthservice.login.OAuthUserProfile;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,13 +30,13 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/oauth/google")
 @Tag(name = "Google OAuth", description = "Google OAuth 인증 API")
-@CrossOrigin(origins = {"https://www.elianayesol.com", "https://elianayesol.com", "http://localhost:3000"}, allowCredentials = "true")
 public class GoogleController {
 
+	private static final Logger log = LoggerFactory.getLogger(GoogleController.class);
+
 	private final GoogleAuthService googleAuthService;
-	private final JwtTokenProvider jwtTokenProvider;
-	private final TokenStorageService tokenStorageService;
-	private final JwtProperties jwtProperties;
+	private final OAuthLoginPipeline oAuthLoginPipeline;
+	private final LoginMetrics loginMetrics;
 
 	// 프로덕션: FRONTEND_URL=https://www.elianayesol.com (환경 변수)
 	// 개발: FRONTEND_URL=http://localhost:3000 (.env 파일 또는 환경 변수)
@@ -43,14 +45,12 @@ public class GoogleController {
 	private String frontendUrl;
 
 	public GoogleController(
-			GoogleAuthService googleAuthService, 
-			JwtTokenProvider jwtTokenProvider,
-			TokenStorageService tokenStorageService,
-			JwtProperties jwtProperties) {
+			GoogleAuthService googleAuthService,
+			OAuthLoginPipeline oAuthLoginPipeline,
+			LoginMetrics loginMetrics) {
 		this.googleAuthService = googleAuthService;
-		this.jwtTokenProvider = jwtTokenProvider;
-		this.tokenStorageService = tokenStorageService;
-		this.jwtProperties = jwtProperties;
+		this.oAuthLoginPipeline = oAuthLoginPipeline;
+		this.loginMetrics = loginMetrics;
 	}
 
 	/**
@@ -76,17 +76,12 @@ public class GoogleController {
 		try {
 			String authUrl = googleAuthService.generateAuthUrl();
 			Map<String, String> response = new HashMap<>();
-
-			System.out.println("\n========================================");
-			System.out.println("🔄 [Google Auth URL] 인증 URL 생성");
-			System.out.println("========================================");
-			System.out.println("✅ [Success] Google 인증 URL 생성 성공");
-			System.out.println("   - Auth URL: " + authUrl);
-			System.out.println("========================================\n");
+			log.debug(LogMarkers.SAMPLED, "Google auth URL generated");
 
 			response.put("authUrl", authUrl);
 			return ResponseEntity.ok(response);
 		} catch (Exception e) {
+			log.error("Failed to generate Google auth URL", e);
 			Map<String, String> errorResponse = new HashMap<>();
 			errorResponse.put("error", "Google 인증 URL 생성 실패: " + e.getMessage());
 			return ResponseEntity.internalServerError().body(errorResponse);
@@ -98,83 +93,25 @@ public class GoogleController {
 	 */
 	@PostMapping("/login")
 	public ResponseEntity<LoginResponse> googleLogin(@RequestBody Map<String, String> body) {
-		System.out.println("\n========================================");
-		System.out.println("🔄 [Google Login] 로그인 요청 시작");
-		System.out.println("========================================");
-		
 		try {
 			// 1. 인가 코드와 state 추출
 			String code = body.get("code");
 			String state = body.get("state");
 			
-			System.out.println("🔄 [Step 1] 인가 코드 수신");
-			System.out.println("   - Code: " + (code != null ? code.substring(0, Math.min(20, code.length())) + "..." : "null"));
-			System.out.println("   - State: " + (state != null ? state : "null"));
-			
 			if (code == null || code.isEmpty()) {
-				System.out.println("❌[Error] 인가 코드가 없습니다.");
-				System.out.println("========================================\n");
+				log.warn("Google login rejected: authorization code is missing");
 				return ResponseEntity.badRequest().body(
 						new LoginResponse(false, "인가 코드가 필요합니다")
 				);
 			}
 
-			// 2. Google 액세스 토큰 요청
-			System.out.println("\n🔄 [Step 2] Google 액세스 토큰 요청 중..");
-			String googleAccessToken = googleAuthService.getAccessToken(code, state);
-			System.out.println("✅ [Step 2] Google 액세스 토큰 획득 성공");
-
-			// 3. Google 사용자 정보 조회
-			System.out.println("\n🔄 [Step 3] Google 사용자 정보 조회 중..");
-			GoogleUserInfo googleUserInfo = googleAuthService.getUserInfo(googleAccessToken);
-			System.out.println("✅ [Step 3] 사용자 정보 조회 성공");
-			System.out.println("   - Google ID: " + googleUserInfo.getId());
-			System.out.println("   - Email: " + googleUserInfo.getEmail());
-			System.out.println("   - Name: " + googleUserInfo.getName());
-
-			// 4. JWT 토큰 생성
-			System.out.println("\n🔄 [Step 4] JWT 토큰 생성 중..");
-			Map<String, Object> claims = new HashMap<>();
-			claims.put("googleId", googleUserInfo.getId());
-			claims.put("email", googleUserInfo.getEmail());
-			claims.put("name", googleUserInfo.getName());
-			
-			// Access Token 생성 (짧은 유효기간, 5-15분)
-			String jwtToken = jwtTokenProvider.generateAccessToken(googleUserInfo.getId(), claims);
-			// Refresh Token 생성 (긴 유효기간, HttpOnly 쿠키에 저장)
-			String refreshToken = jwtTokenProvider.generateRefreshToken(googleUserInfo.getId());
-			System.out.println("✅ [Step 4] JWT 토큰 생성 완료");
-			System.out.println("   - Access Token (전체): " + jwtToken);
-			System.out.println("   - Access Token (일부): " + jwtToken.substring(0, Math.min(50, jwtToken.length())) + "...");
-			System.out.println("   - Refresh Token (전체): " + refreshToken);
-			System.out.println("   - Refresh Token (일부): " + refreshToken.substring(0, Math.min(50, refreshToken.length())) + "...");
+			// 2. 로그인 파이프라인 (코드 교환 → 사용자 정보 → JWT 발급 → 토큰 저장)
+			OAuthLoginResult result = oAuthLoginPipeline.login("google", code, state);
+			OAuthUserProfile profile = result.getProfile();
+			String jwtToken = result.getAccessToken();
+			String refreshToken = result.getRefreshToken();
 
-			// 4-1. 토큰 저장
-			System.out.println("\n🔄 [Step 4-1] 토큰 저장 중..");
-			// Access Token을 Upstash Redis에 저장
-			tokenStorageService.saveAccessToken(googleUserInfo.getId(), jwtToken);
-			// Refresh Token을 Neon DB에 저장
-			java.time.LocalDateTime refreshTokenExpiresAt = java.time.LocalDateTime.now()
-				.plusSeconds(jwtProperties.getRefreshExpiration() / 1000);
-			tokenStorageService.saveRefreshToken(
-				googleUserInfo.getId(), 
-				refreshToken, 
-				"google", 
-				refreshTokenExpiresAt
-			);
-			System.out.println("✅ [Step 4-1] 토큰 저장 완료");
-
-			// 5. 사용자 정보 맵 생성
-			Map<String, Object> user = new HashMap<>();
-			user.put("googleId", googleUserInfo.getId());
-			user.put("email", googleUserInfo.getEmail());
-			user.put("name", googleUserInfo.getName());
-			user.put("givenName", googleUserInfo.getGivenName());
-			user.put("familyName", googleUserInfo.getFamilyName());
-			user.put("picture", googleUserInfo.getPicture());
-			user.put("locale", googleUserInfo.getLocale());
-
-			// 6. 응답 생성
+			// 3. 응답 생성
 			LoginResponse response = new LoginResponse();
 			response.setSuccess(true);
 			response.setMessage("Google 로그인 성공");
@@ -182,26 +119,15 @@ public class GoogleController {
 			response.setRefreshToken(refreshToken);
 			response.setTokenType("Bearer");
 			response.setExpiresIn(86400000L); // 24시간
-		response.setUser(user);
-		String callbackUrl = frontendUrl + "/oauth/google/callback";
-		response.setRedirectUrl(callbackUrl); // 프론트엔드 콜백 URL
-
-		System.out.println("\n✅ [Success] Google 로그인 성공!");
-		System.out.println("   - 사용자: " + googleUserInfo.getName() + " (" + googleUserInfo.getEmail() + ")");
-		System.out.println("   - 리디렉션 URL: " + callbackUrl);
-		System.out.println("========================================\n");
+			response.setUser(profile.getAttributes());
+			String callbackUrl = frontendUrl + "/oauth/google/callback";
+			response.setRedirectUrl(callbackUrl); // 프론트엔드 콜백 URL
 
+			log.info(LogMarkers.SAMPLED, "Google login succeeded: googleId={}", profile.getId());
 			return ResponseEntity.ok(response);
 
 		} catch (Exception e) {
-			System.out.println("\n❌ [Error] Google 로그인 처리 중 오류 발생");
-			System.out.println("   - 오류 메시지: " + e.getMessage());
-			if (e.getCause() != null) {
-				System.out.println("   - 원인: " + e.getCause().getMessage());
-			}
-			e.printStackTrace();
-			System.out.println("========================================\n");
-			
+			log.error("Google login failed", e);
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
 					new LoginResponse(false, "Google 로그인 처리 중 오류가 발생했습니다: " + e.getMessage())
 			);
@@ -219,101 +145,50 @@ public class GoogleController {
 			@RequestParam(required = false) String error,
 			@RequestHeader(value = "Referer", required = false) String referer) {
 		
-		System.out.println("\n========================================");
-		System.out.println("🔄 [Google Callback] 콜백 요청 수신 (GET)");
-		System.out.println("========================================");
-		
 		// 환경 변수에서 프론트엔드 URL 가져오기
 		String baseUrl = frontendUrl;
-		String callbackPath = "/oauth/google/callback";
 		
 		if (error != null) {
-			System.out.println("❌❌[Error] Google 로그인 실패: " + error);
-			System.out.println("========================================\n");
+			log.warn("Google callback returned an error: {}", error);
 			// 에러 시 프론트엔드 메인 페이지로 리디렉션
 			return new RedirectView(baseUrl + "/?error=" + URLEncoder.encode(error, StandardCharsets.UTF_8));
 		}
 
 		if (code == null || code.isEmpty()) {
-			System.out.println("❌❌[Error] 인가 코드가 없습니다.");
-			System.out.println("========================================\n");
+			log.warn("Google callback rejected: authorization code is missing");
 			// 에러 시 프론트엔드 메인 페이지로 리디렉션
 			return new RedirectView(baseUrl + "/?error=" + URLEncoder.encode("인가 코드가 필요합니다", StandardCharsets.UTF_8));
 		}
 
 		try {
-			// 1. Google 액세스 토큰 요청
-			System.out.println("\n🔄 [Step 1] Google 액세스 토큰 요청 중..");
-			String googleAccessToken = googleAuthService.getAccessToken(code, state);
-			System.out.println("✅ [Step 1] Google 액세스 토큰 획득 성공");
-
-			// 2. Google 사용자 정보 조회
-			System.out.println("\n🔄 [Step 2] Google 사용자 정보 조회 중..");
-			GoogleUserInfo googleUserInfo = googleAuthService.getUserInfo(googleAccessToken);
-			System.out.println("✅ [Step 2] 사용자 정보 조회 성공");
-			System.out.println("   - Google ID: " + googleUserInfo.getId());
-			System.out.println("   - Email: " + googleUserInfo.getEmail());
-			System.out.println("   - Name: " + googleUserInfo.getName());
-
-			// 3. JWT 토큰 생성
-			System.out.println("\n🔄 [Step 3] JWT 토큰 생성 중..");
-			Map<String, Object> claims = new HashMap<>();
-			claims.put("googleId", googleUserInfo.getId());
-			claims.put("email", googleUserInfo.getEmail());
-			claims.put("name", googleUserInfo.getName());
-			
-			// Access Token 생성 (짧은 유효기간, 5-15분)
-			String jwtToken = jwtTokenProvider.generateAccessToken(googleUserInfo.getId(), claims);
-			// Refresh Token 생성 (긴 유효기간, HttpOnly 쿠키에 저장)
-			String refreshToken = jwtTokenProvider.generateRefreshToken(googleUserInfo.getId());
-			System.out.println("✅ [Step 3] JWT 토큰 생성 완료");
-			System.out.println("   - Access Token (전체): " + jwtToken);
-			System.out.println("   - Access Token (일부): " + jwtToken.substring(0, Math.min(50, jwtToken.length())) + "...");
-			System.out.println("   - Refresh Token (전체): " + refreshToken);
-			System.out.println("   - Refresh Token (일부): " + refreshToken.substring(0, Math.min(50, refreshToken.length())) + "...");
-
-			// 3-1. 토큰 저장
-			System.out.println("\n🔄 [Step 3-1] 토큰 저장 중..");
-			// Access Token을 Upstash Redis에 저장
-			tokenStorageService.saveAccessToken(googleUserInfo.getId(), jwtToken);
-			// Refresh Token을 Neon DB에 저장
-			java.time.LocalDateTime refreshTokenExpiresAt = java.time.LocalDateTime.now()
-				.plusSeconds(jwtProperties.getRefreshExpiration() / 1000);
-			tokenStorageService.saveRefreshToken(
-				googleUserInfo.getId(), 
-				refreshToken, 
-				"google", 
-				refreshTokenExpiresAt
-			);
-			System.out.println("✅ [Step 3-1] 토큰 저장 완료");
+			// 1. 로그인 파이프라인 (코드 교환 → 사용자 정보 → JWT 발급 → 토큰 저장)
+			OAuthLoginResult result = oAuthLoginPipeline.login("google", code, state);
+			OAuthUserProfile profile = result.getProfile();
+			String jwtToken = result.getAccessToken();
+			String refreshToken = result.getRefreshToken();
 
 			// 토큰을 쿼리 파라미터로 전달하여 콜백 페이지로 리디렉션
 			// 콜백 페이지에서 토큰을 받아 localStorage에 저장하고 성공 페이지 표시
-			String redirectUrl = baseUrl + callbackPath + 
-				"?token=" + URLEncoder.encode(jwtToken, StandardCharsets.UTF_8) +
-				"&refreshToken=" + URLEncoder.encode(refreshToken, StandardCharsets.UTF_8) +
-				"&success=true";
+			String redirectUrl = loginMetrics.time("google", "redirect", () -> buildSuccessRedirect(jwtToken, refreshToken));
 
-			System.out.println("\n✅ [Success] Google 로그인 성공!");
-			System.out.println("   - 사용자: " + googleUserInfo.getName() + " (" + googleUserInfo.getEmail() + ")");
-			System.out.println("   - 리디렉션 URL: " + redirectUrl);
-			System.out.println("========================================\n");
-			
+			log.info(LogMarkers.SAMPLED, "Google login succeeded: googleId={}", profile.getId());
 			return new RedirectView(redirectUrl);
 			
 		} catch (Exception e) {
-			System.out.println("\n❌ [Error] Google 로그인 처리 중 오류 발생");
-			System.out.println("   - 오류 메시지: " + e.getMessage());
-			if (e.getCause() != null) {
-				System.out.println("   - 원인: " + e.getCause().getMessage());
-			}
-			e.printStackTrace();
-			System.out.println("========================================\n");
-			
+			log.error("Google login failed", e);
 			// 에러 시 프론트엔드 메인 페이지로 리디렉션
 			String errorMessage = URLEncoder.encode("Google 로그인 처리 중 오류가 발생했습니다: " + e.getMessage(), StandardCharsets.UTF_8);
 			return new RedirectView(baseUrl + "/?error=" + errorMessage);
 		}
 	}
 
+	/**
+	 * 로그인 성공 시 프론트엔드 콜백 URL 생성 (토큰을 쿼리 파라미터로 전달)
+	 */
+	String buildSuccessRedirect(String accessToken, String refreshToken) {
+		return frontendUrl + "/oauth/google/callback" +
+			"?token=" + URLEncoder.encode(accessToken, StandardCharsets.UTF_8) +
+			"&refreshToken=" + URLEncoder.encode(refreshToken, StandardCharsets.UTF_8) +
+			"&success=true";
+	}
 }
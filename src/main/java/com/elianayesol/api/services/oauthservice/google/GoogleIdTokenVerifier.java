@@ -0,0 +1,250 @@
+package com.elianayesol.api.services.oauthservice.google;
+
+import com.elianayesol.api.services.oauthservice.google.dto.GoogleUserInfo;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Google OIDC id_token 로컬 검증 (google.id-token.enabled=true 일 때만 활성화)
+ * - 서명(RS256)은 Google JWKS 공개키로 확인, iss / aud(client-id) / exp(허용 오차 60초) 확인
+ * - JWKS는 메모리에 보관하고 응답의 Cache-Control max-age 만료 전에 백그라운드에서 갱신 (기동 직후 첫 조회)
+ *   (처음 보는 kid는 키 교체로 보고 즉시 한 번 다시 받음, 최소 간격 jwks-min-refresh-interval - 모르는 kid가 쏟아져도
+ *   간격마다 요청은 한 번, 동시에 온 갱신은 진행 중인 요청 하나를 함께 기다림)
+ * - 검증한 클레임으로 GoogleUserInfo를 만든다 (sub == userinfo의 id)
+ * - 지표: oauth.google.id-token{result=verified|invalid|unavailable}, oauth.google.jwks.keys
+ */
+@Component
+@ConditionalOnProperty(prefix = "google.id-token", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class GoogleIdTokenVerifier {
+
+	private static final Logger log = LoggerFactory.getLogger(GoogleIdTokenVerifier.class);
+
+	private static final Set<String> ISSUERS = Set.of("https://accounts.google.com", "accounts.google.com");
+	private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+	private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+	private final RestTemplate restTemplate;
+	private final ObjectMapper objectMapper;
+	private final String jwksUri;
+	private final Duration minRefreshInterval;
+	private final JwtParser parser;
+	private final Counter verified;
+	private final Counter invalid;
+	private final Counter unavailable;
+
+	private volatile Map<String, PublicKey> keys = Map.of();
+	// 다음 갱신 시각 (max-age의 80% 지점), 마지막 갱신 시도 시각
+	private volatile long refreshAtMillis;
+	private volatile long lastFetchMillis;
+	// 진행 중인 JWKS 요청 (없으면 null)
+	private final AtomicReference<CompletableFuture<Boolean>> inFlight = new AtomicReference<>();
+
+	public GoogleIdTokenVerifier(
+			RestTemplate restTemplate,
+			ObjectMapper objectMapper,
+			MeterRegistry meterRegistry,
+			@Value("${google.client-id}") String clientId,
+			@Value("${google.id-token.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri,
+			@Value("${google.id-token.jwks-min-refresh-interval:30s}") Duration minRefreshInterval) {
+		this.restTemplate = restTemplate;
+		this.objectMapper = objectMapper;
+		this.jwksUri = jwksUri;
+		this.minRefreshInterval = minRefreshInterval;
+		this.parser = Jwts.parser()
+				.keyLocator(new JwksKeyLocator())
+				.requireAudience(clientId)
+				.clockSkewSeconds(60)
+				.build();
+		this.verified = counter(meterRegistry, "verified");
+		this.invalid = counter(meterRegistry, "invalid");
+		this.unavailable = counter(meterRegistry, "unavailable");
+		Gauge.builder("oauth.google.jwks.keys", this, verifier -> verifier.keys.size())
+				.register(meterRegistry);
+	}
+
+	/**
+	 * id_token 검증 후 사용자 정보 생성
+	 * @return 검증에 실패했거나 JWKS를 받을 수 없으면 null (호출 측은 userinfo API로 대체)
+	 */
+	public GoogleUserInfo verify(String idToken) {
+		if (idToken == null || idToken.isEmpty()) {
+			return null;
+		}
+		if (keys.isEmpty() && !refresh()) {
+			unavailable.increment();
+			return null;
+		}
+		try {
+			Claims claims = parser.parseSignedClaims(idToken).getPayload();
+			if (!ISSUERS.contains(claims.getIssuer())) {
+				throw new IllegalArgumentException("Unexpected id_token issuer: " + claims.getIssuer());
+			}
+			verified.increment();
+			return toUserInfo(claims);
+		} catch (Exception e) {
+			invalid.increment();
+			log.warn("Google id_token verification failed: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * max-age 만료 전에 JWKS 갱신 (Google은 키를 교체하기 전에 새 키를 먼저 게시한다)
+	 */
+	@Scheduled(fixedDelayString = "${google.id-token.jwks-refresh-check:60s}")
+	public void refreshIfStale() {
+		if (System.currentTimeMillis() >= refreshAtMillis) {
+			refresh();
+		}
+	}
+
+	/**
+	 * JWKS 다시 받기 (최소 간격 이내면 건너뜀). 사용할 수 있는 키가 있으면 true
+	 * - 동시에 들어온 호출은 진행 중인 한 번의 요청을 함께 기다린다 (single-flight, 요청은 먼저 온 호출 스레드에서 실행)
+	 * - 갱신 중에도 이미 받은 키로 검증은 막히지 않는다 (키 맵은 받은 뒤 통째로 교체)
+	 */
+	boolean refresh() {
+		CompletableFuture<Boolean> flight = inFlight.get();
+		if (flight != null) {
+			return flight.join();
+		}
+		if (withinMinInterval()) {
+			return !keys.isEmpty();
+		}
+		CompletableFuture<Boolean> mine = new CompletableFuture<>();
+		flight = inFlight.compareAndExchange(null, mine);
+		if (flight != null) {
+			return flight.join();
+		}
+		try {
+			// 확인과 등록 사이에 다른 요청이 끝났을 수 있음
+			if (!withinMinInterval()) {
+				fetch();
+			}
+		} finally {
+			mine.complete(!keys.isEmpty());
+			inFlight.set(null);
+		}
+		return !keys.isEmpty();
+	}
+
+	private boolean withinMinInterval() {
+		return System.currentTimeMillis() - lastFetchMillis < minRefreshInterval.toMillis();
+	}
+
+	private void fetch() {
+		long now = System.currentTimeMillis();
+		lastFetchMillis = now;
+		try {
+			ResponseEntity<String> response = restTemplate.getForEntity(jwksUri, String.class);
+			Map<String, PublicKey> fetched = parseJwks(response.getBody());
+			if (!fetched.isEmpty()) {
+				keys = fetched;
+			}
+			Duration maxAge = maxAge(response.getHeaders().getCacheControl());
+			refreshAtMillis = now + maxAge.toMillis() * 8 / 10;
+			log.debug("Google JWKS refreshed: keys={}, maxAge={}", fetched.size(), maxAge);
+		} catch (Exception e) {
+			// 기존 키는 유지하고 최소 간격 뒤 다시 시도
+			refreshAtMillis = now + minRefreshInterval.toMillis();
+			log.warn("Google JWKS refresh failed: {}", e.getMessage());
+		}
+	}
+
+	private Map<String, PublicKey> parseJwks(String body) throws Exception {
+		Map<String, PublicKey> parsed = new HashMap<>();
+		if (body == null) {
+			return parsed;
+		}
+		KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+		Base64.Decoder decoder = Base64.getUrlDecoder();
+		for (JsonNode key : objectMapper.readTree(body).path("keys")) {
+			if (!"RSA".equals(key.path("kty").asText()) || !key.hasNonNull("kid")) {
+				continue;
+			}
+			BigInteger modulus = new BigInteger(1, decoder.decode(key.path("n").asText()));
+			BigInteger exponent = new BigInteger(1, decoder.decode(key.path("e").asText()));
+			parsed.put(key.get("kid").asText(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+		}
+		return Map.copyOf(parsed);
+	}
+
+	private static Duration maxAge(String cacheControl) {
+		if (cacheControl != null) {
+			Matcher matcher = MAX_AGE.matcher(cacheControl);
+			if (matcher.find()) {
+				return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+			}
+		}
+		return DEFAULT_MAX_AGE;
+	}
+
+	private static GoogleUserInfo toUserInfo(Claims claims) {
+		GoogleUserInfo userInfo = new GoogleUserInfo();
+		userInfo.setId(claims.getSubject());
+		userInfo.setEmail(claims.get("email", String.class));
+		Object emailVerified = claims.get("email_verified");
+		userInfo.setVerifiedEmail(emailVerified != null ? Boolean.valueOf(emailVerified.toString()) : null);
+		userInfo.setName(claims.get("name", String.class));
+		userInfo.setGivenName(claims.get("given_name", String.class));
+		userInfo.setFamilyName(claims.get("family_name", String.class));
+		userInfo.setPicture(claims.get("picture", String.class));
+		userInfo.setLocale(claims.get("locale", String.class));
+		return userInfo;
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("oauth.google.id-token")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 헤더의 kid로 공개키 선택 (없으면 JWKS를 한 번 다시 받아 확인)
+	 */
+	private final class JwksKeyLocator extends LocatorAdapter<Key> {
+		@Override
+		protected Key locate(ProtectedHeader header) {
+			String kid = header.getKeyId();
+			PublicKey key = keys.get(kid);
+			if (key == null && refresh()) {
+				key = keys.get(kid);
+			}
+			if (key == null) {
+				throw new IllegalArgumentException("Unknown id_token kid: " + kid);
+			}
+			return key;
+		}
+	}
+}
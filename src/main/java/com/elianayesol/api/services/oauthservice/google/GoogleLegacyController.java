@@ -1,36 +1,41 @@
 package com.elianayesol.api.services.oauthservice.google;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import com.elianayesol.api.services.oauthservice.google.dto.GoogleUserInfo;
-import com.elianayesol.api.services.oauthservice.jwt.JwtTokenProvider;
+import com.elianayesol.api.config.logging.LogMarkers;
+import com.elianayesol.api.services.oauthservice.login.LoginMetrics;
+import com.elianayesol.api.services.oauthservice.login.OAuthLoginPipeline;
+import com.elianayesol.api.services.oauthservice.login.OAuthLoginResult;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Google OAuth Legacy Callback Controller
  * Handles the legacy callback path /oauth/google/callback
  * This is needed because Google Cloud Console redirect URI is set to /oauth/google/callback
+ * Login runs through OAuthLoginPipeline like every other callback (stage metrics, id_token, token storage)
  */
 @RestController
 @RequestMapping("/oauth/google")
 public class GoogleLegacyController {
 
-	private final GoogleAuthService googleAuthService;
-	private final JwtTokenProvider jwtTokenProvider;
+	private static final Logger log = LoggerFactory.getLogger(GoogleLegacyController.class);
+
+	private final OAuthLoginPipeline oAuthLoginPipeline;
+	private final LoginMetrics loginMetrics;
 
 	@Value("${google.frontend-redirect-uri:http://localhost:3000/oauth/google/callback}")
 	private String frontendRedirectUri;
 
-	public GoogleLegacyController(GoogleAuthService googleAuthService, JwtTokenProvider jwtTokenProvider) {
-		this.googleAuthService = googleAuthService;
-		this.jwtTokenProvider = jwtTokenProvider;
+	public GoogleLegacyController(OAuthLoginPipeline oAuthLoginPipeline, LoginMetrics loginMetrics) {
+		this.oAuthLoginPipeline = oAuthLoginPipeline;
+		this.loginMetrics = loginMetrics;
 	}
 
 	/**
@@ -44,16 +49,11 @@ public class GoogleLegacyController {
 			@RequestParam(required = false) String error,
 			@RequestHeader(value = "Referer", required = false) String referer) {
 
-		System.out.println("\n========================================");
-		System.out.println("🔄 [Google Legacy Callback] Callback request received (GET)");
-		System.out.println("========================================");
-
 		String baseUrl = determineFrontendUrl(referer);
 		String callbackPath = "/oauth/google/callback";
 
 		if (error != null) {
-			System.out.println("❌ [Error] Google login failed: " + error);
-			System.out.println("========================================\n");
+			log.warn("Google legacy callback returned an error: {}", error);
 			String redirectUrl = baseUrl + "/?error=" + URLEncoder.encode(error, StandardCharsets.UTF_8);
 			return ResponseEntity.status(HttpStatus.FOUND)
 					.header("Location", redirectUrl)
@@ -61,8 +61,7 @@ public class GoogleLegacyController {
 		}
 
 		if (code == null || code.isEmpty()) {
-			System.out.println("❌ [Error] Authorization code is missing.");
-			System.out.println("========================================\n");
+			log.warn("Google legacy callback rejected: authorization code is missing");
 			String redirectUrl = baseUrl + "/?error=" + URLEncoder.encode("Authorization code is required.", StandardCharsets.UTF_8);
 			return ResponseEntity.status(HttpStatus.FOUND)
 					.header("Location", redirectUrl)
@@ -70,54 +69,24 @@ public class GoogleLegacyController {
 		}
 
 		try {
-			// 1. Get Google access token
-			System.out.println("\n🔄 [Step 1] Requesting Google access token...");
-			String googleAccessToken = googleAuthService.getAccessToken(code, state);
-			System.out.println("✅ [Step 1] Google access token obtained successfully");
-
-			// 2. Get Google user info
-			System.out.println("\n🔄 [Step 2] Retrieving Google user info...");
-			GoogleUserInfo googleUserInfo = googleAuthService.getUserInfo(googleAccessToken);
-			System.out.println("✅ [Step 2] User info retrieved successfully");
-			System.out.println("   - Google ID: " + googleUserInfo.getId());
-			System.out.println("   - Email: " + googleUserInfo.getEmail());
-			System.out.println("   - Name: " + googleUserInfo.getName());
-
-			// 3. Generate JWT token
-			System.out.println("\n🔄 [Step 3] Generating JWT token...");
-			Map<String, Object> claims = new HashMap<>();
-			claims.put("googleId", googleUserInfo.getId());
-			claims.put("email", googleUserInfo.getEmail());
-			claims.put("name", googleUserInfo.getName());
-
-			String jwtToken = jwtTokenProvider.generateAccessToken(googleUserInfo.getId(), claims);
-			String refreshToken = jwtTokenProvider.generateRefreshToken(googleUserInfo.getId());
-			System.out.println("✅ [Step 3] JWT token generated successfully");
+			// Same login pipeline as /api/oauth/google/callback (code exchange → id_token/user info → JWT → token storage)
+			OAuthLoginResult result = oAuthLoginPipeline.login("google", code, state);
+			String jwtToken = result.getAccessToken();
+			String refreshToken = result.getRefreshToken();
 
 			// Redirect to frontend with tokens
-			String redirectUrl = baseUrl + callbackPath +
+			String redirectUrl = loginMetrics.time("google", "redirect", () -> baseUrl + callbackPath +
 					"?token=" + URLEncoder.encode(jwtToken, StandardCharsets.UTF_8) +
 					"&refreshToken=" + URLEncoder.encode(refreshToken, StandardCharsets.UTF_8) +
-					"&success=true";
-
-			System.out.println("\n✅ [Success] Google login successful (legacy path)!");
-			System.out.println("   - User: " + googleUserInfo.getName() + " (" + googleUserInfo.getEmail() + ")");
-			System.out.println("   - Redirect URL: " + redirectUrl);
-			System.out.println("========================================\n");
+					"&success=true");
 
+			log.info(LogMarkers.SAMPLED, "Google login succeeded (legacy path): googleId={}", result.getProfile().getId());
 			return ResponseEntity.status(HttpStatus.FOUND)
 					.header("Location", redirectUrl)
 					.build();
 
 		} catch (Exception e) {
-			System.out.println("\n❌ [Error] Error occurred during Google login processing (legacy path)");
-			System.out.println("   - Error message: " + e.getMessage());
-			if (e.getCause() != null) {
-				System.out.println("   - Cause: " + e.getCause().getMessage());
-			}
-			e.printStackTrace();
-			System.out.println("========================================\n");
-
+			log.error("Google login failed (legacy path)", e);
 			String errorMessage = URLEncoder.encode("An error occurred during Google login processing: " + e.getMessage(), StandardCharsets.UTF_8);
 			String redirectUrl = baseUrl + "/?error=" + errorMessage;
 			return ResponseEntity.status(HttpStatus.FOUND)
@@ -0,0 +1,26 @@
+package com.elianayesol.api.services.oauthservice.google;
+
+import com.elianayesol.api.services.oauthservice.google.dto.GoogleUserInfo;
+import com.elianayesol.api.services.oauthservice.login.OAuthProviderToken;
+
+/**
+ * 검증된 id_token의 사용자 정보를 함께 담은 Google 토큰 (있으면 fetchProfile이 userinfo 호출을 생략)
+ */
+final class GoogleProviderToken extends OAuthProviderToken {
+
+	private final GoogleUserInfo verifiedUserInfo;
+
+	GoogleProviderToken(String accessToken, GoogleUserInfo verifiedUserInfo) {
+		super(accessToken, verifiedUserInfo.getId());
+		this.verifiedUserInfo = verifiedUserInfo;
+	}
+
+	GoogleUserInfo getVerifiedUserInfo() {
+		return verifiedUserInfo;
+	}
+
+	@Override
+	public boolean isProfileIncluded() {
+		return true;
+	}
+}
@@ -19,6 +19,10 @@ public class GoogleTokenResponse {
 	@JsonProperty("scope")
 	private String scope;
 
+	// scope에 openid가 있을 때만 내려옴 (GoogleIdTokenVerifier로 검증)
+	@JsonProperty("id_token")
+	private String idToken;
+
 	// Getters and Setters
 	public String getAccessToken() {
 		return accessToken;
@@ -59,5 +63,13 @@ public class GoogleTokenResponse {
 	public void setScope(String scope) {
 		this.scope = scope;
 	}
+
+	public String getIdToken() {
+		return idToken;
+	}
+
+	public void setIdToken(String idToken) {
+		this.idToken = idToken;
+	}
 }
 
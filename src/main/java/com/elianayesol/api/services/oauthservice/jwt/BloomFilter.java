@@ -0,0 +1,100 @@
+package com.elianayesol.api.services.oauthservice.jwt;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 문자열 Bloom filter (TokenRevocationRegistry용)
+ * - 비트 배치는 Redis 비트맵과 같다 (offset 0 = 첫 바이트의 최상위 비트)
+ *   그래서 Redis GET 결과를 그대로 읽고, SETBIT 한 위치를 그대로 반영할 수 있다
+ * - 해시: 원소의 SHA-256 앞 16바이트로 만든 두 값의 double hashing (모든 인스턴스에서 동일)
+ * - put은 동기화, mightContain은 락 없이 읽는다 (늦게 보이는 비트는 다음 호출에서 반영)
+ */
+public final class BloomFilter {
+
+	private final long bitCount;
+	private final int hashCount;
+	private final byte[] bits;
+
+	public BloomFilter(long bitCount, int hashCount) {
+		this(bitCount, hashCount, new byte[(int) ((bitCount + 7) / 8)]);
+	}
+
+	private BloomFilter(long bitCount, int hashCount, byte[] bits) {
+		if (bitCount <= 0 || hashCount <= 0) {
+			throw new IllegalArgumentException("bitCount and hashCount must be positive");
+		}
+		this.bitCount = bitCount;
+		this.hashCount = hashCount;
+		this.bits = bits;
+	}
+
+	/**
+	 * Redis 비트맵 바이트로 필터 생성 (짧으면 나머지는 0, 길면 잘라냄)
+	 */
+	public static BloomFilter fromBytes(long bitCount, int hashCount, byte[] source) {
+		byte[] bits = new byte[(int) ((bitCount + 7) / 8)];
+		if (source != null) {
+			System.arraycopy(source, 0, bits, 0, Math.min(source.length, bits.length));
+		}
+		return new BloomFilter(bitCount, hashCount, bits);
+	}
+
+	/**
+	 * 예상 원소 수와 오탐률에 맞는 비트 수
+	 */
+	public static long optimalBitCount(long expectedInsertions, double falsePositiveRate) {
+		return (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+	}
+
+	/**
+	 * 비트 수 대비 최적 해시 함수 개수
+	 */
+	public static int optimalHashCount(long expectedInsertions, long bitCount) {
+		return Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+	}
+
+	/**
+	 * 원소가 차지하는 비트 위치 (Redis SETBIT offset)
+	 */
+	public long[] offsets(String element) {
+		ByteBuffer digest = ByteBuffer.wrap(TokenDigest.sha256(element));
+		long h1 = digest.getLong();
+		long h2 = digest.getLong();
+		long[] offsets = new long[hashCount];
+		for (int i = 0; i < hashCount; i++) {
+			offsets[i] = Math.floorMod(h1 + i * h2, bitCount);
+		}
+		return offsets;
+	}
+
+	public synchronized void put(String element) {
+		for (long offset : offsets(element)) {
+			setBit(offset);
+		}
+	}
+
+	public synchronized void setBit(long offset) {
+		bits[(int) (offset >>> 3)] |= (byte) (0x80 >>> (offset & 7));
+	}
+
+	public boolean mightContain(String element) {
+		for (long offset : offsets(element)) {
+			if ((bits[(int) (offset >>> 3)] & (0x80 >>> (offset & 7))) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public synchronized byte[] toByteArray() {
+		return bits.clone();
+	}
+
+	public long getBitCount() {
+		return bitCount;
+	}
+
+	public int getHashCount() {
+		return hashCount;
+	}
+}
@@ -0,0 +1,43 @@
+package com.elianayesol.api.services.oauthservice.jwt;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * JWKS 공개키 엔드포인트
+ * - 다른 서비스가 네트워크 호출 없이 로컬에서 토큰을 검증할 수 있도록 공개키를 제공
+ * - 응답 본문/ETag는 JwtKeyRing에서 미리 만들어 둔 값을 그대로 사용 (If-None-Match 시 304)
+ */
+@RestController
+@Tag(name = "JWKS", description = "JWT 서명 공개키 API")
+public class JwksController {
+
+	private final JwtKeyRing keyRing;
+	private final CacheControl cacheControl;
+
+	public JwksController(JwtKeyRing keyRing, JwtProperties jwtProperties) {
+		this.keyRing = keyRing;
+		this.cacheControl = CacheControl
+				.maxAge(Duration.ofSeconds(jwtProperties.getSigning().getJwksMaxAgeSeconds()))
+				.cachePublic();
+	}
+
+	@Operation(
+		summary = "JWKS 조회",
+		description = "JWT 서명 검증용 공개키 목록(JWK Set)을 반환합니다."
+	)
+	@GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<byte[]> getJwks() {
+		return ResponseEntity.ok()
+				.cacheControl(cacheControl)
+				.eTag(keyRing.getJwksEtag())
+				.body(keyRing.getJwksJson());
+	}
+}
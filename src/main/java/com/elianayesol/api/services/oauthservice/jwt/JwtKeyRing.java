@@ -0,0 +1,223 @@
+package com.elianayesol.api.services.oauthservice.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 비대칭 서명 키 모음 (jwt.signing.algorithm = ES256 | EdDSA)
+ * - kid → 공개키 맵과 JWKS 응답(JSON, ETag)을 시작 시 한 번만 만든다
+ * - HMAC 모드에서는 비어 있고 JwtTokenProvider가 jwt.secret으로 서명한다
+ * - 비대칭 모드에서 키가 없으면 시작 실패 (jwt.signing.allow-ephemeral-keys=true 일 때만 임시 키 생성)
+ */
+@Component
+@Slf4j
+public class JwtKeyRing {
+
+	private static final int ED25519_KEY_LENGTH = 32;
+	private static final int P256_COORDINATE_LENGTH = 32;
+
+	private final SignatureAlgorithm algorithm;
+	private final String activeKid;
+	private final PrivateKey activeSigningKey;
+	private final Map<String, PublicKey> verificationKeys;
+	private final byte[] jwksJson;
+	private final String jwksEtag;
+
+	public JwtKeyRing(JwtProperties jwtProperties) {
+		JwtProperties.Signing signing = jwtProperties.getSigning();
+		this.algorithm = resolveAlgorithm(signing.getAlgorithm());
+
+		Map<String, PublicKey> publicKeys = new HashMap<>();
+		Map<String, PrivateKey> privateKeys = new HashMap<>();
+		String kid = signing.getActiveKid();
+		if (algorithm != null) {
+			for (JwtProperties.SigningKey key : signing.getKeys()) {
+				publicKeys.put(key.getKid(), parsePublicKey(key.getPublicKey()));
+				if (key.getPrivateKey() != null && !key.getPrivateKey().isBlank()) {
+					privateKeys.put(key.getKid(), parsePrivateKey(key.getPrivateKey()));
+				}
+			}
+			if (publicKeys.isEmpty()) {
+				// 임시 키는 인스턴스마다 다르고 재시작하면 사라지므로 개발/테스트에서 명시적으로 허용할 때만
+				if (!signing.isAllowEphemeralKeys()) {
+					throw new IllegalStateException("jwt.signing.keys must be configured for " + signing.getAlgorithm()
+							+ " (set jwt.signing.allow-ephemeral-keys=true only for local development/tests)");
+				}
+				KeyPair keyPair = generateKeyPair();
+				kid = "ephemeral-" + UUID.randomUUID();
+				publicKeys.put(kid, keyPair.getPublic());
+				privateKeys.put(kid, keyPair.getPrivate());
+				log.warn("No jwt.signing.keys configured for {}; using ephemeral key {}", signing.getAlgorithm(), kid);
+			}
+			if (kid == null || !privateKeys.containsKey(kid)) {
+				throw new IllegalStateException("jwt.signing.active-kid must name a key with a private-key: " + kid);
+			}
+		}
+
+		this.activeKid = algorithm != null ? kid : null;
+		this.activeSigningKey = algorithm != null ? privateKeys.get(kid) : null;
+		this.verificationKeys = Map.copyOf(publicKeys);
+		this.jwksJson = serializeJwks(publicKeys);
+		this.jwksEtag = "\"" + Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(Arrays.copyOf(TokenDigest.sha256(new String(jwksJson, StandardCharsets.UTF_8)), 16)) + "\"";
+	}
+
+	/**
+	 * 비대칭 서명 모드 여부 (false면 HMAC)
+	 */
+	public boolean isAsymmetric() {
+		return algorithm != null;
+	}
+
+	public SignatureAlgorithm getAlgorithm() {
+		return algorithm;
+	}
+
+	public String getActiveKid() {
+		return activeKid;
+	}
+
+	public PrivateKey getActiveSigningKey() {
+		return activeSigningKey;
+	}
+
+	/**
+	 * kid에 해당하는 검증용 공개키 (없으면 null)
+	 */
+	public PublicKey getVerificationKey(String kid) {
+		return verificationKeys.get(kid);
+	}
+
+	public byte[] getJwksJson() {
+		return jwksJson;
+	}
+
+	public String getJwksEtag() {
+		return jwksEtag;
+	}
+
+	private static SignatureAlgorithm resolveAlgorithm(String name) {
+		if (name == null || name.isBlank() || name.equalsIgnoreCase("HMAC")) {
+			return null;
+		}
+		if (name.equalsIgnoreCase("ES256")) {
+			return Jwts.SIG.ES256;
+		}
+		if (name.equalsIgnoreCase("EdDSA")) {
+			return Jwts.SIG.EdDSA;
+		}
+		throw new IllegalStateException("Unsupported jwt.signing.algorithm: " + name);
+	}
+
+	private String keyFactoryAlgorithm() {
+		return algorithm == Jwts.SIG.ES256 ? "EC" : "Ed25519";
+	}
+
+	private KeyPair generateKeyPair() {
+		try {
+			if (algorithm == Jwts.SIG.ES256) {
+				KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+				generator.initialize(new ECGenParameterSpec("secp256r1"));
+				return generator.generateKeyPair();
+			}
+			return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Failed to generate JWT signing key", e);
+		}
+	}
+
+	private PublicKey parsePublicKey(String encoded) {
+		try {
+			return KeyFactory.getInstance(keyFactoryAlgorithm()).generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Invalid JWT public key", e);
+		}
+	}
+
+	private PrivateKey parsePrivateKey(String encoded) {
+		try {
+			return KeyFactory.getInstance(keyFactoryAlgorithm()).generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Invalid JWT private key", e);
+		}
+	}
+
+	private static byte[] decodePem(String pem) {
+		String base64 = pem.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+		return Base64.getDecoder().decode(base64);
+	}
+
+	private byte[] serializeJwks(Map<String, PublicKey> publicKeys) {
+		List<Map<String, String>> keys = new ArrayList<>();
+		for (Map.Entry<String, PublicKey> entry : publicKeys.entrySet()) {
+			keys.add(toJwk(entry.getKey(), entry.getValue()));
+		}
+		try {
+			return new ObjectMapper().writeValueAsBytes(Map.of("keys", keys));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to serialize JWKS", e);
+		}
+	}
+
+	private Map<String, String> toJwk(String kid, PublicKey publicKey) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		Map<String, String> jwk = new LinkedHashMap<>();
+		jwk.put("kid", kid);
+		jwk.put("use", "sig");
+		if (publicKey instanceof ECPublicKey ecKey) {
+			jwk.put("kty", "EC");
+			jwk.put("crv", "P-256");
+			jwk.put("alg", "ES256");
+			jwk.put("x", encoder.encodeToString(unsigned(ecKey.getW().getAffineX(), P256_COORDINATE_LENGTH)));
+			jwk.put("y", encoder.encodeToString(unsigned(ecKey.getW().getAffineY(), P256_COORDINATE_LENGTH)));
+		} else {
+			// X.509 SubjectPublicKeyInfo의 마지막 32바이트가 Ed25519 원시 공개키
+			byte[] encoded = publicKey.getEncoded();
+			jwk.put("kty", "OKP");
+			jwk.put("crv", "Ed25519");
+			jwk.put("alg", "EdDSA");
+			jwk.put("x", encoder.encodeToString(
+					Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length)));
+		}
+		return jwk;
+	}
+
+	private static byte[] unsigned(BigInteger value, int length) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length == length) {
+			return bytes;
+		}
+		byte[] result = new byte[length];
+		if (bytes.length > length) {
+			System.arraycopy(bytes, bytes.length - length, result, 0, length);
+		} else {
+			System.arraycopy(bytes, 0, result, length - bytes.length, bytes.length);
+		}
+		return result;
+	}
+}
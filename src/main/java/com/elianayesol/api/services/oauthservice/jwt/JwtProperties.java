@@ -3,12 +3,19 @@ package com.elianayesol.api.services.oauthservice.jwt;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 @ConfigurationProperties(prefix = "jwt")
 public class JwtProperties {
 	private String secret;
 	private Long expiration;
 	private Long refreshExpiration;
+	private Cache cache = new Cache();
+	private Signing signing = new Signing();
+	private Revocation revocation = new Revocation();
 
 	public String getSecret() {
 		return secret;
@@ -33,5 +40,188 @@ public class JwtProperties {
 	public void setRefreshExpiration(Long refreshExpiration) {
 		this.refreshExpiration = refreshExpiration;
 	}
-}
 
+	public Cache getCache() {
+		return cache;
+	}
+
+	public void setCache(Cache cache) {
+		this.cache = cache;
+	}
+
+	public Signing getSigning() {
+		return signing;
+	}
+
+	public void setSigning(Signing signing) {
+		this.signing = signing;
+	}
+
+	public Revocation getRevocation() {
+		return revocation;
+	}
+
+	public void setRevocation(Revocation revocation) {
+		this.revocation = revocation;
+	}
+
+	/**
+	 * 검증된 토큰 캐시 설정 (jwt.cache.*)
+	 */
+	public static class Cache {
+		private boolean enabled = false;
+		private long maximumSize = 10000;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public long getMaximumSize() {
+			return maximumSize;
+		}
+
+		public void setMaximumSize(long maximumSize) {
+			this.maximumSize = maximumSize;
+		}
+	}
+
+	/**
+	 * 서명 키 설정 (jwt.signing.*)
+	 * - algorithm: HMAC (jwt.secret 사용, 기본값) | ES256 | EdDSA
+	 * - keys: kid별 키 (PEM 또는 Base64). private-key가 없는 키는 검증 전용 (교체 중인 이전 키)
+	 * - legacy-hmac-until: 비대칭 모드에서 kid 없는 HMAC 토큰을 이 시각까지만 허용 (없으면 거부)
+	 * - allow-ephemeral-keys: keys 없이 임시 키 사용 (개발/테스트 전용)
+	 */
+	public static class Signing {
+		private String algorithm = "HMAC";
+		private String activeKid;
+		private long jwksMaxAgeSeconds = 300;
+		private Instant legacyHmacUntil;
+		private boolean allowEphemeralKeys = false;
+		private List<SigningKey> keys = new ArrayList<>();
+
+		public String getAlgorithm() {
+			return algorithm;
+		}
+
+		public void setAlgorithm(String algorithm) {
+			this.algorithm = algorithm;
+		}
+
+		public String getActiveKid() {
+			return activeKid;
+		}
+
+		public void setActiveKid(String activeKid) {
+			this.activeKid = activeKid;
+		}
+
+		public long getJwksMaxAgeSeconds() {
+			return jwksMaxAgeSeconds;
+		}
+
+		public void setJwksMaxAgeSeconds(long jwksMaxAgeSeconds) {
+			this.jwksMaxAgeSeconds = jwksMaxAgeSeconds;
+		}
+
+		public Instant getLegacyHmacUntil() {
+			return legacyHmacUntil;
+		}
+
+		public void setLegacyHmacUntil(Instant legacyHmacUntil) {
+			this.legacyHmacUntil = legacyHmacUntil;
+		}
+
+		public boolean isAllowEphemeralKeys() {
+			return allowEphemeralKeys;
+		}
+
+		public void setAllowEphemeralKeys(boolean allowEphemeralKeys) {
+			this.allowEphemeralKeys = allowEphemeralKeys;
+		}
+
+		public List<SigningKey> getKeys() {
+			return keys;
+		}
+
+		public void setKeys(List<SigningKey> keys) {
+			this.keys = keys;
+		}
+	}
+
+	public static class SigningKey {
+		private String kid;
+		private String privateKey;
+		private String publicKey;
+
+		public String getKid() {
+			return kid;
+		}
+
+		public void setKid(String kid) {
+			this.kid = kid;
+		}
+
+		public String getPrivateKey() {
+			return privateKey;
+		}
+
+		public void setPrivateKey(String privateKey) {
+			this.privateKey = privateKey;
+		}
+
+		public String getPublicKey() {
+			return publicKey;
+		}
+
+		public void setPublicKey(String publicKey) {
+			this.publicKey = publicKey;
+		}
+	}
+
+	/**
+	 * 폐기된 토큰(jti) 필터 설정 (jwt.revocation.*)
+	 */
+	public static class Revocation {
+		private boolean enabled = false;
+		private long expectedInsertions = 100000;
+		private double falsePositiveRate = 0.01;
+		private long rebuildIntervalMillis = 600000;
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public long getExpectedInsertions() {
+			return expectedInsertions;
+		}
+
+		public void setExpectedInsertions(long expectedInsertions) {
+			this.expectedInsertions = expectedInsertions;
+		}
+
+		public double getFalsePositiveRate() {
+			return falsePositiveRate;
+		}
+
+		public void setFalsePositiveRate(double falsePositiveRate) {
+			this.falsePositiveRate = falsePositiveRate;
+		}
+
+		public long getRebuildIntervalMillis() {
+			return rebuildIntervalMillis;
+		}
+
+		public void setRebuildIntervalMillis(long rebuildIntervalMillis) {
+			this.rebuildIntervalMillis = rebuildIntervalMillis;
+		}
+	}
+}
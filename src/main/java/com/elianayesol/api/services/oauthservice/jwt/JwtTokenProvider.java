@@ -1,60 +1,101 @@
 package com.elianayesol.api.services.oauthservice.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.InvalidKeyException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.MacAlgorithm;
+import io.jsonwebtoken.security.SecurityException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Instant;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
 	private final JwtProperties jwtProperties;
-	private SecretKey secretKey;
+	private final JwtKeyRing keyRing;
+	private final SecretKey secretKey;
+	// 서명 알고리즘과 파서는 시작 시 한 번만 만들고 재사용 (JwtParser는 불변/스레드 안전)
+	private final MacAlgorithm signatureAlgorithm;
+	private final JwtParser parser;
+	// 선택 사항: jwt.cache.enabled=true 일 때만 주입됨
+	private VerifiedTokenCache verifiedTokenCache;
+	// 선택 사항: jwt.revocation.enabled=true 일 때만 주입됨
+	private TokenRevocationRegistry revocationRegistry;
 
 	public JwtTokenProvider(JwtProperties jwtProperties) {
+		this(jwtProperties, new JwtKeyRing(jwtProperties));
+	}
+
+	@Autowired
+	public JwtTokenProvider(JwtProperties jwtProperties, JwtKeyRing keyRing) {
 		this.jwtProperties = jwtProperties;
+		this.keyRing = keyRing;
 		this.secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+		this.signatureAlgorithm = resolveAlgorithm(secretKey);
+		this.parser = Jwts.parser()
+				.keyLocator(new KidKeyLocator())
+				.build();
+	}
+
+	@Autowired(required = false)
+	public void setVerifiedTokenCache(VerifiedTokenCache verifiedTokenCache) {
+		this.verifiedTokenCache = verifiedTokenCache;
+	}
+
+	@Autowired(required = false)
+	public void setRevocationRegistry(TokenRevocationRegistry revocationRegistry) {
+		this.revocationRegistry = revocationRegistry;
 	}
 
 	/**
 	 * Generate Access Token (JWT Token)
+	 * - jti는 폐기 레지스트리(TokenRevocationRegistry)의 키로 쓰인다
 	 */
 	public String generateAccessToken(String subject, Map<String, Object> claims) {
-		Date now = new Date();
-		Date expiryDate = new Date(now.getTime() + jwtProperties.getExpiration());
+		long now = System.currentTimeMillis();
 
-		// Include subject in Claims
-		Map<String, Object> finalClaims = claims != null ? new HashMap<>(claims) : new HashMap<>();
-		finalClaims.put("sub", subject);
-
-		return Jwts.builder()
+		// claims를 복사하지 않고 바로 빌더에 넘긴 뒤 subject로 덮어쓴다
+		JwtBuilder builder = Jwts.builder();
+		if (claims != null) {
+			builder.claims(claims);
+		}
+		return sign(builder
+				.id(UUID.randomUUID().toString())
 				.subject(subject)
-				.claims(finalClaims)
-				.issuedAt(now)
-				.expiration(expiryDate)
-				.signWith(secretKey)
-				.compact();
+				.issuedAt(new Date(now))
+				.expiration(new Date(now + jwtProperties.getExpiration())));
 	}
 
 	/**
 	 * Generate Refresh Token
+	 * - jti로 매번 다른 토큰을 만든다 (같은 초에 회전해도 이전 토큰과 구분)
 	 */
 	public String generateRefreshToken(String subject) {
-		Date now = new Date();
-		Date expiryDate = new Date(now.getTime() + jwtProperties.getRefreshExpiration());
+		long now = System.currentTimeMillis();
 
-		return Jwts.builder()
+		return sign(Jwts.builder()
+				.id(UUID.randomUUID().toString())
 				.subject(subject)
-				.issuedAt(now)
-				.expiration(expiryDate)
-				.signWith(secretKey)
-				.compact();
+				.issuedAt(new Date(now))
+				.expiration(new Date(now + jwtProperties.getRefreshExpiration())));
 	}
 
 	/**
@@ -69,25 +110,125 @@ public class JwtTokenProvider {
 	 * Extract Claims from JWT Token
 	 */
 	public Claims getClaimsFromToken(String token) {
-		return Jwts.parser()
-				.verifyWith(secretKey)
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
+		if (verifiedTokenCache != null) {
+			Claims cached = verifiedTokenCache.get(token);
+			if (cached != null) {
+				return cached;
+			}
+		}
+		return parseAndCache(token);
 	}
 
 	/**
 	 * Validate JWT Token
 	 */
 	public boolean validateToken(String token) {
+		return parseAndValidate(token).isValid();
+	}
+
+	/**
+	 * 한 번의 파싱으로 서명/만료를 검증하고 Claims 또는 실패 사유를 반환
+	 */
+	public JwtValidationResult parseAndValidate(String token) {
+		if (token == null || token.isBlank()) {
+			return JwtValidationResult.invalid(JwtValidationResult.Failure.EMPTY);
+		}
+		if (verifiedTokenCache != null) {
+			Claims cached = verifiedTokenCache.get(token);
+			if (cached != null) {
+				return checkRevocation(cached);
+			}
+		}
 		try {
-			Jwts.parser()
-					.verifyWith(secretKey)
-					.build()
-					.parseSignedClaims(token);
+			return checkRevocation(parseAndCache(token));
+		} catch (ExpiredJwtException e) {
+			return JwtValidationResult.invalid(JwtValidationResult.Failure.EXPIRED);
+		} catch (SecurityException e) {
+			return JwtValidationResult.invalid(JwtValidationResult.Failure.INVALID_SIGNATURE);
+		} catch (MalformedJwtException e) {
+			return JwtValidationResult.invalid(JwtValidationResult.Failure.MALFORMED);
+		} catch (UnsupportedJwtException e) {
+			return JwtValidationResult.invalid(JwtValidationResult.Failure.UNSUPPORTED);
+		} catch (JwtException | IllegalArgumentException e) {
+			return JwtValidationResult.invalid(JwtValidationResult.Failure.INVALID);
+		}
+	}
+
+	/**
+	 * 서명이 유효한 토큰이라도 폐기된 jti면 거부 (캐시된 Claims 포함)
+	 */
+	private JwtValidationResult checkRevocation(Claims claims) {
+		if (revocationRegistry != null && claims.getId() != null && revocationRegistry.isRevoked(claims.getId())) {
+			return JwtValidationResult.invalid(JwtValidationResult.Failure.REVOKED);
+		}
+		return JwtValidationResult.valid(claims);
+	}
+
+	/**
+	 * 비대칭 모드면 활성 kid의 개인키로, 아니면 jwt.secret(HMAC)으로 서명
+	 */
+	private String sign(JwtBuilder builder) {
+		if (keyRing.isAsymmetric()) {
+			return builder.header().keyId(keyRing.getActiveKid()).and()
+					.signWith(keyRing.getActiveSigningKey(), keyRing.getAlgorithm())
+					.compact();
+		}
+		return builder.signWith(secretKey, signatureAlgorithm).compact();
+	}
+
+	private Claims parseAndCache(String token) {
+		Claims claims = parser.parseSignedClaims(token).getPayload();
+		if (verifiedTokenCache != null) {
+			verifiedTokenCache.put(token, claims);
+		}
+		return claims;
+	}
+
+	/**
+	 * 키 길이에 맞는 HMAC 알고리즘 (Keys.hmacShaKeyFor와 동일한 규칙)
+	 */
+	private static MacAlgorithm resolveAlgorithm(SecretKey key) {
+		return switch (key.getAlgorithm()) {
+			case "HmacSHA512" -> Jwts.SIG.HS512;
+			case "HmacSHA384" -> Jwts.SIG.HS384;
+			default -> Jwts.SIG.HS256;
+		};
+	}
+
+	/**
+	 * kid 없는 HMAC 토큰 허용 여부
+	 * - HMAC 모드: 항상 허용
+	 * - 비대칭 모드: jwt.signing.legacy-hmac-until 이전까지만 (전환 기간 동안 이미 발급된 토큰용)
+	 */
+	private boolean acceptsHmac() {
+		if (!keyRing.isAsymmetric()) {
 			return true;
-		} catch (Exception e) {
-			return false;
+		}
+		Instant until = jwtProperties.getSigning().getLegacyHmacUntil();
+		return until != null && Instant.now().isBefore(until);
+	}
+
+	/**
+	 * 헤더의 kid로 검증 키 선택
+	 * - kid 없음: HMAC 토큰 (jwt.secret, acceptsHmac일 때만)
+	 * - kid 있음: JwtKeyRing에 미리 만들어 둔 공개키 맵에서 조회
+	 */
+	private final class KidKeyLocator extends LocatorAdapter<Key> {
+
+		@Override
+		protected Key locate(JwsHeader header) {
+			String kid = header.getKeyId();
+			if (kid == null) {
+				if (!acceptsHmac()) {
+					throw new InvalidKeyException("JWT without key id is not accepted in asymmetric signing mode");
+				}
+				return secretKey;
+			}
+			PublicKey publicKey = keyRing.getVerificationKey(kid);
+			if (publicKey == null) {
+				throw new InvalidKeyException("Unknown JWT key id: " + kid);
+			}
+			return publicKey;
 		}
 	}
 }
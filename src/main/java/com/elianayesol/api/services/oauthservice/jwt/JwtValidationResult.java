@@ -0,0 +1,51 @@
+package com.elianayesol.api.services.oauthservice.jwt;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JWT 검증 결과
+ * - 성공 시 Claims, 실패 시 실패 사유(Failure)를 담는다
+ */
+public final class JwtValidationResult {
+
+	/**
+	 * 검증 실패 사유
+	 */
+	public enum Failure {
+		EMPTY,
+		EXPIRED,
+		INVALID_SIGNATURE,
+		MALFORMED,
+		UNSUPPORTED,
+		REVOKED,
+		INVALID
+	}
+
+	private final Claims claims;
+	private final Failure failure;
+
+	private JwtValidationResult(Claims claims, Failure failure) {
+		this.claims = claims;
+		this.failure = failure;
+	}
+
+	public static JwtValidationResult valid(Claims claims) {
+		return new JwtValidationResult(claims, null);
+	}
+
+	public static JwtValidationResult invalid(Failure failure) {
+		return new JwtValidationResult(null, failure);
+	}
+
+	public boolean isValid() {
+		return failure == null;
+	}
+
+	public Claims getClaims() {
+		return claims;
+	}
+
+	public Failure getFailure() {
+		return failure;
+	}
+}
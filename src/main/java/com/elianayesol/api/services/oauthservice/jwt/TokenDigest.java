@@ -0,0 +1,22 @@
+package com.elianayesol.api.services.oauthservice.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 문자열의 고정 길이(32바이트) SHA-256 다이제스트
+ */
+public final class TokenDigest {
+
+	private TokenDigest() {
+	}
+
+	public static byte[] sha256(String token) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
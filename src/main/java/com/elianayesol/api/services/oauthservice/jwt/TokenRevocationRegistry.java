@@ -0,0 +1,323 @@
+package com.elianayesol.api.services.oauthservice.jwt;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 폐기된 토큰(jti) 레지스트리 (jwt.revocation.enabled=true 일 때만 활성화)
+ * - 원본: Redis ZSET jwt:revoked (member=jti, score=토큰 만료 시각 ms), 만료된 항목은 재구성 때 정리
+ * - 필터: Redis 비트맵 jwt:revoked:bloom:{bits}:{hashes} 에 Bloom filter를 두고 각 인스턴스가 로컬 사본 유지
+ *   - 폐기 시 ZADD + SETBIT + PUBLISH 를 한 파이프라인으로 보내고, 다른 인스턴스는 메시지로 비트를 반영
+ *   - 주기적으로 한 인스턴스가 ZSET에서 필터를 다시 만들어 교체 (Bloom filter는 삭제가 안 되므로)
+ *   - 교체 알림(reload)은 별도 가상 스레드에서 비트맵만 다시 읽는다 (리스너 스레드에서 I/O 하지 않아 add 메시지가 밀리지 않음)
+ *   - 재구성 락은 소유자 확인 후 해제 (TTL이 지나 다른 인스턴스가 잡은 락을 지우지 않음)
+ * - 검증: 로컬 필터에 없으면 네트워크 없이 "폐기 아님", 있으면 ZSCORE로 확인 (오탐 제거)
+ * - 지표: jwt.revocation.checks{result=local_negative|revoked|false_positive}
+ */
+@Component
+@ConditionalOnProperty(prefix = "jwt.revocation", name = "enabled", havingValue = "true")
+public class TokenRevocationRegistry implements MessageListener {
+
+	private static final Logger log = LoggerFactory.getLogger(TokenRevocationRegistry.class);
+
+	static final String REVOKED_KEY = "jwt:revoked";
+	static final String CHANNEL = "jwt:revoked:events";
+	private static final String REBUILD_LOCK_KEY = "jwt:revoked:rebuild-lock";
+	private static final String ADD_PREFIX = "add:";
+	private static final String RELOAD = "reload";
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	// 자신이 잡은 락만 해제 (RefreshTokenReaper와 같은 스크립트)
+	private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+			Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long bitCount;
+	private final int hashCount;
+	private final String filterKey;
+	private final String instanceId = UUID.randomUUID().toString();
+	private final Executor reloadExecutor;
+	private final AtomicBoolean reloadPending = new AtomicBoolean();
+	// reload는 한 번에 하나만 (끝나기 전에 온 reload는 이어서 한 번 더 실행)
+	private final ReentrantLock reloadLock = new ReentrantLock();
+	// filter 교체와 로컬 반영(put)을 직렬화 (I/O 중에는 잡지 않음)
+	private final ReentrantLock filterLock = new ReentrantLock();
+	private volatile BloomFilter filter;
+	// reload 중 받은 jti (새로 읽은 비트맵에 다시 반영), reload 중이 아니면 null
+	private Set<String> addedDuringReload;
+
+	private final Counter localNegatives;
+	private final Counter revokedHits;
+	private final Counter falsePositives;
+
+	public TokenRevocationRegistry(
+			RedisTemplate<String, String> redisTemplate,
+			RedisMessageListenerContainer listenerContainer,
+			JwtProperties jwtProperties,
+			MeterRegistry meterRegistry) {
+		this(redisTemplate, listenerContainer, jwtProperties, meterRegistry, reloadExecutor());
+	}
+
+	TokenRevocationRegistry(
+			RedisTemplate<String, String> redisTemplate,
+			RedisMessageListenerContainer listenerContainer,
+			JwtProperties jwtProperties,
+			MeterRegistry meterRegistry,
+			Executor reloadExecutor) {
+		JwtProperties.Revocation revocation = jwtProperties.getRevocation();
+		this.redisTemplate = redisTemplate;
+		this.reloadExecutor = reloadExecutor;
+		this.bitCount = BloomFilter.optimalBitCount(revocation.getExpectedInsertions(), revocation.getFalsePositiveRate());
+		this.hashCount = BloomFilter.optimalHashCount(revocation.getExpectedInsertions(), bitCount);
+		// 필터 크기가 바뀌면 키도 바뀌므로 설정이 다른 인스턴스끼리 비트가 섞이지 않음
+		this.filterKey = "jwt:revoked:bloom:" + bitCount + ":" + hashCount;
+		this.filter = new BloomFilter(bitCount, hashCount);
+		this.localNegatives = checks(meterRegistry, "local_negative");
+		this.revokedHits = checks(meterRegistry, "revoked");
+		this.falsePositives = checks(meterRegistry, "false_positive");
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 시작 시 비트맵 로드 (없으면 재구성)
+	 */
+	@PostConstruct
+	public void load() {
+		try {
+			byte[] bits = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+					connection.stringCommands().get(filterKey.getBytes(StandardCharsets.UTF_8)));
+			if (bits == null) {
+				rebuild();
+			} else {
+				filter = BloomFilter.fromBytes(bitCount, hashCount, bits);
+			}
+		} catch (DataAccessException e) {
+			// Redis에 연결할 수 없으면 빈 필터로 시작하고 다음 재구성 때 채운다
+			log.warn("Could not load token revocation filter, starting empty", e);
+		}
+	}
+
+	/**
+	 * 토큰 폐기 (만료 시각까지 유지)
+	 */
+	public void revoke(String jti, Instant expiresAt) {
+		if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+			return;
+		}
+		long[] offsets = filter.offsets(jti);
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+				ops.opsForZSet().add(REVOKED_KEY, jti, expiresAt.toEpochMilli());
+				for (long offset : offsets) {
+					ops.opsForValue().setBit(filterKey, offset, true);
+				}
+				ops.convertAndSend(CHANNEL, ADD_PREFIX + jti);
+				return null;
+			}
+		});
+		addLocal(jti);
+	}
+
+	/**
+	 * 우리가 발급해 Redis에 보관하던 Access Token을 폐기 (로그아웃 시 GETDEL 결과)
+	 * - 이미 서명을 검증해 저장한 토큰이므로 서명 검증 없이 payload의 jti/exp만 읽는다
+	 */
+	public void revokeToken(String token) {
+		String[] parts = token.split("\\.");
+		if (parts.length < 2) {
+			return;
+		}
+		try {
+			JsonNode payload = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1]));
+			JsonNode jti = payload.get("jti");
+			JsonNode exp = payload.get("exp");
+			if (jti != null && exp != null) {
+				revoke(jti.asText(), Instant.ofEpochSecond(exp.asLong()));
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			log.warn("Could not read access token payload for revocation", e);
+		}
+	}
+
+	/**
+	 * 폐기 여부 확인 (대부분 로컬 필터에서 끝남)
+	 */
+	public boolean isRevoked(String jti) {
+		if (!filter.mightContain(jti)) {
+			localNegatives.increment();
+			return false;
+		}
+		Double expiresAt = redisTemplate.opsForZSet().score(REVOKED_KEY, jti);
+		if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+			revokedHits.increment();
+			return true;
+		}
+		falsePositives.increment();
+		return false;
+	}
+
+	/**
+	 * 만료된 jti를 정리하고 필터를 다시 만들어 교체 (한 인스턴스만 실행)
+	 */
+	@Scheduled(
+			fixedDelayString = "${jwt.revocation.rebuild-interval-millis:600000}",
+			initialDelayString = "${jwt.revocation.rebuild-interval-millis:600000}")
+	public void rebuild() {
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, instanceId, Duration.ofMinutes(1));
+		if (!Boolean.TRUE.equals(acquired)) {
+			return;
+		}
+		try {
+			redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+			Set<String> members = redisTemplate.opsForZSet().range(REVOKED_KEY, 0, -1);
+			BloomFilter rebuilt = new BloomFilter(bitCount, hashCount);
+			Set<String> included = members != null ? members : Set.of();
+			included.forEach(rebuilt::put);
+			byte[] bits = rebuilt.toByteArray();
+			redisTemplate.execute((RedisCallback<Object>) connection -> {
+				connection.stringCommands().set(filterKey.getBytes(StandardCharsets.UTF_8), bits);
+				return null;
+			});
+
+			// 첫 조회 이후 교체 전까지 폐기된 jti는 새 비트맵에 다시 반영
+			// (교체 이후의 폐기는 SETBIT가 새 비트맵에 직접 들어감)
+			Set<String> latest = redisTemplate.opsForZSet().range(REVOKED_KEY, 0, -1);
+			if (latest != null) {
+				Set<String> missed = new HashSet<>(latest);
+				missed.removeAll(included);
+				if (!missed.isEmpty()) {
+					redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+						for (String jti : missed) {
+							setBits(connection, rebuilt, jti);
+						}
+						return null;
+					});
+				}
+			}
+			filter = rebuilt;
+			redisTemplate.convertAndSend(CHANNEL, RELOAD);
+		} finally {
+			redisTemplate.execute(RELEASE_LOCK, Collections.singletonList(REBUILD_LOCK_KEY), instanceId);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		if (body.startsWith(ADD_PREFIX)) {
+			addLocal(body.substring(ADD_PREFIX.length()));
+		} else if (RELOAD.equals(body) && reloadPending.compareAndSet(false, true)) {
+			// 연달아 온 reload는 한 번으로 합친다
+			reloadExecutor.execute(this::reload);
+		}
+	}
+
+	/**
+	 * 다른 인스턴스가 재구성한 비트맵으로 로컬 필터 교체 (비트맵이 없으면 현재 필터 유지, 재구성하지 않음)
+	 */
+	void reload() {
+		reloadLock.lock();
+		try {
+			reloadPending.set(false);
+			swapFromRedis();
+		} finally {
+			reloadLock.unlock();
+		}
+	}
+
+	private void swapFromRedis() {
+		filterLock.lock();
+		try {
+			addedDuringReload = new HashSet<>();
+		} finally {
+			filterLock.unlock();
+		}
+		byte[] bits = null;
+		try {
+			bits = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+					connection.stringCommands().get(filterKey.getBytes(StandardCharsets.UTF_8)));
+		} catch (DataAccessException e) {
+			log.warn("Could not reload token revocation filter, keeping current filter", e);
+		}
+		filterLock.lock();
+		try {
+			if (bits != null) {
+				BloomFilter loaded = BloomFilter.fromBytes(bitCount, hashCount, bits);
+				addedDuringReload.forEach(loaded::put);
+				filter = loaded;
+			}
+			addedDuringReload = null;
+		} finally {
+			filterLock.unlock();
+		}
+	}
+
+	private void addLocal(String jti) {
+		filterLock.lock();
+		try {
+			filter.put(jti);
+			if (addedDuringReload != null) {
+				addedDuringReload.add(jti);
+			}
+		} finally {
+			filterLock.unlock();
+		}
+	}
+
+	private static Executor reloadExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("jwt-revocation-reload-");
+		executor.setVirtualThreads(true);
+		return executor;
+	}
+
+	private void setBits(RedisConnection connection, BloomFilter target, String jti) {
+		byte[] key = filterKey.getBytes(StandardCharsets.UTF_8);
+		for (long offset : target.offsets(jti)) {
+			connection.stringCommands().setBit(key, offset, true);
+		}
+		target.put(jti);
+	}
+
+	private static Counter checks(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("jwt.revocation.checks")
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,84 @@
+package com.elianayesol.api.services.oauthservice.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 JWT의 Claims 캐시 (jwt.cache.enabled=true 일 때만 활성화)
+ * - Key: 토큰의 SHA-256 다이제스트 (32바이트)
+ * - 각 항목은 토큰의 exp 시각까지만 유지되고, 최대 개수를 넘으면 제거된다
+ * - hit/miss/eviction 지표는 cache="jwt.verified" 태그로 Micrometer에 등록
+ */
+@Component
+@ConditionalOnProperty(prefix = "jwt.cache", name = "enabled", havingValue = "true")
+public class VerifiedTokenCache {
+
+	private final Cache<ByteBuffer, Claims> cache;
+
+	public VerifiedTokenCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(jwtProperties.getCache().getMaximumSize())
+				.expireAfter(new UntilTokenExpiry())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+	}
+
+	/**
+	 * 캐시된 Claims 조회 (없거나 만료되었으면 null)
+	 */
+	public Claims get(String token) {
+		return cache.getIfPresent(key(token));
+	}
+
+	/**
+	 * 검증된 토큰의 Claims 저장 (exp가 없는 토큰은 캐시하지 않음)
+	 */
+	public void put(String token, Claims claims) {
+		if (claims.getExpiration() == null) {
+			return;
+		}
+		cache.put(key(token), claims);
+	}
+
+	/**
+	 * 토큰 폐기 시 즉시 캐시에서 제거
+	 */
+	public void invalidate(String token) {
+		cache.invalidate(key(token));
+	}
+
+	private static ByteBuffer key(String token) {
+		return ByteBuffer.wrap(TokenDigest.sha256(token));
+	}
+
+	private static final class UntilTokenExpiry implements Expiry<ByteBuffer, Claims> {
+
+		@Override
+		public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+			Date expiration = claims.getExpiration();
+			long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+		}
+
+		@Override
+		public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -6,12 +6,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import com.elianayesol.api.services.oauthservice.kakao.KakaoService.OAuthUserResponse;
-import com.elianayesol.api.services.oauthservice.jwt.JwtProperties;
-import com.elianayesol.api.services.oauthservice.token.TokenStorageService;
+import com.elianayesol.api.services.oauthservice.login.LoginMetrics;
+import com.elianayesol.api.services.oauthservice.login.OAuthLoginPipeline;
+import com.elianayesol.api.services.oauthservice.login.OAuthLoginResult;
+import com.elianayesol.api.services.oauthservice.login.OAuthUserProfile;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -21,11 +21,9 @@ import java.util.Map;
 @RequestMapping("/api/oauth/kakao")
 @RequiredArgsConstructor
 @Slf4j
-@CrossOrigin(origins = {"https://www.elianayesol.com", "https://elianayesol.com", "http://localhost:3000"}, allowCredentials = "true")
 public class KakaoController {
-    private final KakaoService kakaoService;
-    private final TokenStorageService tokenStorageService;
-    private final JwtProperties jwtProperties;
+    private final OAuthLoginPipeline oAuthLoginPipeline;
+    private final LoginMetrics loginMetrics;
     
     @Value("${kakao.client-id:}")
     private String clientId;
@@ -36,6 +34,10 @@ public class KakaoController {
     @Value("${kakao.authorize-uri:https://kauth.kakao.com/oauth/authorize}")
     private String authorizeUri;
     
+    // openid를 포함하면 토큰 응답에 id_token이 내려와 로그인 시 사용자 정보 조회와 JWT 서명이 겹친다
+    @Value("${kakao.scope:}")
+    private String scope;
+    
     @Value("${FRONTEND_URL:https://www.elianayesol.com}")
     private String frontendUrl;
 
@@ -63,13 +65,15 @@ public class KakaoController {
                     clientId.substring(0, Math.min(4, clientId.length())) + "...",
                     redirectUri);
 
-            String loginUrl = UriComponentsBuilder
+            UriComponentsBuilder loginUrlBuilder = UriComponentsBuilder
                     .fromUriString(authorizeUri)
                     .queryParam("client_id", clientId)
                     .queryParam("redirect_uri", redirectUri)
-                    .queryParam("response_type", "code")
-                    .build()
-                    .toUriString();
+                    .queryParam("response_type", "code");
+            if (scope != null && !scope.isEmpty()) {
+                loginUrlBuilder.queryParam("scope", scope);
+            }
+            String loginUrl = loginUrlBuilder.build().toUriString();
 
             log.info("Generated Kakao login URL: {}", loginUrl.replaceAll("client_id=[^&]+", "client_id=***"));
             return ResponseEntity.ok(Map.of("authUrl", loginUrl));
@@ -104,58 +108,9 @@ public class KakaoController {
         try {
             log.info("Processing Kakao login with code: {}", code.substring(0, Math.min(10, code.length())) + "...");
 
-            OAuthUserResponse response = kakaoService.processKakaoLogin(code);
-            OAuthUserResponse.UserInfo userInfo = response.getUser();
-
-            if (response == null || response.getAccessToken() == null) {
-                throw new RuntimeException("Failed to generate tokens");
-            }
-
-            // 토큰 저장 (Access Token -> Redis, Refresh Token -> DB)
-            String userId = userInfo != null ? userInfo.getId() : null;
-            if (userId != null) {
-                // Access Token을 Upstash Redis에 저장
-                tokenStorageService.saveAccessToken(userId, response.getAccessToken());
-                // Refresh Token을 Neon DB에 저장
-                java.time.LocalDateTime refreshTokenExpiresAt = java.time.LocalDateTime.now()
-                    .plusSeconds(jwtProperties.getRefreshExpiration() / 1000);
-                tokenStorageService.saveRefreshToken(
-                    userId, 
-                    response.getRefreshToken(), 
-                    "kakao",
-                    refreshTokenExpiresAt
-                );
-                log.info("✅ Kakao 로그인 성공 - Access Token (Redis) 및 Refresh Token (DB) 저장 완료: userId={}", userId);
-            }
-
-            // 프론트엔드로 리다이렉트하면서 토큰과 사용자 정보를 URL 파라미터로 전달
-            String callbackUrl = frontendUrl + "/oauth/kakao/callback";
-            UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(callbackUrl)
-                    .queryParam("token", URLEncoder.encode(response.getAccessToken(), StandardCharsets.UTF_8))
-                    .queryParam("refreshToken", URLEncoder.encode(response.getRefreshToken(), StandardCharsets.UTF_8))
-                    .queryParam("success", "true");
-
-            // 사용자 정보를 개별 파라미터로 전달
-            if (userInfo != null) {
-                if (userInfo.getId() != null) {
-                    builder.queryParam("userId", URLEncoder.encode(userInfo.getId(), StandardCharsets.UTF_8));
-                }
-                if (userInfo.getEmail() != null) {
-                    builder.queryParam("email", URLEncoder.encode(userInfo.getEmail(), StandardCharsets.UTF_8));
-                }
-                if (userInfo.getNickname() != null) {
-                    builder.queryParam("nickname", URLEncoder.encode(userInfo.getNickname(), StandardCharsets.UTF_8));
-                }
-                if (userInfo.getProfileImage() != null) {
-                    builder.queryParam("profileImage",
-                            URLEncoder.encode(userInfo.getProfileImage(), StandardCharsets.UTF_8));
-                }
-                if (userInfo.getProvider() != null) {
-                    builder.queryParam("provider", URLEncoder.encode(userInfo.getProvider(), StandardCharsets.UTF_8));
-                }
-            }
+            OAuthLoginResult response = oAuthLoginPipeline.login("kakao", code, null);
 
-            String redirectUrl = builder.build().toUriString();
+            String redirectUrl = loginMetrics.time("kakao", "redirect", () -> buildSuccessRedirect(response));
 
             log.info("Successfully processed login, redirecting to frontend");
             return ResponseEntity.status(HttpStatus.FOUND)
@@ -179,4 +134,40 @@ public class KakaoController {
                     .build();
         }
     }
+
+    /**
+     * 로그인 성공 시 프론트엔드 콜백 URL 생성 (토큰과 사용자 정보를 쿼리 파라미터로 전달)
+     */
+    String buildSuccessRedirect(OAuthLoginResult response) {
+        OAuthUserProfile userInfo = response.getProfile();
+
+        // 프론트엔드로 리다이렉트하면서 토큰과 사용자 정보를 URL 파라미터로 전달
+        String callbackUrl = frontendUrl + "/oauth/kakao/callback";
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(callbackUrl)
+                .queryParam("token", URLEncoder.encode(response.getAccessToken(), StandardCharsets.UTF_8))
+                .queryParam("refreshToken", URLEncoder.encode(response.getRefreshToken(), StandardCharsets.UTF_8))
+                .queryParam("success", "true");
+
+        // 사용자 정보를 개별 파라미터로 전달
+        if (userInfo != null) {
+            if (userInfo.getId() != null) {
+                builder.queryParam("userId", URLEncoder.encode(userInfo.getId(), StandardCharsets.UTF_8));
+            }
+            if (userInfo.getEmail() != null) {
+                builder.queryParam("email", URLEncoder.encode(userInfo.getEmail(), StandardCharsets.UTF_8));
+            }
+            if (userInfo.getNickname() != null) {
+                builder.queryParam("nickname", URLEncoder.encode(userInfo.getNickname(), StandardCharsets.UTF_8));
+            }
+            if (userInfo.getProfileImage() != null) {
+                builder.queryParam("profileImage",
+                        URLEncoder.encode(userInfo.getProfileImage(), StandardCharsets.UTF_8));
+            }
+            if (userInfo.getProvider() != null) {
+                builder.queryParam("provider", URLEncoder.encode(userInfo.getProvider(), StandardCharsets.UTF_8));
+            }
+        }
+
+        return builder.build().toUriString();
+    }
 }
@@ -1,5 +1,7 @@
 package com.elianayesol.api.services.oauthservice.kakao;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,15 +11,16 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
-import com.elianayesol.api.services.oauthservice.jwt.JwtTokenProvider;
 import com.elianayesol.api.services.oauthservice.kakao.dto.KakaoTokenResponse;
 import com.elianayesol.api.services.oauthservice.kakao.dto.KakaoUserInfo;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
+import com.elianayesol.api.services.oauthservice.login.OAuthProviderAdapter;
+import com.elianayesol.api.services.oauthservice.login.OAuthProviderToken;
+import com.elianayesol.api.services.oauthservice.login.OAuthUserProfile;
+import com.elianayesol.api.services.oauthservice.resilience.ProviderResilience;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -25,9 +28,13 @@ import java.util.Objects;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class KakaoService {
+public class KakaoService implements OAuthProviderAdapter {
+    static final String ISSUER = "https://kauth.kakao.com";
+    private static final long CLOCK_SKEW_SECONDS = 60;
+
     private final RestTemplate restTemplate;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final ProviderResilience providerResilience;
+    private final ObjectMapper objectMapper;
     
     @Value("${kakao.client-id}")
     private String clientId;
@@ -66,11 +73,13 @@ public class KakaoService {
             if (tokenUri == null || tokenUri.isEmpty()) {
                 throw new IllegalStateException("Kakao token URI is not configured");
             }
-            ResponseEntity<KakaoTokenResponse> response = restTemplate.exchange(
-                    tokenUri,
-                    HttpMethod.POST,
-                    request,
-                    KakaoTokenResponse.class);
+            // 인가 코드는 1회용이므로 재시도/hedge 없이 bulkhead + circuit breaker만 적용
+            ResponseEntity<KakaoTokenResponse> response = providerResilience.call(getProvider(), "token", false,
+                    () -> restTemplate.exchange(
+                            tokenUri,
+                            HttpMethod.POST,
+                            request,
+                            KakaoTokenResponse.class));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 return response.getBody();
@@ -104,11 +113,12 @@ public class KakaoService {
 
         try {
             HttpMethod method = Objects.requireNonNull(HttpMethod.GET);
-            ResponseEntity<KakaoUserInfo> response = restTemplate.exchange(
-                    userInfoUri,
-                    method,
-                    request,
-                    KakaoUserInfo.class);
+            ResponseEntity<KakaoUserInfo> response = providerResilience.call(getProvider(), "userinfo", true,
+                    () -> restTemplate.exchange(
+                            userInfoUri,
+                            method,
+                            request,
+                            KakaoUserInfo.class));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 return response.getBody();
@@ -122,74 +132,95 @@ public class KakaoService {
         }
     }
 
+    @Override
+    public String getProvider() {
+        return "kakao";
+    }
+
+    @Override
+    public OAuthProviderToken exchangeCode(String code, String state) {
+        KakaoTokenResponse tokenResponse = getAccessToken(code);
+        return new OAuthProviderToken(tokenResponse.getAccessToken(), idTokenSubject(tokenResponse.getIdToken()));
+    }
+
     /**
-     * 카카오 로그인 처리 (메인 로직)
+     * OIDC id_token의 sub (= 카카오 회원번호, /v2/user/me 의 id와 같음)
+     * - 토큰 엔드포인트에서 TLS로 직접 받은 id_token이므로 서명 검증 없이 payload만 읽는다 (OIDC Core 3.1.3.7)
+     * - 그래도 iss(https://kauth.kakao.com) / aud(client-id) / exp(허용 오차 60초)는 확인
+     * - id_token이 없거나, 읽을 수 없거나, 클레임이 맞지 않으면 null (사용자 정보 조회 후 발급으로 진행)
      */
-    public OAuthUserResponse processKakaoLogin(String code) {
-        // 1. Access Token 획득
-        KakaoTokenResponse tokenResponse = getAccessToken(code);
+    String idTokenSubject(String idToken) {
+        if (idToken == null || idToken.isEmpty()) {
+            return null;
+        }
+        String[] parts = idToken.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            JsonNode payload = objectMapper.readTree(
+                    new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+            if (!ISSUER.equals(payload.path("iss").asText())) {
+                log.warn("Kakao id_token rejected: unexpected issuer {}", payload.path("iss").asText());
+                return null;
+            }
+            if (!hasAudience(payload.path("aud"))) {
+                log.warn("Kakao id_token rejected: audience mismatch");
+                return null;
+            }
+            long exp = payload.path("exp").asLong(0);
+            if (exp == 0 || exp + CLOCK_SKEW_SECONDS <= Instant.now().getEpochSecond()) {
+                log.warn("Kakao id_token rejected: expired or missing exp");
+                return null;
+            }
+            String sub = payload.path("sub").asText();
+            return !sub.isEmpty() ? sub : null;
+        } catch (Exception e) {
+            log.debug("Unreadable Kakao id_token payload", e);
+            return null;
+        }
+    }
+
+    // aud는 문자열 또는 배열 (OIDC Core 2)
+    private boolean hasAudience(JsonNode aud) {
+        if (aud.isArray()) {
+            for (JsonNode value : aud) {
+                if (clientId.equals(value.asText())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return clientId.equals(aud.asText());
+    }
 
-        // 2. 사용자 정보 조회
-        KakaoUserInfo userInfo = getUserInfo(tokenResponse.getAccessToken());
+    @Override
+    public OAuthUserProfile fetchProfile(OAuthProviderToken token) {
+        KakaoUserInfo userInfo = getUserInfo(token.getAccessToken());
 
-        // 3. 카카오 사용자 정보 추출
         String kakaoId = userInfo.getId().toString();
-        String email = userInfo.getKakaoAccount() != null
-                ? userInfo.getKakaoAccount().getEmail()
+        KakaoUserInfo.KakaoAccount account = userInfo.getKakaoAccount();
+        String email = account != null ? account.getEmail() : null;
+        String nickname = account != null && account.getProfile() != null
+                ? account.getProfile().getNickname()
+                : null;
+        String profileImage = account != null && account.getProfile() != null
+                ? account.getProfile().getProfileImageUrl()
                 : null;
-        String nickname = userInfo.getKakaoAccount() != null
-                && userInfo.getKakaoAccount().getProfile() != null
-                        ? userInfo.getKakaoAccount().getProfile().getNickname()
-                        : null;
-        String profileImage = userInfo.getKakaoAccount() != null
-                && userInfo.getKakaoAccount().getProfile() != null
-                        ? userInfo.getKakaoAccount().getProfile().getProfileImageUrl()
-                        : null;
-
-        // 4. JWT 토큰 생성 (카카오 ID를 String으로 사용)
+
+        // JWT 클레임 (카카오 ID를 String으로 사용)
         Map<String, Object> claims = new HashMap<>();
         if (email != null) {
             claims.put("email", email);
         }
-        String jwtAccessToken = jwtTokenProvider.generateAccessToken(kakaoId, claims);
-        String jwtRefreshToken = jwtTokenProvider.generateRefreshToken(kakaoId);
-
-        // 5. 응답 생성
-        return OAuthUserResponse.builder()
-                .accessToken(jwtAccessToken)
-                .refreshToken(jwtRefreshToken)
-                .user(OAuthUserResponse.UserInfo.builder()
-                        .id(kakaoId)
-                        .email(email)
-                        .nickname(nickname)
-                        .profileImage(profileImage)
-                        .provider("kakao")
-                        .build())
-                .build();
-    }
 
-    /**
-     * 카카오 OAuth 응답 DTO
-     */
-    @Data
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class OAuthUserResponse {
-        private String accessToken;
-        private String refreshToken;
-        private UserInfo user;
-
-        @Data
-        @Builder
-        @NoArgsConstructor
-        @AllArgsConstructor
-        public static class UserInfo {
-            private String id;
-            private String email;
-            private String nickname;
-            private String profileImage;
-            private String provider; // "kakao"
-        }
+        return OAuthUserProfile.builder()
+                .provider(getProvider())
+                .id(kakaoId)
+                .email(email)
+                .nickname(nickname)
+                .profileImage(profileImage)
+                .claims(claims)
+                .build();
     }
 }
@@ -21,4 +21,8 @@ public class KakaoTokenResponse {
 
     @JsonProperty("refresh_token_expires_in")
     private Integer refreshTokenExpiresIn;
+
+    // OpenID Connect 활성화 + scope에 openid가 있을 때만 내려옴
+    @JsonProperty("id_token")
+    private String idToken;
 }
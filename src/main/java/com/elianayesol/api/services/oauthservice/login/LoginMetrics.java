@@ -0,0 +1,52 @@
+package com.elianayesol.api.services.oauthservice.login;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 로그인 단계별 소요 시간 기록 (Observation API)
+ * - 지표: oauth.login.stage{provider, stage, outcome=success|error} (히스토그램은 application.yaml에서 설정)
+ * - 트레이스: 단계마다 span 하나 (현재 요청 span의 자식)
+ * - stage: exchange, profile, sign, redis, postgres, redirect
+ */
+@Component
+public class LoginMetrics {
+
+	static final String OBSERVATION_NAME = "oauth.login.stage";
+
+	private final ObservationRegistry observationRegistry;
+
+	public LoginMetrics(ObservationRegistry observationRegistry) {
+		this.observationRegistry = observationRegistry;
+	}
+
+	public <T> T time(String provider, String stage, Supplier<T> work) {
+		Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+				.contextualName("oauth " + stage)
+				.lowCardinalityKeyValue("provider", provider)
+				.lowCardinalityKeyValue("stage", stage)
+				.start();
+		String outcome = "error";
+		try (Observation.Scope scope = observation.openScope()) {
+			T result = work.get();
+			outcome = "success";
+			return result;
+		} catch (RuntimeException e) {
+			observation.error(e);
+			throw e;
+		} finally {
+			observation.lowCardinalityKeyValue("outcome", outcome);
+			observation.stop();
+		}
+	}
+
+	public void run(String provider, String stage, Runnable work) {
+		time(provider, stage, () -> {
+			work.run();
+			return null;
+		});
+	}
+}
@@ -0,0 +1,125 @@
+package com.elianayesol.api.services.oauthservice.login;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 로그인 한 건의 하위 작업 범위 (StructuredTaskScope.ShutdownOnFailure와 같은 규칙)
+ * - fork한 작업은 가상 스레드에서 실행되고, 하나가 실패하면 나머지는 취소(interrupt)된다
+ * - 모든 대기는 로그인 deadline까지만 - 넘으면 진행 중인 작업을 모두 취소하고 예외
+ * - close() 시 끝나지 않은 작업을 취소 (범위를 벗어난 작업이 남지 않음)
+ * - 취소해도 안전한 독립 I/O(사용자 정보 조회 등)만 fork한다. CPU 작업(서명)은 호출 스레드에서,
+ *   중간에 끊기면 안 되는 작업(토큰 저장)은 범위 밖에서 실행
+ * JDK 21에서 StructuredTaskScope는 preview API라 --enable-preview 없이 같은 규칙을 Future로 구현
+ */
+final class LoginTaskScope implements AutoCloseable {
+
+	private final AsyncTaskExecutor executor;
+	private final long deadlineNanos;
+	private final List<Future<?>> forked = new ArrayList<>();
+	private volatile Throwable failure;
+
+	LoginTaskScope(AsyncTaskExecutor executor, long deadlineNanos) {
+		this.executor = executor;
+		this.deadlineNanos = deadlineNanos;
+	}
+
+	/**
+	 * 작업을 가상 스레드에서 시작. 결과는 join() 이후 get()으로 읽는다
+	 */
+	<T> Subtask<T> fork(Callable<T> task) {
+		Future<T> future = executor.submit(() -> {
+			try {
+				return task.call();
+			} catch (Throwable e) {
+				if (failure == null) {
+					failure = e;
+				}
+				cancelAll();
+				throw e;
+			}
+		});
+		synchronized (forked) {
+			forked.add(future);
+		}
+		return new Subtask<>(future);
+	}
+
+	/**
+	 * fork한 작업이 모두 끝날 때까지 대기 (deadline 초과 또는 실패 시 나머지 취소 후 예외)
+	 */
+	void join() {
+		List<Future<?>> snapshot;
+		synchronized (forked) {
+			snapshot = new ArrayList<>(forked);
+		}
+		for (Future<?> future : snapshot) {
+			long remaining = deadlineNanos - System.nanoTime();
+			try {
+				future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				cancelAll();
+				throw new IllegalStateException("OAuth login deadline exceeded", e);
+			} catch (InterruptedException e) {
+				cancelAll();
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("OAuth login interrupted", e);
+			} catch (ExecutionException | CancellationException e) {
+				// 실패 원인은 failure에 기록됨 (형제 작업의 취소는 원인이 아님)
+			}
+		}
+		Throwable cause = failure;
+		if (cause instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+		if (cause != null) {
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	@Override
+	public void close() {
+		cancelAll();
+	}
+
+	private void cancelAll() {
+		synchronized (forked) {
+			for (Future<?> future : forked) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * fork한 작업의 결과 (join() 이후에만 읽는다)
+	 */
+	static final class Subtask<T> {
+		private final Future<T> future;
+
+		private Subtask(Future<T> future) {
+			this.future = future;
+		}
+
+		T get() {
+			if (!future.isDone()) {
+				throw new IllegalStateException("Subtask read before join()");
+			}
+			try {
+				return future.resultNow();
+			} catch (IllegalStateException e) {
+				throw new IllegalStateException("Subtask did not complete successfully", e);
+			}
+		}
+	}
+}
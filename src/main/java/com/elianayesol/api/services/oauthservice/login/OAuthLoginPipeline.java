@@ -0,0 +1,154 @@
+package com.elianayesol.api.services.oauthservice.login;
+
+import com.elianayesol.api.config.logging.LogMarkers;
+import com.elianayesol.api.services.oauthservice.jwt.JwtProperties;
+import com.elianayesol.api.services.oauthservice.jwt.JwtTokenProvider;
+import com.elianayesol.api.services.oauthservice.token.TokenStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 제공자 공통 OAuth 로그인 파이프라인
+ * 1. exchange: 인가 코드 → 제공자 Access Token
+ * 2. profile: 제공자 사용자 정보 조회
+ * 3. sign: JWT Access/Refresh Token 발급
+ * 4. redis / postgres: Access Token(Redis)과 Refresh Token(DB)을 동시에 저장 (TokenStorageService)
+ * 각 단계의 소요 시간은 LoginMetrics로 기록한다 (redirect 단계는 각 컨트롤러에서 기록)
+ *
+ * 단계 실행 규칙
+ * - exchange, sign, 저장은 호출 스레드에서 바로 실행 (스레드 전환 없음)
+ * - 토큰 응답에 사용자 ID가 있고(OAuthProviderToken.subject) 사용자 정보 조회가 원격 호출일 때만
+ *   조회를 LoginTaskScope로 가상 스레드에 fork하고, 그동안 호출 스레드가 Refresh Token을 서명
+ *   (겹칠 I/O가 없으면 fork하지 않고 사용자 정보 조회도 호출 스레드에서 실행 - 스레드 전환만 늘기 때문)
+ * - 제공자별 효과
+ *   - Google: id_token을 검증하면 사용자 정보가 토큰에 들어 있어(profileIncluded) fork 없음,
+ *     검증하지 못하면 subject가 없어 userinfo 호출 후 순서대로 서명
+ *   - Kakao: kakao.scope에 openid를 넣고 OIDC를 활성화하면 id_token의 sub로 /v2/user/me 조회와 서명이 겹침,
+ *     아니면 순서대로 실행
+ *   - Naver: 토큰 응답에 사용자 ID가 없어 항상 순서대로 실행
+ * - 전체 로그인은 oauth.login.deadline 안에 끝나야 한다: 단계 사이마다 확인하고, fork한 사용자 정보 조회는 넘으면 interrupt
+ *   (가상 스레드의 블로킹 소켓 I/O는 interrupt 시 소켓을 닫고 즉시 반환, 호출 스레드의 제공자 호출은 outbound 타임아웃이 상한)
+ * - 저장은 deadline 전에만 시작하고, 시작하면 끝까지 기다린다 (중간에 끊으면 Redis/DB 중 한쪽에만 토큰이 남음)
+ * - subject를 알고 ProviderProfileCache에 사용자 정보가 있으면 profile 단계(user-info 호출)를 건너뛴다
+ *   (조회한 사용자 정보의 캐시 저장은 로그인 응답을 기다리게 하지 않도록 범위 밖 가상 스레드에서 실행)
+ */
+@Component
+@Slf4j
+public class OAuthLoginPipeline {
+
+	private final Map<String, OAuthProviderAdapter> adapters = new HashMap<>();
+	private final JwtTokenProvider jwtTokenProvider;
+	private final TokenStorageService tokenStorageService;
+	private final JwtProperties jwtProperties;
+	private final LoginMetrics loginMetrics;
+	private final SimpleAsyncTaskExecutor loginExecutor;
+	private final Duration loginDeadline;
+	// 선택 사항: oauth.profile-cache.enabled=true 일 때만 주입됨
+	private ProviderProfileCache profileCache;
+
+	public OAuthLoginPipeline(
+			List<OAuthProviderAdapter> adapters,
+			JwtTokenProvider jwtTokenProvider,
+			TokenStorageService tokenStorageService,
+			JwtProperties jwtProperties,
+			LoginMetrics loginMetrics,
+			TaskDecorator taskDecorator,
+			@Value("${oauth.login.deadline:30s}") Duration loginDeadline) {
+		for (OAuthProviderAdapter adapter : adapters) {
+			this.adapters.put(adapter.getProvider(), adapter);
+		}
+		this.jwtTokenProvider = jwtTokenProvider;
+		this.tokenStorageService = tokenStorageService;
+		this.jwtProperties = jwtProperties;
+		this.loginMetrics = loginMetrics;
+		this.loginDeadline = loginDeadline;
+		// 하위 작업도 요청 span/MDC를 이어받도록 applicationTaskExecutor와 같은 TaskDecorator 사용
+		this.loginExecutor = new SimpleAsyncTaskExecutor("oauth-login-");
+		this.loginExecutor.setVirtualThreads(true);
+		this.loginExecutor.setTaskDecorator(taskDecorator);
+	}
+
+	@Autowired(required = false)
+	public void setProfileCache(ProviderProfileCache profileCache) {
+		this.profileCache = profileCache;
+	}
+
+	/**
+	 * 인가 코드로 로그인 처리
+	 * @param provider 제공자 ("google", "kakao", "naver")
+	 * @param code 인가 코드
+	 * @param state state 파라미터 (없으면 null)
+	 */
+	public OAuthLoginResult login(String provider, String code, String state) {
+		OAuthProviderAdapter adapter = adapters.get(provider);
+		if (adapter == null) {
+			throw new IllegalArgumentException("Unsupported OAuth provider: " + provider);
+		}
+
+		long deadlineNanos = System.nanoTime() + loginDeadline.toNanos();
+		OAuthProviderToken providerToken = loginMetrics.time(provider, "exchange", () -> adapter.exchangeCode(code, state));
+		checkDeadline(deadlineNanos);
+
+		String knownSubject = providerToken.getSubject();
+		boolean cacheable = knownSubject != null && profileCache != null && profileCache.isCached(provider);
+		OAuthUserProfile cachedProfile = cacheable ? profileCache.get(provider, knownSubject) : null;
+		OAuthUserProfile profile = cachedProfile;
+		String earlyRefreshToken = null;
+		if (profile == null && knownSubject != null && !providerToken.isProfileIncluded()) {
+			// 사용자 정보 조회(I/O)만 fork하고, 그동안 이미 아는 사용자로 Refresh Token 서명
+			try (LoginTaskScope scope = new LoginTaskScope(loginExecutor, deadlineNanos)) {
+				LoginTaskScope.Subtask<OAuthUserProfile> profileTask = scope.fork(() -> fetchProfile(adapter, providerToken));
+				earlyRefreshToken = signRefreshToken(provider, knownSubject);
+				scope.join();
+				profile = profileTask.get();
+			}
+		} else if (profile == null) {
+			profile = fetchProfile(adapter, providerToken);
+		}
+		checkDeadline(deadlineNanos);
+
+		OAuthUserProfile loginProfile = profile;
+		String userId = loginProfile.getId();
+		String refreshToken = earlyRefreshToken != null && knownSubject.equals(userId)
+				? earlyRefreshToken
+				: signRefreshToken(provider, userId);
+		String accessToken = loginMetrics.time(provider, "sign",
+				() -> jwtTokenProvider.generateAccessToken(userId, loginProfile.getClaims()));
+		LocalDateTime refreshTokenExpiresAt = LocalDateTime.now()
+				.plusSeconds(jwtProperties.getRefreshExpiration() / 1000);
+
+		if (cacheable && cachedProfile == null) {
+			loginExecutor.execute(() -> profileCache.put(loginProfile));
+		}
+		// 저장은 시작한 뒤에는 interrupt하지 않는다 - deadline은 시작 전에만 확인
+		checkDeadline(deadlineNanos);
+		tokenStorageService.saveLoginTokens(userId, accessToken, refreshToken, provider, refreshTokenExpiresAt);
+
+		log.info(LogMarkers.SAMPLED, "{} login completed: userId={}", provider, userId);
+		return new OAuthLoginResult(loginProfile, accessToken, refreshToken);
+	}
+
+	private OAuthUserProfile fetchProfile(OAuthProviderAdapter adapter, OAuthProviderToken providerToken) {
+		return loginMetrics.time(adapter.getProvider(), "profile", () -> adapter.fetchProfile(providerToken));
+	}
+
+	private String signRefreshToken(String provider, String userId) {
+		return loginMetrics.time(provider, "sign", () -> jwtTokenProvider.generateRefreshToken(userId));
+	}
+
+	private static void checkDeadline(long deadlineNanos) {
+		if (System.nanoTime() - deadlineNanos >= 0) {
+			throw new IllegalStateException("OAuth login deadline exceeded");
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.elianayesol.api.services.oauthservice.login;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로그인 파이프라인 결과 (사용자 정보 + 발급한 JWT)
+ */
+@Getter
+@AllArgsConstructor
+public class OAuthLoginResult {
+	private final OAuthUserProfile profile;
+	private final String accessToken;
+	private final String refreshToken;
+}
@@ -0,0 +1,24 @@
+package com.elianayesol.api.services.oauthservice.login;
+
+/**
+ * OAuth 제공자 어댑터 (Google, Kakao, Naver)
+ * - 제공자별로 다른 부분(인가 코드 교환, 사용자 정보 조회)만 구현하고
+ *   JWT 발급/토큰 저장/계측은 OAuthLoginPipeline이 공통으로 처리한다
+ */
+public interface OAuthProviderAdapter {
+
+	/**
+	 * 제공자 이름 ("google", "kakao", "naver")
+	 */
+	String getProvider();
+
+	/**
+	 * 인가 코드를 제공자 Access Token으로 교환
+	 */
+	OAuthProviderToken exchangeCode(String code, String state);
+
+	/**
+	 * 제공자 Access Token으로 사용자 정보 조회
+	 */
+	OAuthUserProfile fetchProfile(OAuthProviderToken token);
+}
@@ -0,0 +1,25 @@
+package com.elianayesol.api.services.oauthservice.login;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인가 코드 교환으로 받은 제공자 토큰
+ * - subject: 토큰 응답만으로 사용자를 알 수 있을 때의 제공자 사용자 ID (id_token의 sub 등, 없으면 null)
+ *   알고 있으면 OAuthLoginPipeline이 사용자 정보 조회와 Refresh Token 발급을 동시에 진행한다
+ * - profileIncluded: 사용자 정보까지 토큰에 들어 있어 fetchProfile이 원격 호출을 하지 않으면 true (겹칠 I/O 없음)
+ */
+@Getter
+@AllArgsConstructor
+public class OAuthProviderToken {
+	private final String accessToken;
+	private final String subject;
+
+	public OAuthProviderToken(String accessToken) {
+		this(accessToken, null);
+	}
+
+	public boolean isProfileIncluded() {
+		return false;
+	}
+}
@@ -0,0 +1,24 @@
+package com.elianayesol.api.services.oauthservice.login;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 제공자 공통 사용자 정보
+ * - claims: Access Token(JWT)에 넣을 클레임
+ * - attributes: 응답에 그대로 내려줄 제공자별 사용자 정보
+ */
+@Getter
+@Builder
+public class OAuthUserProfile {
+	private final String provider;
+	private final String id;
+	private final String email;
+	private final String name;
+	private final String nickname;
+	private final String profileImage;
+	private final Map<String, Object> claims;
+	private final Map<String, Object> attributes;
+}
@@ -0,0 +1,43 @@
+package com.elianayesol.api.services.oauthservice.login;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 제공자 사용자 정보 캐시 설정 (oauth.profile-cache.*)
+ * - ttl: 제공자별 보관 시간 (목록에 없거나 0인 제공자는 캐시하지 않음)
+ */
+@Component
+@ConfigurationProperties(prefix = "oauth.profile-cache")
+public class ProfileCacheProperties {
+	private boolean enabled = false;
+	private Map<String, Duration> ttl = new HashMap<>();
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Map<String, Duration> getTtl() {
+		return ttl;
+	}
+
+	public void setTtl(Map<String, Duration> ttl) {
+		this.ttl = ttl;
+	}
+
+	/**
+	 * 제공자의 보관 시간 (캐시하지 않으면 null)
+	 */
+	public Duration ttlFor(String provider) {
+		Duration providerTtl = ttl.get(provider);
+		return providerTtl != null && providerTtl.isPositive() ? providerTtl : null;
+	}
+}
@@ -0,0 +1,149 @@
+package com.elianayesol.api.services.oauthservice.login;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 제공자 사용자 정보 캐시 (oauth.profile-cache.enabled=true 일 때만 활성화)
+ * - oauth:profile:{provider}:{제공자 사용자 ID} → 짧은 키 이름의 JSON (null/빈 값 생략), 인스턴스 간 Redis로 공유
+ * - 토큰 응답만으로 사용자를 알 수 있을 때(OAuthProviderToken.subject)만 조회 → 적중하면 user-info 호출 생략
+ * - 제공자별 TTL (ProfileCacheProperties), 만료 전 프로필 변경은 TTL 동안 반영되지 않는다
+ * - Redis 오류는 캐시 미스로 처리 (로그인은 제공자 호출로 계속 진행)
+ * - 지표: oauth.profile.cache.gets{provider, result=hit|miss}, oauth.profile.cache.hit.ratio{provider}
+ *   (Caffeine 캐시의 cache.gets{cache, result}와 태그 구성이 달라 같은 이름을 쓰지 않는다)
+ */
+@Component
+@ConditionalOnProperty(prefix = "oauth.profile-cache", name = "enabled", havingValue = "true")
+@Slf4j
+public class ProviderProfileCache {
+
+	static final String KEY_PREFIX = "oauth:profile:";
+	static final String GETS_METER = "oauth.profile.cache.gets";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final ProfileCacheProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, ProviderMeters> meters = new ConcurrentHashMap<>();
+
+	public ProviderProfileCache(
+			RedisTemplate<String, String> redisTemplate,
+			ObjectMapper objectMapper,
+			ProfileCacheProperties properties,
+			MeterRegistry meterRegistry) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * 이 제공자를 캐시하는지 (TTL이 설정된 제공자만)
+	 */
+	public boolean isCached(String provider) {
+		return properties.ttlFor(provider) != null;
+	}
+
+	/**
+	 * 캐시된 사용자 정보 (없거나 읽을 수 없으면 null)
+	 */
+	public OAuthUserProfile get(String provider, String subject) {
+		if (!isCached(provider)) {
+			return null;
+		}
+		OAuthUserProfile profile = null;
+		try {
+			String json = redisTemplate.opsForValue().get(key(provider, subject));
+			if (json != null) {
+				profile = objectMapper.readValue(json, CachedProfile.class).toProfile(provider, subject);
+			}
+		} catch (Exception e) {
+			log.warn("Profile cache read failed: provider={}", provider, e);
+		}
+		ProviderMeters providerMeters = metersFor(provider);
+		(profile != null ? providerMeters.hits : providerMeters.misses).increment();
+		return profile;
+	}
+
+	/**
+	 * 제공자에서 받은 사용자 정보 저장 (실패해도 로그인에는 영향 없음)
+	 */
+	public void put(OAuthUserProfile profile) {
+		Duration ttl = properties.ttlFor(profile.getProvider());
+		if (ttl == null || profile.getId() == null) {
+			return;
+		}
+		try {
+			redisTemplate.opsForValue().set(key(profile.getProvider(), profile.getId()),
+					objectMapper.writeValueAsString(CachedProfile.from(profile)), ttl);
+		} catch (Exception e) {
+			log.warn("Profile cache write failed: provider={}", profile.getProvider(), e);
+		}
+	}
+
+	private static String key(String provider, String subject) {
+		return KEY_PREFIX + provider + ":" + subject;
+	}
+
+	private ProviderMeters metersFor(String provider) {
+		return meters.computeIfAbsent(provider, name -> {
+			ProviderMeters providerMeters = new ProviderMeters(
+					Counter.builder(GETS_METER).tag("provider", name).tag("result", "hit").register(meterRegistry),
+					Counter.builder(GETS_METER).tag("provider", name).tag("result", "miss").register(meterRegistry));
+			Gauge.builder("oauth.profile.cache.hit.ratio", providerMeters, ProviderMeters::hitRatio)
+					.tag("provider", name)
+					.register(meterRegistry);
+			return providerMeters;
+		});
+	}
+
+	private record ProviderMeters(Counter hits, Counter misses) {
+		double hitRatio() {
+			double total = hits.count() + misses.count();
+			return total == 0 ? 0 : hits.count() / total;
+		}
+	}
+
+	/**
+	 * Redis 저장 형식 (provider, id는 키에 있으므로 제외)
+	 */
+	@JsonInclude(JsonInclude.Include.NON_EMPTY)
+	record CachedProfile(
+			@JsonProperty("e") String email,
+			@JsonProperty("n") String name,
+			@JsonProperty("k") String nickname,
+			@JsonProperty("p") String profileImage,
+			@JsonProperty("c") Map<String, Object> claims,
+			@JsonProperty("a") Map<String, Object> attributes) {
+
+		static CachedProfile from(OAuthUserProfile profile) {
+			return new CachedProfile(profile.getEmail(), profile.getName(), profile.getNickname(),
+					profile.getProfileImage(), profile.getClaims(), profile.getAttributes());
+		}
+
+		OAuthUserProfile toProfile(String provider, String subject) {
+			return OAuthUserProfile.builder()
+					.provider(provider)
+					.id(subject)
+					.email(email)
+					.name(name)
+					.nickname(nickname)
+					.profileImage(profileImage)
+					.claims(claims != null ? claims : Map.of())
+					.attributes(attributes)
+					.build();
+		}
+	}
+}
@@ -6,12 +6,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import com.elianayesol.api.services.oauthservice.naver.NaverService.OAuthUserResponse;
-import com.elianayesol.api.services.oauthservice.jwt.JwtProperties;
-import com.elianayesol.api.services.oauthservice.token.TokenStorageService;
+import com.elianayesol.api.services.oauthservice.login.LoginMetrics;
+import com.elianayesol.api.services.oauthservice.login.OAuthLoginPipeline;
+import com.elianayesol.api.services.oauthservice.login.OAuthLoginResult;
+import com.elianayesol.api.services.oauthservice.login.OAuthUserProfile;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -22,11 +22,9 @@ import java.util.UUID;
 @RequestMapping("/api/oauth/naver")
 @RequiredArgsConstructor
 @Slf4j
-@CrossOrigin(origins = {"https://www.elianayesol.com", "https://elianayesol.com", "http://localhost:3000"}, allowCredentials = "true")
 public class NaverController {
-    private final NaverService naverService;
-    private final TokenStorageService tokenStorageService;
-    private final JwtProperties jwtProperties;
+    private final OAuthLoginPipeline oAuthLoginPipeline;
+    private final LoginMetrics loginMetrics;
     
     @Value("${naver.client-id:}")
     private String clientId;
@@ -111,57 +109,9 @@ public class NaverController {
         try {
             log.info("Processing Naver login with code: {}", code.substring(0, Math.min(10, code.length())) + "...");
 
-            OAuthUserResponse response = naverService.processNaverLogin(code, state);
-            OAuthUserResponse.UserInfo userInfo = response.getUser();
+            OAuthLoginResult response = oAuthLoginPipeline.login("naver", code, state);
 
-            if (response == null || response.getAccessToken() == null) {
-                throw new RuntimeException("Failed to generate tokens");
-            }
-
-            // 토큰 저장 (Access Token -> Redis, Refresh Token -> DB)
-            String userId = userInfo != null ? userInfo.getId() : null;
-            if (userId != null) {
-                // Access Token을 Upstash Redis에 저장
-                tokenStorageService.saveAccessToken(userId, response.getAccessToken());
-                // Refresh Token을 Neon DB에 저장
-                java.time.LocalDateTime refreshTokenExpiresAt = java.time.LocalDateTime.now()
-                    .plusSeconds(jwtProperties.getRefreshExpiration() / 1000);
-                tokenStorageService.saveRefreshToken(
-                    userId, 
-                    response.getRefreshToken(), 
-                    "naver",
-                    refreshTokenExpiresAt
-                );
-                log.info("✅ Naver 로그인 성공 - Access Token (Redis) 및 Refresh Token (DB) 저장 완료: userId={}", userId);
-            }
-
-            // 프론트엔드로 리다이렉트하면서 토큰과 사용자 정보를 URL 파라미터로 전달
-            String callbackUrl = frontendUrl + "/oauth/naver/callback";
-            UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(callbackUrl)
-                    .queryParam("token", URLEncoder.encode(response.getAccessToken(), StandardCharsets.UTF_8))
-                    .queryParam("refreshToken", URLEncoder.encode(response.getRefreshToken(), StandardCharsets.UTF_8))
-                    .queryParam("success", "true");
-
-            // 사용자 정보를 개별 파라미터로 전달
-            if (userInfo != null) {
-                if (userInfo.getId() != null) {
-                    builder.queryParam("userId", URLEncoder.encode(userInfo.getId(), StandardCharsets.UTF_8));
-                }
-                if (userInfo.getEmail() != null) {
-                    builder.queryParam("email", URLEncoder.encode(userInfo.getEmail(), StandardCharsets.UTF_8));
-                }
-                if (userInfo.getNickname() != null) {
-                    builder.queryParam("nickname", URLEncoder.encode(userInfo.getNickname(), StandardCharsets.UTF_8));
-                }
-                if (userInfo.getName() != null) {
-                    builder.queryParam("name", URLEncoder.encode(userInfo.getName(), StandardCharsets.UTF_8));
-                }
-                if (userInfo.getProvider() != null) {
-                    builder.queryParam("provider", URLEncoder.encode(userInfo.getProvider(), StandardCharsets.UTF_8));
-                }
-            }
-
-            String redirectUrl = builder.build().toUriString();
+            String redirectUrl = loginMetrics.time("naver", "redirect", () -> buildSuccessRedirect(response));
 
             log.info("Successfully processed login, redirecting to frontend");
             return ResponseEntity.status(HttpStatus.FOUND)
@@ -185,4 +135,39 @@ public class NaverController {
                     .build();
         }
     }
+
+    /**
+     * 로그인 성공 시 프론트엔드 콜백 URL 생성 (토큰과 사용자 정보를 쿼리 파라미터로 전달)
+     */
+    String buildSuccessRedirect(OAuthLoginResult response) {
+        OAuthUserProfile userInfo = response.getProfile();
+
+        // 프론트엔드로 리다이렉트하면서 토큰과 사용자 정보를 URL 파라미터로 전달
+        String callbackUrl = frontendUrl + "/oauth/naver/callback";
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(callbackUrl)
+                .queryParam("token", URLEncoder.encode(response.getAccessToken(), StandardCharsets.UTF_8))
+                .queryParam("refreshToken", URLEncoder.encode(response.getRefreshToken(), StandardCharsets.UTF_8))
+                .queryParam("success", "true");
+
+        // 사용자 정보를 개별 파라미터로 전달
+        if (userInfo != null) {
+            if (userInfo.getId() != null) {
+                builder.queryParam("userId", URLEncoder.encode(userInfo.getId(), StandardCharsets.UTF_8));
+            }
+            if (userInfo.getEmail() != null) {
+                builder.queryParam("email", URLEncoder.encode(userInfo.getEmail(), StandardCharsets.UTF_8));
+            }
+            if (userInfo.getNickname() != null) {
+                builder.queryParam("nickname", URLEncoder.encode(userInfo.getNickname(), StandardCharsets.UTF_8));
+            }
+            if (userInfo.getName() != null) {
+                builder.queryParam("name", URLEncoder.encode(userInfo.getName(), StandardCharsets.UTF_8));
+            }
+            if (userInfo.getProvider() != null) {
+                builder.queryParam("provider", URLEncoder.encode(userInfo.getProvider(), StandardCharsets.UTF_8));
+            }
+        }
+
+        return builder.build().toUriString();
+    }
 }
@@ -9,14 +9,12 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
-import com.elianayesol.api.services.oauthservice.jwt.JwtTokenProvider;
 import com.elianayesol.api.services.oauthservice.naver.dto.NaverTokenResponse;
 import com.elianayesol.api.services.oauthservice.naver.dto.NaverUserInfo;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import com.elianayesol.api.services.oauthservice.login.OAuthProviderAdapter;
+import com.elianayesol.api.services.oauthservice.login.OAuthProviderToken;
+import com.elianayesol.api.services.oauthservice.login.OAuthUserProfile;
+import com.elianayesol.api.services.oauthservice.resilience.ProviderResilience;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -25,9 +23,9 @@ import java.util.Objects;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class NaverService {
+public class NaverService implements OAuthProviderAdapter {
     private final RestTemplate restTemplate;
-    private final JwtTokenProvider jwtTokenProvider;
+    private final ProviderResilience providerResilience;
     
     @Value("${naver.client-id}")
     private String clientId;
@@ -65,11 +63,13 @@ public class NaverService {
             if (tokenUri == null || tokenUri.isEmpty()) {
                 throw new IllegalStateException("Naver token URI is not configured");
             }
-            ResponseEntity<NaverTokenResponse> response = restTemplate.exchange(
-                    tokenUri,
-                    HttpMethod.POST,
-                    request,
-                    NaverTokenResponse.class);
+            // 인가 코드는 1회용이므로 재시도/hedge 없이 bulkhead + circuit breaker만 적용
+            ResponseEntity<NaverTokenResponse> response = providerResilience.call(getProvider(), "token", false,
+                    () -> restTemplate.exchange(
+                            tokenUri,
+                            HttpMethod.POST,
+                            request,
+                            NaverTokenResponse.class));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 NaverTokenResponse body = response.getBody();
@@ -109,11 +109,12 @@ public class NaverService {
 
         try {
             HttpMethod method = Objects.requireNonNull(HttpMethod.GET);
-            ResponseEntity<NaverUserInfo> response = restTemplate.exchange(
-                    userInfoUri,
-                    method,
-                    request,
-                    NaverUserInfo.class);
+            ResponseEntity<NaverUserInfo> response = providerResilience.call(getProvider(), "userinfo", true,
+                    () -> restTemplate.exchange(
+                            userInfoUri,
+                            method,
+                            request,
+                            NaverUserInfo.class));
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 return response.getBody();
@@ -127,23 +128,24 @@ public class NaverService {
         }
     }
 
-    /**
-     * 네이버 로그인 처리 (메인 로직)
-     */
-    public OAuthUserResponse processNaverLogin(String code, String state) {
-        // 1. Access Token 획득
-        NaverTokenResponse tokenResponse = getAccessToken(code, state);
+    @Override
+    public String getProvider() {
+        return "naver";
+    }
+
+    @Override
+    public OAuthProviderToken exchangeCode(String code, String state) {
+        return new OAuthProviderToken(getAccessToken(code, state).getAccessToken());
+    }
 
-        // 2. 사용자 정보 조회
-        NaverUserInfo userInfo = getUserInfo(tokenResponse.getAccessToken());
+    @Override
+    public OAuthUserProfile fetchProfile(OAuthProviderToken token) {
+        NaverUserInfo userInfo = getUserInfo(token.getAccessToken());
 
-        // 3. 네이버 사용자 정보 추출
-        String naverId = userInfo.getId();
         String email = userInfo.getEmail();
-        String nickname = userInfo.getNickname();
         String name = userInfo.getName();
 
-        // 4. JWT 토큰 생성
+        // JWT 클레임
         Map<String, Object> claims = new HashMap<>();
         if (email != null) {
             claims.put("email", email);
@@ -151,45 +153,14 @@ public class NaverService {
         if (name != null) {
             claims.put("name", name);
         }
-        String jwtAccessToken = jwtTokenProvider.generateAccessToken(naverId, claims);
-        String jwtRefreshToken = jwtTokenProvider.generateRefreshToken(naverId);
-
-        // 5. 응답 생성
-        return OAuthUserResponse.builder()
-                .accessToken(jwtAccessToken)
-                .refreshToken(jwtRefreshToken)
-                .user(OAuthUserResponse.UserInfo.builder()
-                        .id(naverId)
-                        .email(email)
-                        .nickname(nickname)
-                        .name(name)
-                        .provider("naver")
-                        .build())
-                .build();
-    }
 
-    /**
-     * 네이버 OAuth 응답 DTO
-     */
-    @Data
-    @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
-    public static class OAuthUserResponse {
-        private String accessToken;
-        private String refreshToken;
-        private UserInfo user;
-
-        @Data
-        @Builder
-        @NoArgsConstructor
-        @AllArgsConstructor
-        public static class UserInfo {
-            private String id;
-            private String email;
-            private String nickname;
-            private String name;
-            private String provider; // "naver"
-        }
+        return OAuthUserProfile.builder()
+                .provider(getProvider())
+                .id(userInfo.getId())
+                .email(email)
+                .name(name)
+                .nickname(userInfo.getNickname())
+                .claims(claims)
+                .build();
     }
 }
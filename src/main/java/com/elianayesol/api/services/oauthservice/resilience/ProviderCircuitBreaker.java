@@ -0,0 +1,122 @@
+package com.elianayesol.api.services.oauthservice.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 제공자 하나의 circuit breaker (호출 수 기준 sliding window)
+ * - CLOSED: 최근 windowSize 호출 결과를 기록, minimumCalls 이상에서 실패율이 임계값 이상이면 OPEN
+ * - OPEN: openDuration 동안 모든 호출을 즉시 거부
+ * - HALF_OPEN: halfOpenCalls 만큼만 시험 호출 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+final class ProviderCircuitBreaker {
+
+	private static final Logger log = LoggerFactory.getLogger(ProviderCircuitBreaker.class);
+
+	enum State {
+		CLOSED, HALF_OPEN, OPEN
+	}
+
+	private final String provider;
+	private final int minimumCalls;
+	private final int failureRateThreshold;
+	private final long openNanos;
+	private final int halfOpenCalls;
+	private final boolean[] window;
+
+	private State state = State.CLOSED;
+	private int index;
+	private int recorded;
+	private int failures;
+	private long openedAt;
+	private int halfOpenPermits;
+	private int halfOpenSuccesses;
+
+	ProviderCircuitBreaker(String provider, ProviderResilienceProperties.CircuitBreaker properties) {
+		this.provider = provider;
+		this.minimumCalls = properties.getMinimumCalls();
+		this.failureRateThreshold = properties.getFailureRateThreshold();
+		this.openNanos = properties.getOpenDuration().toNanos();
+		this.halfOpenCalls = Math.max(1, properties.getHalfOpenCalls());
+		this.window = new boolean[Math.max(1, properties.getWindowSize())];
+	}
+
+	/**
+	 * 호출 허용 여부 (HALF_OPEN이면 시험 호출 한 자리를 차지한다)
+	 */
+	synchronized boolean tryAcquire() {
+		if (state == State.OPEN) {
+			if (System.nanoTime() - openedAt < openNanos) {
+				return false;
+			}
+			transition(State.HALF_OPEN);
+			halfOpenPermits = halfOpenCalls;
+			halfOpenSuccesses = 0;
+		}
+		if (state == State.HALF_OPEN) {
+			if (halfOpenPermits == 0) {
+				return false;
+			}
+			halfOpenPermits--;
+		}
+		return true;
+	}
+
+	/**
+	 * 결과 없이 끝난 호출(bulkhead 거부, hedge로 취소된 쪽)의 시험 호출 자리 반환
+	 */
+	synchronized void release() {
+		if (state == State.HALF_OPEN && halfOpenPermits < halfOpenCalls) {
+			halfOpenPermits++;
+		}
+	}
+
+	synchronized void record(boolean failed) {
+		if (state == State.OPEN) {
+			return;
+		}
+		if (state == State.HALF_OPEN) {
+			if (failed) {
+				open();
+			} else if (++halfOpenSuccesses >= halfOpenCalls) {
+				transition(State.CLOSED);
+				resetWindow();
+			}
+			return;
+		}
+		if (recorded == window.length) {
+			failures -= window[index] ? 1 : 0;
+		} else {
+			recorded++;
+		}
+		window[index] = failed;
+		failures += failed ? 1 : 0;
+		index = (index + 1) % window.length;
+		if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+			open();
+		}
+	}
+
+	synchronized State getState() {
+		return state;
+	}
+
+	private void open() {
+		transition(State.OPEN);
+		openedAt = System.nanoTime();
+		resetWindow();
+	}
+
+	private void resetWindow() {
+		index = 0;
+		recorded = 0;
+		failures = 0;
+	}
+
+	private void transition(State next) {
+		if (state != next) {
+			log.warn("OAuth provider circuit breaker {} -> {}: provider={}", state, next, provider);
+			state = next;
+		}
+	}
+}
@@ -0,0 +1,343 @@
+package com.elianayesol.api.services.oauthservice.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * OAuth 제공자 호출 격리 (Google, Kakao, Naver 각각 독립)
+ * - bulkhead: 제공자별 동시 호출 상한 → 느린 제공자가 요청 스레드/커넥션을 모두 점유하지 못하게
+ * - circuit breaker: 실패가 쌓이면 즉시 거부 (ProviderCircuitBreaker)
+ * - call-timeout: 시도마다 가상 스레드에서 실행하고 시간이 지나면 interrupt (소켓을 닫고 커넥션 반환)
+ * - 시도마다 결과는 circuit breaker에 정확히 한 번만 반영 (시간 초과로 정리한 뒤 늦게 끝난 응답은 무시)
+ * - 멱등 호출(user-info)만: 예산 안에서 jitter 백오프 재시도, p95를 넘기면 hedge 요청
+ * - 4xx(429 제외)는 제공자가 정상 응답한 것으로 보고 실패로 세지 않으며 재시도하지 않는다
+ * - 지표: oauth.provider.call{provider, operation, outcome=success|error|timeout|rejected},
+ *   oauth.provider.retries / oauth.provider.hedges{provider, operation},
+ *   oauth.provider.circuit.state{provider} (0 closed, 1 half-open, 2 open), oauth.provider.bulkhead.available{provider}
+ */
+@Component
+public class ProviderResilience {
+
+	private final ProviderResilienceProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final SimpleAsyncTaskExecutor executor;
+	private final Map<String, ProviderGuard> guards = new ConcurrentHashMap<>();
+
+	public ProviderResilience(ProviderResilienceProperties properties, MeterRegistry meterRegistry,
+			TaskDecorator taskDecorator) {
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.executor = new SimpleAsyncTaskExecutor("oauth-provider-");
+		this.executor.setVirtualThreads(true);
+		this.executor.setTaskDecorator(taskDecorator);
+	}
+
+	/**
+	 * 제공자 호출 실행
+	 * @param provider 제공자 ("google", "kakao", "naver")
+	 * @param operation 호출 종류 ("token", "userinfo")
+	 * @param idempotent 재시도/hedge 허용 여부 (인가 코드 교환은 코드가 1회용이므로 false)
+	 */
+	public <T> T call(String provider, String operation, boolean idempotent, Supplier<T> call) {
+		if (!properties.isEnabled()) {
+			return call.get();
+		}
+		return guards.computeIfAbsent(provider, ProviderGuard::new).call(operation, idempotent, call);
+	}
+
+	/**
+	 * 제공자의 circuit breaker 상태 (호출한 적이 없으면 CLOSED)
+	 */
+	public String getCircuitState(String provider) {
+		ProviderGuard guard = guards.get(provider);
+		return guard != null ? guard.breaker.getState().name() : ProviderCircuitBreaker.State.CLOSED.name();
+	}
+
+	/**
+	 * 제공자 응답 자체의 실패인지 (4xx는 요청 문제이므로 제외, 429는 과부하 신호로 포함)
+	 */
+	static boolean isProviderFailure(Throwable error) {
+		if (error instanceof HttpClientErrorException clientError) {
+			return clientError.getStatusCode().value() == 429;
+		}
+		return true;
+	}
+
+	private final class ProviderGuard {
+		private final String provider;
+		private final Semaphore bulkhead;
+		private final ProviderCircuitBreaker breaker;
+		// 호출 종류별 최근 지연 (token / userinfo 지연 분포가 다르므로 따로 보관)
+		private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+		private ProviderGuard(String provider) {
+			this.provider = provider;
+			this.bulkhead = new Semaphore(properties.getBulkhead().getMaxConcurrent());
+			this.breaker = new ProviderCircuitBreaker(provider, properties.getCircuitBreaker());
+			Gauge.builder("oauth.provider.circuit.state", breaker, b -> b.getState().ordinal())
+					.tag("provider", provider)
+					.register(meterRegistry);
+			Gauge.builder("oauth.provider.bulkhead.available", bulkhead, Semaphore::availablePermits)
+					.tag("provider", provider)
+					.register(meterRegistry);
+		}
+
+		<T> T call(String operation, boolean idempotent, Supplier<T> call) {
+			int maxAttempts = idempotent ? Math.max(1, properties.getRetry().getMaxAttempts()) : 1;
+			long startedAt = System.nanoTime();
+			long budgetNanos = properties.getRetry().getBudget().toNanos();
+			for (int attempt = 1; ; attempt++) {
+				try {
+					return attempt(operation, idempotent && properties.getHedge().isEnabled(), call);
+				} catch (RejectedException e) {
+					throw e;
+				} catch (RuntimeException e) {
+					if (attempt >= maxAttempts || !isProviderFailure(e)) {
+						throw e;
+					}
+					// full jitter 지수 백오프, 예산 안에 다음 시도가 (p95 기준으로) 끝날 수 있을 때만
+					long backoffNanos = ThreadLocalRandom.current()
+							.nextLong((properties.getRetry().getBackoff().toNanos() << (attempt - 1)) + 1);
+					long expectedNanos = latencies(operation).percentile(0.95);
+					if (System.nanoTime() - startedAt + backoffNanos + expectedNanos > budgetNanos) {
+						throw e;
+					}
+					counter("oauth.provider.retries", operation).increment();
+					sleep(backoffNanos);
+				}
+			}
+		}
+
+		/**
+		 * 시도 한 번 (hedge 시 같은 요청 최대 2개, 먼저 성공한 응답 사용)
+		 */
+		private <T> T attempt(String operation, boolean hedge, Supplier<T> call) {
+			long startedAt = System.nanoTime();
+			long deadline = startedAt + properties.getCallTimeout().toNanos();
+			if (!breaker.tryAcquire()) {
+				record(operation, "rejected", startedAt);
+				throw new RejectedException(provider + " circuit breaker is open");
+			}
+			if (!acquireBulkhead(properties.getBulkhead().getMaxWait().toNanos())) {
+				breaker.release();
+				record(operation, "rejected", startedAt);
+				throw new RejectedException(provider + " bulkhead is full");
+			}
+
+			CompletableFuture<T> winner = new CompletableFuture<>();
+			AtomicInteger pending = new AtomicInteger(1);
+			List<Attempt> running = new ArrayList<>(2);
+			running.add(start(operation, call, winner, pending));
+			try {
+				long hedgeDelay = hedge
+						? Math.max(properties.getHedge().getMinDelay().toNanos(), latencies(operation).percentile(0.95))
+						: 0;
+				// hedge 지연이 남은 시간보다 길면 hedge 없이 원래 요청만 기다린다
+				if (hedge && hedgeDelay < deadline - System.nanoTime()) {
+					try {
+						return winner.get(hedgeDelay, TimeUnit.NANOSECONDS);
+					} catch (TimeoutException e) {
+						if (breaker.tryAcquire()) {
+							if (acquireBulkhead(0)) {
+								pending.incrementAndGet();
+								counter("oauth.provider.hedges", operation).increment();
+								running.add(start(operation, call, winner, pending));
+							} else {
+								breaker.release();
+							}
+						}
+					}
+				}
+				return winner.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				// 시간 초과는 호출 하나의 실패로 한 번만 기록 (나머지 시도는 finally에서 자리만 반환)
+				winner.completeExceptionally(e);
+				for (Attempt attempt : running) {
+					if (attempt.settle()) {
+						breaker.record(true);
+						break;
+					}
+				}
+				record(operation, "timeout", startedAt);
+				throw new IllegalStateException(provider + " " + operation + " timed out after "
+						+ properties.getCallTimeout().toMillis() + "ms", e);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException cause) {
+					throw cause;
+				}
+				throw new IllegalStateException(e.getCause());
+			} catch (InterruptedException e) {
+				winner.cancel(false);
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(provider + " " + operation + " interrupted", e);
+			} finally {
+				for (Attempt attempt : running) {
+					attempt.cancel();
+				}
+			}
+		}
+
+		private <T> Attempt start(String operation, Supplier<T> call, CompletableFuture<T> winner, AtomicInteger pending) {
+			Attempt attempt = new Attempt();
+			attempt.future = executor.submit(() -> {
+				if (!attempt.claimed.compareAndSet(false, true)) {
+					return;
+				}
+				long startedAt = System.nanoTime();
+				try {
+					T result = call.get();
+					long elapsed = System.nanoTime() - startedAt;
+					// 시간 초과나 취소로 이미 정리된 시도의 늦은 성공은 기록하지 않는다
+					if (attempt.settle()) {
+						latencies(operation).record(elapsed);
+						breaker.record(elapsed > properties.getCircuitBreaker().getSlowCallThreshold().toNanos());
+						record(operation, "success", startedAt);
+					}
+					winner.complete(result);
+				} catch (RuntimeException e) {
+					if (!attempt.settle()) {
+						return;
+					}
+					if (winner.isDone()) {
+						// 이미 다른 시도가 끝난 뒤의 실패
+						breaker.release();
+					} else {
+						breaker.record(isProviderFailure(e));
+						record(operation, "error", startedAt);
+						if (pending.decrementAndGet() == 0) {
+							winner.completeExceptionally(e);
+						}
+					}
+				} finally {
+					bulkhead.release();
+				}
+			});
+			return attempt;
+		}
+
+		/**
+		 * 시작한 시도 하나
+		 * - claimed: 실행이 시작됐는지 (시작 전에 취소되면 bulkhead 자리를 여기서 반환)
+		 * - settled: circuit breaker에 결과를 반영했는지 (성공/실패/시간 초과/취소 중 정확히 한 번만 record 또는 release)
+		 */
+		private final class Attempt {
+			private final AtomicBoolean claimed = new AtomicBoolean();
+			private final AtomicBoolean settled = new AtomicBoolean();
+			private volatile Future<?> future;
+
+			boolean settle() {
+				return settled.compareAndSet(false, true);
+			}
+
+			void cancel() {
+				if (claimed.compareAndSet(false, true)) {
+					bulkhead.release();
+				}
+				if (settle()) {
+					breaker.release();
+				}
+				future.cancel(true);
+			}
+		}
+
+		private LatencyWindow latencies(String operation) {
+			return latencies.computeIfAbsent(operation, name -> new LatencyWindow(128));
+		}
+
+		private boolean acquireBulkhead(long waitNanos) {
+			try {
+				return bulkhead.tryAcquire(waitNanos, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		private void record(String operation, String outcome, long startedAt) {
+			Timer.builder("oauth.provider.call")
+					.tag("provider", provider)
+					.tag("operation", operation)
+					.tag("outcome", outcome)
+					.register(meterRegistry)
+					.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+
+		private Counter counter(String name, String operation) {
+			return Counter.builder(name)
+					.tag("provider", provider)
+					.tag("operation", operation)
+					.register(meterRegistry);
+		}
+
+		private void sleep(long nanos) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(nanos);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(provider + " retry interrupted", e);
+			}
+		}
+	}
+
+	/**
+	 * 최근 성공 호출 지연 (hedge 지연, 재시도 예산 판단용)
+	 */
+	private static final class LatencyWindow {
+		private final long[] samples;
+		private int index;
+		private int size;
+
+		private LatencyWindow(int capacity) {
+			this.samples = new long[capacity];
+		}
+
+		synchronized void record(long nanos) {
+			samples[index] = nanos;
+			index = (index + 1) % samples.length;
+			size = Math.min(size + 1, samples.length);
+		}
+
+		/**
+		 * 기록이 없으면 0
+		 */
+		synchronized long percentile(double percentile) {
+			if (size == 0) {
+				return 0;
+			}
+			long[] sorted = Arrays.copyOf(samples, size);
+			Arrays.sort(sorted);
+			return sorted[Math.max(0, (int) Math.ceil(percentile * size) - 1)];
+		}
+	}
+
+	/**
+	 * circuit breaker / bulkhead 거부 (재시도하지 않음)
+	 */
+	static final class RejectedException extends IllegalStateException {
+		RejectedException(String message) {
+			super(message);
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package com.elianayesol.api.services.oauthservice.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * OAuth 제공자 호출 격리 설정 (outbound.resilience.*)
+ * - 같은 설정으로 제공자(google, kakao, naver)마다 독립된 bulkhead / circuit breaker를 만든다
+ * - call-timeout: 시도 한 번의 상한 (RestTemplate read-timeout보다 짧게 두어 느린 제공자를 빨리 끊는다)
+ */
+@Component
+@ConfigurationProperties(prefix = "outbound.resilience")
+public class ProviderResilienceProperties {
+	private boolean enabled = true;
+	private Duration callTimeout = Duration.ofSeconds(5);
+	private Bulkhead bulkhead = new Bulkhead();
+	private CircuitBreaker circuitBreaker = new CircuitBreaker();
+	private Retry retry = new Retry();
+	private Hedge hedge = new Hedge();
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public Duration getCallTimeout() {
+		return callTimeout;
+	}
+
+	public void setCallTimeout(Duration callTimeout) {
+		this.callTimeout = callTimeout;
+	}
+
+	public Bulkhead getBulkhead() {
+		return bulkhead;
+	}
+
+	public void setBulkhead(Bulkhead bulkhead) {
+		this.bulkhead = bulkhead;
+	}
+
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	public Retry getRetry() {
+		return retry;
+	}
+
+	public void setRetry(Retry retry) {
+		this.retry = retry;
+	}
+
+	public Hedge getHedge() {
+		return hedge;
+	}
+
+	public void setHedge(Hedge hedge) {
+		this.hedge = hedge;
+	}
+
+	/**
+	 * 제공자별 동시 호출 상한 (가득 차면 max-wait만 기다린 뒤 거부)
+	 * - 기본값은 loginLoadTest 기준: 한 제공자에 200 RPS × 로그인당 호출 2회(token, user-info) × 120ms(80ms + jitter 40ms)
+	 *   = 동시 48건, hedge와 순간 몰림 여유를 더해 64
+	 * - max-wait는 제공자 응답 지연보다 짧게 (대기가 길어지면 요청 스레드가 쌓인다)
+	 */
+	public static class Bulkhead {
+		private int maxConcurrent = 64;
+		private Duration maxWait = Duration.ofMillis(100);
+
+		public int getMaxConcurrent() {
+			return maxConcurrent;
+		}
+
+		public void setMaxConcurrent(int maxConcurrent) {
+			this.maxConcurrent = maxConcurrent;
+		}
+
+		public Duration getMaxWait() {
+			return maxWait;
+		}
+
+		public void setMaxWait(Duration maxWait) {
+			this.maxWait = maxWait;
+		}
+	}
+
+	/**
+	 * 최근 window-size 호출 중 실패(5xx, 429, I/O 오류, 시간 초과, slow-call-threshold 초과) 비율이
+	 * failure-rate-threshold(%) 이상이면 open-duration 동안 즉시 거부, 이후 half-open-calls 만큼 시험 호출
+	 */
+	public static class CircuitBreaker {
+		private int windowSize = 20;
+		private int minimumCalls = 10;
+		private int failureRateThreshold = 50;
+		private Duration slowCallThreshold = Duration.ofSeconds(3);
+		private Duration openDuration = Duration.ofSeconds(30);
+		private int halfOpenCalls = 3;
+
+		public int getWindowSize() {
+			return windowSize;
+		}
+
+		public void setWindowSize(int windowSize) {
+			this.windowSize = windowSize;
+		}
+
+		public int getMinimumCalls() {
+			return minimumCalls;
+		}
+
+		public void setMinimumCalls(int minimumCalls) {
+			this.minimumCalls = minimumCalls;
+		}
+
+		public int getFailureRateThreshold() {
+			return failureRateThreshold;
+		}
+
+		public void setFailureRateThreshold(int failureRateThreshold) {
+			this.failureRateThreshold = failureRateThreshold;
+		}
+
+		public Duration getSlowCallThreshold() {
+			return slowCallThreshold;
+		}
+
+		public void setSlowCallThreshold(Duration slowCallThreshold) {
+			this.slowCallThreshold = slowCallThreshold;
+		}
+
+		public Duration getOpenDuration() {
+			return openDuration;
+		}
+
+		public void setOpenDuration(Duration openDuration) {
+			this.openDuration = openDuration;
+		}
+
+		public int getHalfOpenCalls() {
+			return halfOpenCalls;
+		}
+
+		public void setHalfOpenCalls(int halfOpenCalls) {
+			this.halfOpenCalls = halfOpenCalls;
+		}
+	}
+
+	/**
+	 * 멱등 호출(user-info)만 재시도. 대기는 full jitter 지수 백오프,
+	 * 첫 시도부터 budget 안에 (백오프 + 최근 p95 지연)이 들어갈 때만 다시 시도
+	 */
+	public static class Retry {
+		private int maxAttempts = 3;
+		private Duration budget = Duration.ofSeconds(6);
+		private Duration backoff = Duration.ofMillis(100);
+
+		public int getMaxAttempts() {
+			return maxAttempts;
+		}
+
+		public void setMaxAttempts(int maxAttempts) {
+			this.maxAttempts = maxAttempts;
+		}
+
+		public Duration getBudget() {
+			return budget;
+		}
+
+		public void setBudget(Duration budget) {
+			this.budget = budget;
+		}
+
+		public Duration getBackoff() {
+			return backoff;
+		}
+
+		public void setBackoff(Duration backoff) {
+			this.backoff = backoff;
+		}
+	}
+
+	/**
+	 * 멱등 호출이 최근 p95 지연(최소 min-delay)을 넘기면 같은 요청을 한 번 더 보내 먼저 온 응답 사용
+	 * (bulkhead 여유가 있을 때만, 늦은 쪽은 취소)
+	 */
+	public static class Hedge {
+		private boolean enabled = false;
+		private Duration minDelay = Duration.ofMillis(200);
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getMinDelay() {
+			return minDelay;
+		}
+
+		public void setMinDelay(Duration minDelay) {
+			this.minDelay = minDelay;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Access Token 조회용 로컬 L1 캐시 (token.near-cache.enabled=true 일 때만 활성화)
+ * - L1: 인스턴스 메모리 (최대 개수 제한)
+ *   항목별 만료 = min(설정 TTL, Redis에 남은 TTL) → Redis에서 만료된 토큰을 L1이 더 오래 내주지 않는다
+ * - L2: Upstash Redis
+ * - 저장/삭제 시 Redis pub/sub으로 다른 인스턴스에 무효화 메시지를 보낸다
+ * - 지표: cache.gets{cache=token.access.l1|token.access.l2, result=hit|miss}
+ */
+@Component
+@ConditionalOnProperty(prefix = "token.near-cache", name = "enabled", havingValue = "true")
+public class AccessTokenNearCache implements MessageListener {
+
+	static final String INVALIDATION_CHANNEL = "token:access:invalidate";
+
+	// 자기 자신이 보낸 무효화 메시지는 무시하기 위한 인스턴스 식별자
+	private final String instanceId = UUID.randomUUID().toString();
+	private final Cache<String, Entry> cache;
+	private final Counter l2Hits;
+	private final Counter l2Misses;
+
+	@Autowired
+	public AccessTokenNearCache(
+			RedisMessageListenerContainer listenerContainer,
+			MeterRegistry meterRegistry,
+			@Value("${token.near-cache.maximum-size:10000}") long maximumSize,
+			@Value("${token.near-cache.ttl:5m}") Duration ttl) {
+		this(listenerContainer, meterRegistry, maximumSize, ttl, Ticker.systemTicker());
+	}
+
+	AccessTokenNearCache(RedisMessageListenerContainer listenerContainer, MeterRegistry meterRegistry,
+			long maximumSize, Duration ttl, Ticker ticker) {
+		Duration maxTtl = Duration.ofMinutes(TokenStorageService.ACCESS_TOKEN_EXPIRATION_MINUTES);
+		long ttlNanos = (ttl.compareTo(maxTtl) > 0 ? maxTtl : ttl).toNanos();
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new EntryExpiry(ttlNanos))
+				.ticker(ticker)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "token.access.l1");
+		this.l2Hits = Counter.builder("cache.gets")
+				.tag("cache", "token.access.l2")
+				.tag("result", "hit")
+				.register(meterRegistry);
+		this.l2Misses = Counter.builder("cache.gets")
+				.tag("cache", "token.access.l2")
+				.tag("result", "miss")
+				.register(meterRegistry);
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+	}
+
+	public String get(String userId) {
+		Entry entry = cache.getIfPresent(userId);
+		return entry != null ? entry.accessToken() : null;
+	}
+
+	/**
+	 * L1 저장
+	 * @param remaining Redis 키에 남은 TTL (0 이하면 저장하지 않음)
+	 */
+	public void put(String userId, String accessToken, Duration remaining) {
+		if (remaining.isNegative() || remaining.isZero()) {
+			cache.invalidate(userId);
+			return;
+		}
+		cache.put(userId, new Entry(accessToken, remaining.toNanos()));
+	}
+
+	public void invalidate(String userId) {
+		cache.invalidate(userId);
+	}
+
+	/**
+	 * L2(Redis) 조회 결과 기록
+	 */
+	public void recordL2Lookup(boolean hit) {
+		(hit ? l2Hits : l2Misses).increment();
+	}
+
+	/**
+	 * 다른 인스턴스로 보낼 무효화 메시지 ("인스턴스ID|사용자ID")
+	 */
+	public String invalidationMessage(String userId) {
+		return instanceId + "|" + userId;
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf('|');
+		if (separator < 0 || body.startsWith(instanceId + "|")) {
+			return;
+		}
+		cache.invalidate(body.substring(separator + 1));
+	}
+
+	private record Entry(String accessToken, long remainingNanos) {
+	}
+
+	/**
+	 * 저장/갱신 시점마다 min(설정 TTL, Redis 잔여 TTL)로 만료, 조회는 만료 시각을 바꾸지 않는다
+	 */
+	private record EntryExpiry(long ttlNanos) implements Expiry<String, Entry> {
+		@Override
+		public long expireAfterCreate(String key, Entry entry, long currentTime) {
+			return Math.min(ttlNanos, entry.remainingNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+			return Math.min(ttlNanos, entry.remainingNanos());
+		}
+
+		@Override
+		public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
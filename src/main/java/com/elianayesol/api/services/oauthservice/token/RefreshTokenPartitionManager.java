@@ -0,0 +1,239 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * refresh_tokens 월별 파티션 관리 (db/migration/V4)
+ * - 이번 달부터 months-ahead 개월 뒤까지 파티션을 미리 생성
+ *   months-ahead가 jwt.refresh-expiration(+ 하루치 실행 누락 여유)을 덮지 못하면 시작 실패
+ * - 범위 밖 행은 DEFAULT 파티션(refresh_tokens_default)에 들어가고, 해당 월 파티션을 만들 때 옮긴다
+ * - 상한이 retention 이전인 파티션은 DETACH 후 DROP (만료 토큰을 행 단위로 지우지 않음), DEFAULT의 만료 행은 DELETE
+ * - 생성과 삭제는 같은 advisory lock으로 직렬화 (여러 인스턴스가 동시에 실행해도 한 번만 처리/집계)
+ */
+@Component
+public class RefreshTokenPartitionManager {
+
+	private static final Logger log = LoggerFactory.getLogger(RefreshTokenPartitionManager.class);
+
+	static final String PARTITION_PREFIX = "refresh_tokens_p";
+	static final String DEFAULT_PARTITION = "refresh_tokens_default";
+	// 파티션 길이를 가장 짧은 달 기준으로 계산 (이번 달 말일에 발급된 토큰도 덮도록)
+	private static final Duration MIN_MONTH = Duration.ofDays(28);
+	// 하루 한 번 실행이 한 번 빠져도 삽입이 DEFAULT로 밀리지 않도록
+	private static final Duration MISSED_RUN_MARGIN = Duration.ofDays(1);
+	private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+	private static final String LIST_PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i "
+			+ "JOIN pg_class c ON c.oid = i.inhrelid "
+			+ "WHERE i.inhparent = 'refresh_tokens'::regclass";
+
+	private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('refresh_tokens_partitions'))";
+	private static final String SESSION_LOCK_SQL = "SELECT pg_advisory_lock(hashtext('refresh_tokens_partitions'))";
+	private static final String SESSION_UNLOCK_SQL = "SELECT pg_advisory_unlock(hashtext('refresh_tokens_partitions'))";
+	// 테이블이 있는지, 있으면 부모에 붙어 있는지(detach_pending: null이면 이미 떼어냄)
+	private static final String ATTACHMENT_SQL = "SELECT to_regclass(?) IS NOT NULL AS present, "
+			+ "(SELECT i.inhdetachpending FROM pg_inherits i "
+			+ "WHERE i.inhrelid = to_regclass(?) AND i.inhparent = 'refresh_tokens'::regclass) AS detach_pending";
+	// DEFAULT 파티션이 있어 일반 DETACH를 쓸 때 부모 테이블 락을 기다리는 상한
+	private static final Duration DETACH_LOCK_TIMEOUT = Duration.ofSeconds(1);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final int monthsAhead;
+	private final int retentionDays;
+	private final Counter droppedPartitions;
+	private final Counter movedRows;
+
+	public RefreshTokenPartitionManager(
+			JdbcTemplate jdbcTemplate,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${jwt.refresh-expiration}") long refreshExpirationMillis,
+			@Value("${token.partitions.months-ahead:2}") int monthsAhead,
+			@Value("${token.partitions.retention-days:1}") int retentionDays) {
+		validateCoverage(monthsAhead, Duration.ofMillis(refreshExpirationMillis));
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.monthsAhead = monthsAhead;
+		this.retentionDays = retentionDays;
+		this.droppedPartitions = Counter.builder("token.refresh.partitions.dropped")
+				.register(meterRegistry);
+		this.movedRows = Counter.builder("token.refresh.partitions.default_moved")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 이번 달 말일에 발급된 토큰의 expires_at도 미리 만든 파티션 안에 들어가는지 확인
+	 */
+	static void validateCoverage(int monthsAhead, Duration refreshExpiration) {
+		Duration covered = MIN_MONTH.multipliedBy(Math.max(0, monthsAhead));
+		if (covered.compareTo(refreshExpiration.plus(MISSED_RUN_MARGIN)) < 0) {
+			throw new IllegalStateException("token.partitions.months-ahead=" + monthsAhead
+					+ " does not cover jwt.refresh-expiration=" + refreshExpiration
+					+ " (needs at least " + minimumMonthsAhead(refreshExpiration) + ")");
+		}
+	}
+
+	static int minimumMonthsAhead(Duration refreshExpiration) {
+		Duration required = refreshExpiration.plus(MISSED_RUN_MARGIN);
+		return (int) ((required.toMillis() + MIN_MONTH.toMillis() - 1) / MIN_MONTH.toMillis());
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onStartup() {
+		maintain();
+	}
+
+	@Scheduled(cron = "${token.partitions.cron:0 10 0 * * *}")
+	public void maintain() {
+		try {
+			createFuturePartitions();
+			dropExpiredPartitions();
+		} catch (DataAccessException | TransactionException e) {
+			log.error("Refresh token partition maintenance failed", e);
+		}
+	}
+
+	private void createFuturePartitions() {
+		YearMonth current = YearMonth.now();
+		for (int i = 0; i <= monthsAhead; i++) {
+			createPartition(current.plusMonths(i));
+		}
+	}
+
+	/**
+	 * 월 파티션 생성 (DEFAULT에 그 달 행이 있으면 같은 트랜잭션에서 새 파티션으로 옮긴 뒤 ATTACH)
+	 * - DEFAULT에 해당 범위 행이 남아 있으면 PARTITION OF 생성이 실패하므로 먼저 옮긴다
+	 * - ATTACH 시 refresh_tokens의 인덱스/PK가 새 파티션에 만들어진다
+	 */
+	private void createPartition(YearMonth month) {
+		String partition = partitionName(month);
+		LocalDate from = month.atDay(1);
+		LocalDate to = month.plusMonths(1).atDay(1);
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcTemplate.queryForList(LOCK_SQL);
+			if (jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition)) {
+				return;
+			}
+			jdbcTemplate.execute(String.format(
+					"CREATE TABLE %s (LIKE refresh_tokens INCLUDING DEFAULTS INCLUDING CONSTRAINTS)", partition));
+			int moved = jdbcTemplate.update(String.format(
+					"WITH moved AS (DELETE FROM %s WHERE expires_at >= ? AND expires_at < ? RETURNING *) "
+							+ "INSERT INTO %s SELECT * FROM moved", DEFAULT_PARTITION, partition),
+					from.atStartOfDay(), to.atStartOfDay());
+			jdbcTemplate.execute(String.format(
+					"ALTER TABLE refresh_tokens ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+					partition, from, to));
+			if (moved > 0) {
+				movedRows.increment(moved);
+				log.warn("Moved {} refresh token(s) from {} into new partition {}", moved, DEFAULT_PARTITION, partition);
+			}
+		});
+	}
+
+	private void dropExpiredPartitions() {
+		// 파티션 상한(다음 달 1일)이 기준일 이전이면 모든 행이 만료된 상태
+		LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+		List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class);
+		boolean concurrently = !partitions.contains(DEFAULT_PARTITION);
+		for (String partition : partitions) {
+			if (!partition.startsWith(PARTITION_PREFIX)) {
+				continue;
+			}
+			YearMonth month = YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+			if (month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+				continue;
+			}
+			try {
+				if (dropPartition(partition, concurrently)) {
+					droppedPartitions.increment();
+					log.info("Dropped expired refresh token partition {}", partition);
+				}
+			} catch (DataAccessException e) {
+				// lock_timeout 등 - 다음 실행에서 다시 시도
+				log.warn("Could not drop refresh token partition {}: {}", partition, e.getMessage());
+			}
+		}
+		// DEFAULT에 들어간 행(범위 밖 expires_at, 이전 달 이관 데이터)은 행 단위로 정리 (평소에는 비어 있음)
+		int purged = jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE expires_at < ?",
+				cutoff.atStartOfDay());
+		if (purged > 0) {
+			log.info("Purged {} expired refresh token(s) from {}", purged, DEFAULT_PARTITION);
+		}
+	}
+
+	/**
+	 * 파티션을 떼어낸 뒤 DROP (부모 테이블에 ACCESS EXCLUSIVE를 잡는 DROP을 직접 실행하지 않는다)
+	 * - 한 커넥션(autocommit)에서 생성과 같은 advisory lock을 세션 단위로 잡아 인스턴스 간 직렬화
+	 * - 이미 다른 인스턴스가 지웠으면 false
+	 * - CONCURRENTLY는 트랜잭션 밖에서만, DEFAULT 파티션이 없을 때만 가능 → 있으면 일반 DETACH를
+	 *   짧은 lock_timeout으로 실행 (락을 못 얻으면 대기열을 막지 않고 포기, 다음 실행에서 재시도)
+	 * - 이전 CONCURRENTLY가 중간에 끊겨 detach pending 상태면 FINALIZE로 마무리
+	 */
+	private boolean dropPartition(String partition, boolean concurrently) {
+		return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute(SESSION_LOCK_SQL);
+				try {
+					Boolean detachPending;
+					try (PreparedStatement query = connection.prepareStatement(ATTACHMENT_SQL)) {
+						query.setString(1, partition);
+						query.setString(2, partition);
+						try (ResultSet resultSet = query.executeQuery()) {
+							if (!resultSet.next() || !resultSet.getBoolean("present")) {
+								return false;
+							}
+							detachPending = (Boolean) resultSet.getObject("detach_pending");
+						}
+					}
+					if (detachPending != null) {
+						if (!detachPending && !concurrently) {
+							statement.execute("SET lock_timeout = '" + DETACH_LOCK_TIMEOUT.toMillis() + "ms'");
+						}
+						statement.execute(detachSql(partition, detachPending, concurrently));
+					}
+					statement.execute("DROP TABLE " + partition);
+					return true;
+				} finally {
+					statement.execute("RESET lock_timeout");
+					statement.execute(SESSION_UNLOCK_SQL);
+				}
+			}
+		}));
+	}
+
+	static String detachSql(String partition, boolean detachPending, boolean concurrently) {
+		String detach = "ALTER TABLE refresh_tokens DETACH PARTITION " + partition;
+		if (detachPending) {
+			return detach + " FINALIZE";
+		}
+		return concurrently ? detach + " CONCURRENTLY" : detach;
+	}
+
+	static String partitionName(YearMonth month) {
+		return PARTITION_PREFIX + month.format(SUFFIX);
+	}
+}
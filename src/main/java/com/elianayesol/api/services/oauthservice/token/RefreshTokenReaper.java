@@ -0,0 +1,157 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 취소된 Refresh Token 정리 (token.reaper.enabled=true 일 때만 활성화)
+ * - 만료된 토큰은 월별 파티션째 DROP 되므로 (RefreshTokenPartitionManager) 여기서는 취소된 행만 삭제
+ * - id 기준 keyset 페이지네이션으로 batch-size 건씩 삭제 (긴 트랜잭션/락 방지)
+ * - 배치 사이에 쉬어서 초당 삭제 건수를 rows-per-second 이하로 유지
+ * - window-start ~ window-end (zone 기준) 시간대에만 실행, 같으면 항상 실행
+ * - Redis SET NX 락으로 여러 인스턴스 중 한 곳에서만 실행
+ * - 지표: token.refresh.reaper.purged (삭제 건수), token.refresh.reaper.run (소요 시간)
+ */
+@Component
+@ConditionalOnProperty(prefix = "token.reaper", name = "enabled", havingValue = "true")
+public class RefreshTokenReaper {
+
+	private static final Logger log = LoggerFactory.getLogger(RefreshTokenReaper.class);
+
+	static final String LOCK_KEY = "token:reaper:lock";
+
+	// expires_at은 TIMESTAMP(시간대 없음)이고 JVM의 LocalDateTime.now()로 기록되므로
+	// 기준 시각도 DB의 now()가 아니라 JVM 시계에서 바인딩한다 (JVM/DB 시간대가 달라도 같은 기준)
+	static final String PURGE_SQL = "WITH doomed AS ("
+			+ "SELECT id FROM refresh_tokens "
+			+ "WHERE id > :lastId AND is_revoked AND expires_at > :now "
+			+ "ORDER BY id LIMIT :batchSize) "
+			+ "DELETE FROM refresh_tokens r USING doomed WHERE r.id = doomed.id "
+			+ "RETURNING r.id";
+
+	// 자신이 잡은 락만 해제
+	private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+			Long.class);
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final String instanceId = UUID.randomUUID().toString();
+	private final int batchSize;
+	private final int rowsPerSecond;
+	private final Duration maxRunTime;
+	private final LocalTime windowStart;
+	private final LocalTime windowEnd;
+	private final Clock clock;
+
+	private final Counter purgedRows;
+	private final Timer runTimer;
+
+	public RefreshTokenReaper(
+			NamedParameterJdbcTemplate jdbcTemplate,
+			RedisTemplate<String, String> redisTemplate,
+			MeterRegistry meterRegistry,
+			@Value("${token.reaper.batch-size:1000}") int batchSize,
+			@Value("${token.reaper.rows-per-second:5000}") int rowsPerSecond,
+			@Value("${token.reaper.max-run-time:10m}") Duration maxRunTime,
+			@Value("${token.reaper.window-start:03:00}") String windowStart,
+			@Value("${token.reaper.window-end:06:00}") String windowEnd,
+			@Value("${token.reaper.zone:Asia/Seoul}") String zone) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.redisTemplate = redisTemplate;
+		this.batchSize = batchSize;
+		this.rowsPerSecond = rowsPerSecond;
+		this.maxRunTime = maxRunTime;
+		this.windowStart = LocalTime.parse(windowStart);
+		this.windowEnd = LocalTime.parse(windowEnd);
+		this.clock = Clock.system(ZoneId.of(zone));
+		this.purgedRows = Counter.builder("token.refresh.reaper.purged")
+				.register(meterRegistry);
+		this.runTimer = Timer.builder("token.refresh.reaper.run")
+				.register(meterRegistry);
+	}
+
+	@Scheduled(
+			fixedDelayString = "${token.reaper.interval:15m}",
+			initialDelayString = "${token.reaper.initial-delay:1m}")
+	public void purge() {
+		if (!inWindow()) {
+			return;
+		}
+		// 락 TTL = 최대 실행 시간 + 여유 (인스턴스가 죽어도 락이 남지 않도록)
+		Boolean acquired = redisTemplate.opsForValue()
+				.setIfAbsent(LOCK_KEY, instanceId, maxRunTime.plusMinutes(1));
+		if (!Boolean.TRUE.equals(acquired)) {
+			return;
+		}
+		try {
+			long purged = runTimer.record(this::purgeBatches);
+			if (purged > 0) {
+				log.info("Purged {} revoked refresh tokens", purged);
+			}
+		} finally {
+			redisTemplate.execute(RELEASE_LOCK, Collections.singletonList(LOCK_KEY), instanceId);
+		}
+	}
+
+	private long purgeBatches() {
+		long deadline = System.nanoTime() + maxRunTime.toNanos();
+		long pauseMillis = rowsPerSecond > 0 ? batchSize * 1000L / rowsPerSecond : 0;
+		long lastId = 0;
+		long total = 0;
+		while (System.nanoTime() < deadline && inWindow()) {
+			List<Long> deleted = jdbcTemplate.queryForList(PURGE_SQL, new MapSqlParameterSource()
+					.addValue("lastId", lastId)
+					.addValue("now", LocalDateTime.now())
+					.addValue("batchSize", batchSize), Long.class);
+			total += deleted.size();
+			purgedRows.increment(deleted.size());
+			if (deleted.size() < batchSize) {
+				break;
+			}
+			lastId = Collections.max(deleted);
+			if (pauseMillis > 0) {
+				try {
+					Thread.sleep(pauseMillis);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+		return total;
+	}
+
+	private boolean inWindow() {
+		if (windowStart.equals(windowEnd)) {
+			return true;
+		}
+		LocalTime now = LocalTime.now(clock);
+		if (windowStart.isBefore(windowEnd)) {
+			return !now.isBefore(windowStart) && now.isBefore(windowEnd);
+		}
+		// 자정을 넘는 시간대 (예: 23:00 ~ 05:00)
+		return !now.isBefore(windowStart) || now.isBefore(windowEnd);
+	}
+}
@@ -0,0 +1,67 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+/**
+ * Refresh Token 회전 결과
+ * - 성공 시 새 Access/Refresh Token, 실패 시 실패 사유(Failure)를 담는다
+ */
+public final class RefreshTokenRotationResult {
+
+	/**
+	 * 회전 실패 사유
+	 */
+	public enum Failure {
+		INVALID,
+		EXPIRED,
+		REVOKED,
+		// 이미 회전된 토큰이 다시 제시됨 (탈취 의심 → 사용자 토큰 전체 폐기)
+		REUSED
+	}
+
+	private final String userId;
+	private final String provider;
+	private final String accessToken;
+	private final String refreshToken;
+	private final Failure failure;
+
+	private RefreshTokenRotationResult(String userId, String provider, String accessToken, String refreshToken,
+			Failure failure) {
+		this.userId = userId;
+		this.provider = provider;
+		this.accessToken = accessToken;
+		this.refreshToken = refreshToken;
+		this.failure = failure;
+	}
+
+	public static RefreshTokenRotationResult rotated(String userId, String provider, String accessToken,
+			String refreshToken) {
+		return new RefreshTokenRotationResult(userId, provider, accessToken, refreshToken, null);
+	}
+
+	public static RefreshTokenRotationResult failed(Failure failure) {
+		return new RefreshTokenRotationResult(null, null, null, null, failure);
+	}
+
+	public boolean isRotated() {
+		return failure == null;
+	}
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public String getProvider() {
+		return provider;
+	}
+
+	public String getAccessToken() {
+		return accessToken;
+	}
+
+	public String getRefreshToken() {
+		return refreshToken;
+	}
+
+	public Failure getFailure() {
+		return failure;
+	}
+}
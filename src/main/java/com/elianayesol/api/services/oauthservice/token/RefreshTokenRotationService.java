@@ -0,0 +1,117 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import com.elianayesol.api.entity.RefreshToken;
+import com.elianayesol.api.services.oauthservice.jwt.JwtProperties;
+import com.elianayesol.api.services.oauthservice.jwt.JwtTokenProvider;
+import com.elianayesol.api.services.oauthservice.jwt.JwtValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Refresh Token 회전 (POST /api/oauth/token/refresh)
+ * 1. JWT 서명/만료 검증 (subject = userId)
+ * 2. Redis Lua 스크립트 1회로 상태 확인 + 회전 + 새 Access Token 저장
+ * 3. Redis에 상태가 없으면 DB(또는 write-behind 대기 버퍼)에서 확인 후 시드하여 다시 회전
+ * 4. 새 Refresh Token의 DB 반영은 기다리지 않는다 (TokenStorageService.saveRefreshTokenAsync)
+ *    → Redis에 상태가 있으면 요청은 Redis 왕복 1회로 끝난다 (DB는 Redis miss 시 3단계의 시드 원본)
+ * 이미 회전된 토큰이 다시 오면 재사용으로 보고 해당 사용자/제공자의 토큰을 모두 폐기한다
+ */
+@Service
+public class RefreshTokenRotationService {
+
+	private static final Logger log = LoggerFactory.getLogger(RefreshTokenRotationService.class);
+
+	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtProperties jwtProperties;
+	private final RefreshTokenStateStore stateStore;
+	private final TokenStorageService tokenStorageService;
+	// 선택 사항: token.near-cache.enabled=true 일 때만 주입됨
+	private AccessTokenNearCache nearCache;
+
+	public RefreshTokenRotationService(
+			JwtTokenProvider jwtTokenProvider,
+			JwtProperties jwtProperties,
+			RefreshTokenStateStore stateStore,
+			TokenStorageService tokenStorageService) {
+		this.jwtTokenProvider = jwtTokenProvider;
+		this.jwtProperties = jwtProperties;
+		this.stateStore = stateStore;
+		this.tokenStorageService = tokenStorageService;
+	}
+
+	@Autowired(required = false)
+	public void setNearCache(AccessTokenNearCache nearCache) {
+		this.nearCache = nearCache;
+	}
+
+	public RefreshTokenRotationResult rotate(String refreshToken) {
+		JwtValidationResult validation = jwtTokenProvider.parseAndValidate(refreshToken);
+		if (!validation.isValid()) {
+			return RefreshTokenRotationResult.failed(switch (validation.getFailure()) {
+				case EXPIRED -> RefreshTokenRotationResult.Failure.EXPIRED;
+				case REVOKED -> RefreshTokenRotationResult.Failure.REVOKED;
+				default -> RefreshTokenRotationResult.Failure.INVALID;
+			});
+		}
+		String userId = validation.getClaims().getSubject();
+		String newRefreshToken = jwtTokenProvider.generateRefreshToken(userId);
+		String accessToken = jwtTokenProvider.generateAccessToken(userId, null);
+		LocalDateTime newExpiresAt = LocalDateTime.now().plusSeconds(jwtProperties.getRefreshExpiration() / 1000);
+
+		List<String> outcome = execute(refreshToken, userId, newRefreshToken, newExpiresAt, accessToken, null);
+		if ("miss".equals(outcome.get(0))) {
+			// Redis 사본이 없음 (TTL 경과/재시작) → 원본 확인 후 시드하여 회전
+			RefreshToken stored = tokenStorageService.getRefreshToken(refreshToken);
+			if (stored == null || !userId.equals(stored.getUserId())) {
+				return RefreshTokenRotationResult.failed(RefreshTokenRotationResult.Failure.INVALID);
+			}
+			outcome = execute(refreshToken, userId, newRefreshToken, newExpiresAt, accessToken, stored);
+		}
+
+		switch (outcome.get(0)) {
+			case "ok" -> {
+				String provider = outcome.get(2);
+				if (nearCache != null) {
+					nearCache.put(userId, accessToken, Duration.ofMinutes(TokenStorageService.ACCESS_TOKEN_EXPIRATION_MINUTES));
+				}
+				tokenStorageService.saveRefreshTokenAsync(userId, newRefreshToken, provider, newExpiresAt);
+				return RefreshTokenRotationResult.rotated(userId, provider, accessToken, newRefreshToken);
+			}
+			case "reuse" -> {
+				String provider = outcome.get(2);
+				log.warn("Refresh token reuse detected: userId={}, provider={}", userId, provider);
+				tokenStorageService.deleteAllTokens(userId, provider);
+				return RefreshTokenRotationResult.failed(RefreshTokenRotationResult.Failure.REUSED);
+			}
+			case "revoked" -> {
+				return RefreshTokenRotationResult.failed(RefreshTokenRotationResult.Failure.REVOKED);
+			}
+			case "expired" -> {
+				return RefreshTokenRotationResult.failed(RefreshTokenRotationResult.Failure.EXPIRED);
+			}
+			default -> {
+				return RefreshTokenRotationResult.failed(RefreshTokenRotationResult.Failure.INVALID);
+			}
+		}
+	}
+
+	private List<String> execute(String refreshToken, String userId, String newRefreshToken,
+			LocalDateTime newExpiresAt, String accessToken, RefreshToken seed) {
+		return stateStore.rotate(
+				refreshToken,
+				userId,
+				newRefreshToken,
+				newExpiresAt,
+				accessToken,
+				seed != null ? seed.getProvider() : null,
+				seed != null ? seed.getExpiresAt() : null,
+				nearCache != null ? AccessTokenNearCache.INVALIDATION_CHANNEL : null,
+				nearCache != null ? nearCache.invalidationMessage(userId) : null);
+	}
+}
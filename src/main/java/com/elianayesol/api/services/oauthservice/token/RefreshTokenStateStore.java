@@ -0,0 +1,132 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import com.elianayesol.api.services.oauthservice.jwt.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Refresh Token 상태의 Redis 사본 (원본은 Neon DB)
+ * - refresh_token:{sha256 hex} → hash {status=active|rotated|revoked, user, provider, exp}
+ * - refresh_token:current:{userId}:{provider} → 현재 유효한 토큰의 다이제스트
+ * - TTL은 hot-ttl과 토큰 남은 유효기간 중 짧은 쪽, 만료되면 DB에서 다시 읽어 시드
+ * - 회전은 Lua 스크립트 한 번(1회 왕복)으로 검사/교체/Access Token 저장까지 처리
+ *   (사용자별 키를 스크립트 안에서 만들므로 Redis Cluster가 아닌 단일 샤드 기준)
+ */
+@Component
+public class RefreshTokenStateStore {
+
+	static final String KEY_PREFIX = "refresh_token:";
+	static final String CURRENT_KEY_PREFIX = "refresh_token:current:";
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> ROTATE =
+			RedisScript.of(new ClassPathResource("scripts/rotate_refresh_token.lua"), List.class);
+
+	// 상태가 남아 있을 때만 revoked로 표시 (TTL이 없는 키를 새로 만들지 않도록)
+	private static final RedisScript<Long> MARK_REVOKED = new DefaultRedisScript<>(
+			"if redis.call('exists', KEYS[1]) == 1 then return redis.call('hset', KEYS[1], 'status', 'revoked') end return 0",
+			Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Duration hotTtl;
+
+	public RefreshTokenStateStore(
+			RedisTemplate<String, String> redisTemplate,
+			@Value("${token.refresh.redis-ttl:7d}") Duration hotTtl) {
+		this.redisTemplate = redisTemplate;
+		this.hotTtl = hotTtl;
+	}
+
+	/**
+	 * 파이프라인에 새 Refresh Token 상태 저장 명령 추가 (로그인 시)
+	 */
+	public void seed(RedisOperations<String, String> operations, String userId, String provider,
+			String refreshToken, LocalDateTime expiresAt) {
+		long expiresAtMillis = toEpochMillis(expiresAt);
+		long ttlMillis = ttlMillis(expiresAtMillis);
+		if (ttlMillis <= 0) {
+			return;
+		}
+		String digest = digestHex(refreshToken);
+		String key = KEY_PREFIX + digest;
+		operations.opsForHash().putAll(key, Map.of(
+				"status", "active",
+				"user", userId,
+				"provider", provider,
+				"exp", Long.toString(expiresAtMillis)));
+		operations.expire(key, Duration.ofMillis(ttlMillis));
+		operations.opsForValue().set(CURRENT_KEY_PREFIX + userId + ":" + provider, digest, Duration.ofMillis(ttlMillis));
+	}
+
+	/**
+	 * 제시된 Refresh Token을 새 토큰으로 회전하고 새 Access Token을 저장
+	 * @param seedProvider Redis에 상태가 없을 때 DB에서 확인한 provider (없으면 null)
+	 * @param seedExpiresAt DB에서 확인한 만료 시간 (없으면 null)
+	 * @return {status, userId, provider} (status: ok, miss, reuse, revoked, expired, invalid)
+	 */
+	@SuppressWarnings("unchecked")
+	public List<String> rotate(String presentedToken, String userId, String newRefreshToken,
+			LocalDateTime newExpiresAt, String accessToken, String seedProvider, LocalDateTime seedExpiresAt,
+			String invalidationChannel, String invalidationMessage) {
+		long newExpiresAtMillis = toEpochMillis(newExpiresAt);
+		String newDigest = digestHex(newRefreshToken);
+		return (List<String>) redisTemplate.execute(ROTATE,
+				List.of(KEY_PREFIX + digestHex(presentedToken), KEY_PREFIX + newDigest, "access_token:" + userId),
+				userId,
+				Long.toString(System.currentTimeMillis()),
+				Long.toString(newExpiresAtMillis),
+				Long.toString(ttlMillis(newExpiresAtMillis)),
+				accessToken,
+				Long.toString(Duration.ofMinutes(TokenStorageService.ACCESS_TOKEN_EXPIRATION_MINUTES).toSeconds()),
+				newDigest,
+				seedProvider != null ? seedProvider : "",
+				seedExpiresAt != null ? Long.toString(toEpochMillis(seedExpiresAt)) : "0",
+				invalidationChannel != null ? invalidationChannel : "",
+				invalidationMessage != null ? invalidationMessage : "");
+	}
+
+	/**
+	 * 토큰 상태를 revoked로 표시 (상태가 없으면 아무것도 하지 않음)
+	 */
+	public void revoke(String refreshToken) {
+		markRevoked(KEY_PREFIX + digestHex(refreshToken));
+	}
+
+	/**
+	 * 사용자/제공자의 현재 토큰 상태를 revoked로 표시
+	 */
+	public void revokeCurrent(String userId, String provider) {
+		String digest = redisTemplate.opsForValue().get(CURRENT_KEY_PREFIX + userId + ":" + provider);
+		if (digest != null) {
+			markRevoked(KEY_PREFIX + digest);
+		}
+	}
+
+	private void markRevoked(String key) {
+		redisTemplate.execute(MARK_REVOKED, List.of(key));
+	}
+
+	private long ttlMillis(long expiresAtMillis) {
+		return Math.min(hotTtl.toMillis(), expiresAtMillis - System.currentTimeMillis());
+	}
+
+	private static long toEpochMillis(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private static String digestHex(String token) {
+		return HexFormat.of().formatHex(TokenDigest.sha256(token));
+	}
+}
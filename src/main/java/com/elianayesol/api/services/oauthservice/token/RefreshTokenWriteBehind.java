@@ -0,0 +1,377 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import com.elianayesol.api.entity.RefreshToken;
+import com.elianayesol.api.repository.RefreshTokenRepository;
+import com.elianayesol.api.services.oauthservice.jwt.TokenDigest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Refresh Token write-behind 저장 (token.refresh-write-behind.enabled=true 일 때만 활성화)
+ * - 로그인 요청 스레드는 큐에 넣고, 전용 스레드 1개가 여러 요청을 모아 JDBC 배치로 Neon DB에 반영 (group commit)
+ * - save()는 커밋될 때까지 commit-timeout 만큼 기다리고, 늦으면 호출 스레드에서 직접 저장한다
+ *   (커밋되지 않은 Refresh Token을 응답으로 내보내지 않음, 최종 실패는 예외로 요청 실패)
+ * - 실패한 배치는 max-attempts까지 재시도, 그래도 실패하면 쓰기별로 나눠 한 번 더 시도
+ * - 큐가 가득 차면 호출 스레드에서 직접 저장한다 (backpressure)
+ * - 종료 시(@PreDestroy) 큐에 남은 쓰기를 모두 반영
+ * - 아직 반영되지 않은 토큰은 findPending()으로 조회 가능 (로그인 직후 refresh 대응)
+ * - 같은 (userId, provider)에 대해 더 새로운 쓰기가 있으면 이전 쓰기는 건너뛴다
+ */
+@Component
+@ConditionalOnProperty(prefix = "token.refresh-write-behind", name = "enabled", havingValue = "true")
+public class RefreshTokenWriteBehind {
+
+	private static final Logger log = LoggerFactory.getLogger(RefreshTokenWriteBehind.class);
+
+	// 배치의 (userId, provider) 락을 정렬된 순서로 한 번에 획득 (RefreshTokenRepository.LOCK_SQL과 같은 키)
+	private static final String LOCK_KEYS_SQL = "SELECT pg_advisory_xact_lock(hashtextextended(k, 0)) "
+			+ "FROM (SELECT k FROM unnest(ARRAY[:lockKeys]::text[]) AS k ORDER BY k) sorted";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final BlockingQueue<PendingWrite> queue;
+	// (userId, provider) → 가장 최근 쓰기 / token → 아직 커밋되지 않은 쓰기
+	private final ConcurrentHashMap<String, PendingWrite> pendingByKey = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, PendingWrite> pendingByToken = new ConcurrentHashMap<>();
+	// 전용 스레드와 caller-runs 저장이 같은 키를 순서 없이 덮어쓰지 않도록 직렬화
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final int batchSize;
+	private final Duration flushInterval;
+	private final Duration shutdownTimeout;
+	private final int maxAttempts;
+	private final Duration retryBackoff;
+	private final Duration commitTimeout;
+	private final Thread flusher;
+	private volatile boolean running = true;
+
+	private final Counter flushedWrites;
+	private final Counter failedWrites;
+	private final Counter callerRunsWrites;
+	private final Counter retriedFlushes;
+	private final Timer flushTimer;
+
+	public RefreshTokenWriteBehind(
+			NamedParameterJdbcTemplate jdbcTemplate,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${token.refresh-write-behind.queue-capacity:10000}") int queueCapacity,
+			@Value("${token.refresh-write-behind.batch-size:200}") int batchSize,
+			@Value("${token.refresh-write-behind.flush-interval:50ms}") Duration flushInterval,
+			@Value("${token.refresh-write-behind.shutdown-timeout:10s}") Duration shutdownTimeout,
+			@Value("${token.refresh-write-behind.max-attempts:3}") int maxAttempts,
+			@Value("${token.refresh-write-behind.retry-backoff:100ms}") Duration retryBackoff,
+			@Value("${token.refresh-write-behind.commit-timeout:2s}") Duration commitTimeout) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.flushInterval = flushInterval;
+		this.shutdownTimeout = shutdownTimeout;
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.retryBackoff = retryBackoff;
+		this.commitTimeout = commitTimeout;
+
+		Gauge.builder("token.refresh.write_behind.queue", queue, BlockingQueue::size)
+				.register(meterRegistry);
+		this.flushedWrites = Counter.builder("token.refresh.write_behind.writes")
+				.tag("result", "flushed")
+				.register(meterRegistry);
+		this.failedWrites = Counter.builder("token.refresh.write_behind.writes")
+				.tag("result", "failed")
+				.register(meterRegistry);
+		this.callerRunsWrites = Counter.builder("token.refresh.write_behind.writes")
+				.tag("result", "caller_runs")
+				.register(meterRegistry);
+		this.retriedFlushes = Counter.builder("token.refresh.write_behind.retries")
+				.register(meterRegistry);
+		this.flushTimer = Timer.builder("token.refresh.write_behind.flush")
+				.register(meterRegistry);
+
+		this.flusher = Thread.ofPlatform()
+				.name("refresh-token-write-behind")
+				.daemon(true)
+				.start(this::drainLoop);
+	}
+
+	/**
+	 * Refresh Token 저장 (커밋될 때까지 대기, 기존 (userId, provider) 토큰은 교체)
+	 * - commit-timeout 안에 배치가 커밋되지 않으면 호출 스레드에서 직접 반영
+	 * - 같은 키의 더 새로운 쓰기로 대체되면 그 쓰기의 결과를 따르고, 직접 반영한 뒤에는 더 기다리지 않는다
+	 * @throws RuntimeException 재시도 후에도 저장하지 못한 경우 (DB 예외)
+	 */
+	public void save(String userId, String refreshToken, String provider, LocalDateTime expiresAt) {
+		CompletableFuture<Void> future = submit(userId, refreshToken, provider, expiresAt);
+		try {
+			future.get(commitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+			return;
+		} catch (TimeoutException e) {
+			callerRunsWrites.increment();
+			PendingWrite write = pendingByToken.get(refreshToken);
+			if (write != null) {
+				flush(List.of(write));
+			}
+		} catch (ExecutionException e) {
+			throw propagate(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while saving refresh token", e);
+		}
+		// flushLock 이후: 반영됐거나(완료) 새 쓰기로 대체됐다(미완료)
+		if (future.isCompletedExceptionally()) {
+			throw propagate(future.handle((ignored, error) -> error).join());
+		}
+	}
+
+	/**
+	 * Refresh Token 저장 요청 (기존 (userId, provider) 토큰은 교체)
+	 * @return DB 커밋 후 완료되는 future
+	 */
+	public CompletableFuture<Void> submit(String userId, String refreshToken, String provider, LocalDateTime expiresAt) {
+		PendingWrite write = new PendingWrite(userId, refreshToken, provider, expiresAt);
+		PendingWrite previous = pendingByKey.put(write.key, write);
+		pendingByToken.put(refreshToken, write);
+		if (previous != null) {
+			pendingByToken.remove(previous.token, previous);
+			// 이전 쓰기는 새 쓰기로 대체되므로 새 쓰기가 커밋될 때 함께 완료
+			write.future.whenComplete((ignored, error) -> complete(previous, error));
+		}
+		if (!running || !queue.offer(write)) {
+			callerRunsWrites.increment();
+			flush(List.of(write));
+		}
+		return write.future;
+	}
+
+	/**
+	 * 아직 DB에 반영되지 않은 Refresh Token 조회
+	 * @return 대기 중인 토큰 (id 없음) 또는 null
+	 */
+	public RefreshToken findPending(String refreshToken) {
+		PendingWrite write = pendingByToken.get(refreshToken);
+		if (write == null) {
+			return null;
+		}
+		return RefreshToken.builder()
+				.tokenHash(TokenDigest.sha256(write.token))
+				.userId(write.userId)
+				.provider(write.provider)
+				.expiresAt(write.expiresAt)
+				.createdAt(write.createdAt)
+				.isRevoked(false)
+				.build();
+	}
+
+	/**
+	 * 해당 토큰의 대기 중인 쓰기가 커밋될 때까지 대기 (revoke 전에 호출)
+	 */
+	public void awaitToken(String refreshToken) {
+		await(pendingByToken.get(refreshToken));
+	}
+
+	/**
+	 * 해당 사용자/제공자의 대기 중인 쓰기가 커밋될 때까지 대기
+	 */
+	public void awaitUser(String userId, String provider) {
+		await(pendingByKey.get(key(userId, provider)));
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		// 이후 submit은 호출 스레드에서 저장, 전용 스레드는 진행 중인 배치를 마치고 루프를 빠져나온다
+		// (JDBC 호출 중 인터럽트하지 않음)
+		running = false;
+		flusher.join(shutdownTimeout.toMillis());
+		// 큐에 남은 쓰기는 종료 스레드에서 배치 단위로 반영
+		List<PendingWrite> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		for (int start = 0; start < remaining.size(); start += batchSize) {
+			flush(remaining.subList(start, Math.min(start + batchSize, remaining.size())));
+		}
+		if (!remaining.isEmpty()) {
+			log.info("Refresh token write-behind drained on shutdown: writes={}", remaining.size());
+		}
+	}
+
+	private void drainLoop() {
+		// flush는 실패를 future로 전달하고 예외를 던지지 않는다
+		List<PendingWrite> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				PendingWrite first = queue.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				flush(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<PendingWrite> writes) {
+		flushLock.lock();
+		try {
+			// 더 새로운 쓰기로 대체된 항목은 건너뜀 (새 쓰기가 커밋될 때 함께 완료됨)
+			List<PendingWrite> current = new ArrayList<>(writes.size());
+			for (PendingWrite write : writes) {
+				if (pendingByKey.get(write.key) == write) {
+					current.add(write);
+				}
+			}
+			if (current.isEmpty()) {
+				return;
+			}
+			RuntimeException error = persistWithRetry(current);
+			if (error != null && current.size() > 1) {
+				// 배치 전체가 계속 실패하면 쓰기별로 나눠 문제 있는 행만 실패로 남긴다
+				for (PendingWrite write : current) {
+					finish(List.of(write), persist(List.of(write)));
+				}
+				return;
+			}
+			finish(current, error);
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * 배치 저장 (max-attempts까지 retry-backoff * 시도 횟수 간격으로 재시도)
+	 * @return 마지막 실패 또는 성공 시 null
+	 */
+	private RuntimeException persistWithRetry(List<PendingWrite> writes) {
+		RuntimeException error = null;
+		for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+			error = persist(writes);
+			if (error == null || attempt == maxAttempts) {
+				break;
+			}
+			retriedFlushes.increment();
+			log.warn("Refresh token batch failed, retrying: writes={}, attempt={}", writes.size(), attempt, error);
+			try {
+				Thread.sleep(retryBackoff.toMillis() * attempt);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		return error;
+	}
+
+	private RuntimeException persist(List<PendingWrite> writes) {
+		SqlParameterSource[] params = new SqlParameterSource[writes.size()];
+		List<String> lockKeys = new ArrayList<>(writes.size());
+		for (int i = 0; i < params.length; i++) {
+			params[i] = writes.get(i).toParameters();
+			lockKeys.add(writes.get(i).key);
+		}
+		try {
+			flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+				jdbcTemplate.query(LOCK_KEYS_SQL, new MapSqlParameterSource("lockKeys", lockKeys), rs -> {
+				});
+				jdbcTemplate.batchUpdate(RefreshTokenRepository.REPLACE_SQL, params);
+			}));
+			return null;
+		} catch (RuntimeException e) {
+			return e;
+		}
+	}
+
+	private void finish(List<PendingWrite> writes, RuntimeException error) {
+		if (error == null) {
+			flushedWrites.increment(writes.size());
+		} else {
+			failedWrites.increment(writes.size());
+			log.error("Failed to persist {} refresh token(s)", writes.size(), error);
+		}
+		for (PendingWrite write : writes) {
+			release(write);
+			complete(write, error);
+		}
+	}
+
+	private void release(PendingWrite write) {
+		pendingByKey.remove(write.key, write);
+		pendingByToken.remove(write.token, write);
+	}
+
+	private static void complete(PendingWrite write, Throwable error) {
+		if (error == null) {
+			write.future.complete(null);
+		} else {
+			write.future.completeExceptionally(error);
+		}
+	}
+
+	private static RuntimeException propagate(Throwable error) {
+		return error instanceof RuntimeException runtime ? runtime : new IllegalStateException(error);
+	}
+
+	private static void await(PendingWrite write) {
+		if (write != null) {
+			write.future.exceptionally(error -> null).join();
+		}
+	}
+
+	private static String key(String userId, String provider) {
+		return userId + ':' + provider;
+	}
+
+	private static final class PendingWrite {
+		private final String key;
+		private final String userId;
+		private final String token;
+		private final String provider;
+		private final LocalDateTime expiresAt;
+		private final LocalDateTime createdAt = LocalDateTime.now();
+		private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+		private PendingWrite(String userId, String token, String provider, LocalDateTime expiresAt) {
+			this.key = key(userId, provider);
+			this.userId = userId;
+			this.token = token;
+			this.provider = provider;
+			this.expiresAt = expiresAt;
+		}
+
+		private SqlParameterSource toParameters() {
+			return new MapSqlParameterSource()
+					.addValue("tokenHash", TokenDigest.sha256(token))
+					.addValue("userId", userId)
+					.addValue("provider", provider)
+					.addValue("expiresAt", expiresAt)
+					.addValue("createdAt", createdAt);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import com.elianayesol.api.services.oauthservice.jwt.JwtProperties;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/oauth/token")
+@Tag(name = "Token", description = "JWT 토큰 갱신 API")
+public class TokenController {
+
+	private final RefreshTokenRotationService rotationService;
+	private final JwtProperties jwtProperties;
+
+	public TokenController(RefreshTokenRotationService rotationService, JwtProperties jwtProperties) {
+		this.rotationService = rotationService;
+		this.jwtProperties = jwtProperties;
+	}
+
+	/**
+	 * Refresh Token으로 Access Token 재발급 (Refresh Token도 함께 교체)
+	 * - 한 번 사용한 Refresh Token은 다시 쓸 수 없음 (재사용 시 해당 사용자 토큰 전체 폐기)
+	 */
+	@Operation(
+		summary = "토큰 갱신",
+		description = "Refresh Token을 새 Access Token/Refresh Token으로 교체합니다."
+	)
+	@PostMapping("/refresh")
+	public ResponseEntity<Map<String, Object>> refresh(@RequestBody Map<String, String> body) {
+		String refreshToken = body.get("refreshToken");
+		if (refreshToken == null || refreshToken.isEmpty()) {
+			return ResponseEntity.badRequest().body(Map.of(
+					"success", false,
+					"error", "refreshToken이 필요합니다"));
+		}
+
+		RefreshTokenRotationResult result = rotationService.rotate(refreshToken);
+		if (!result.isRotated()) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(
+					"success", false,
+					"error", result.getFailure().name()));
+		}
+
+		Map<String, Object> response = new HashMap<>();
+		response.put("success", true);
+		response.put("token", result.getAccessToken());
+		response.put("refreshToken", result.getRefreshToken());
+		response.put("tokenType", "Bearer");
+		response.put("expiresIn", jwtProperties.getExpiration());
+		response.put("userId", result.getUserId());
+		response.put("provider", result.getProvider());
+		return ResponseEntity.ok(response);
+	}
+}
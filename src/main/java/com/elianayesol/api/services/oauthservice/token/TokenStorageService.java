@@ -1,13 +1,33 @@
 package com.elianayesol.api.services.oauthservice.token;
 
+import com.elianayesol.api.config.logging.LogMarkers;
 import com.elianayesol.api.entity.RefreshToken;
 import com.elianayesol.api.repository.RefreshTokenRepository;
+import com.elianayesol.api.services.oauthservice.jwt.TokenDigest;
+import com.elianayesol.api.services.oauthservice.jwt.TokenRevocationRegistry;
+import com.elianayesol.api.services.oauthservice.jwt.VerifiedTokenCache;
+import com.elianayesol.api.services.oauthservice.login.LoginMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Token Storage Service
@@ -17,18 +37,66 @@ import java.util.concurrent.TimeUnit;
 @Service
 public class TokenStorageService {
 	
+	private static final Logger log = LoggerFactory.getLogger(TokenStorageService.class);
+	
 	private final RedisTemplate<String, String> redisTemplate;
 	private final RefreshTokenRepository refreshTokenRepository;
+	// Redis 파이프라인과 DB 작업을 동시에 실행하기 위한 Executor
+	private final AsyncTaskExecutor taskExecutor;
+	// 선택 사항: jwt.cache.enabled=true 일 때만 주입됨
+	private VerifiedTokenCache verifiedTokenCache;
+	// 선택 사항: token.near-cache.enabled=true 일 때만 주입됨
+	private AccessTokenNearCache nearCache;
+	// 선택 사항: token.refresh-write-behind.enabled=true 일 때만 주입됨
+	private RefreshTokenWriteBehind refreshTokenWriteBehind;
+	// 선택 사항: jwt.revocation.enabled=true 일 때만 주입됨
+	private TokenRevocationRegistry revocationRegistry;
+	// Refresh Token 상태의 Redis 사본 (회전 fast path용)
+	private RefreshTokenStateStore refreshTokenStateStore;
+	// 로그인 단계(redis, postgres) 소요 시간 기록 (벤치마크처럼 직접 생성한 경우 없음)
+	private LoginMetrics loginMetrics;
 	
 	// Access Token 유효기간 (15분)
-	private static final long ACCESS_TOKEN_EXPIRATION_MINUTES = 15;
+	static final long ACCESS_TOKEN_EXPIRATION_MINUTES = 15;
 	
 	@Autowired
 	public TokenStorageService(
 			RedisTemplate<String, String> redisTemplate,
-			RefreshTokenRepository refreshTokenRepository) {
+			RefreshTokenRepository refreshTokenRepository,
+			@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor taskExecutor) {
 		this.redisTemplate = redisTemplate;
 		this.refreshTokenRepository = refreshTokenRepository;
+		this.taskExecutor = taskExecutor;
+	}
+	
+	@Autowired(required = false)
+	public void setVerifiedTokenCache(VerifiedTokenCache verifiedTokenCache) {
+		this.verifiedTokenCache = verifiedTokenCache;
+	}
+	
+	@Autowired(required = false)
+	public void setNearCache(AccessTokenNearCache nearCache) {
+		this.nearCache = nearCache;
+	}
+	
+	@Autowired(required = false)
+	public void setRefreshTokenStateStore(RefreshTokenStateStore refreshTokenStateStore) {
+		this.refreshTokenStateStore = refreshTokenStateStore;
+	}
+	
+	@Autowired(required = false)
+	public void setRevocationRegistry(TokenRevocationRegistry revocationRegistry) {
+		this.revocationRegistry = revocationRegistry;
+	}
+	
+	@Autowired(required = false)
+	public void setLoginMetrics(LoginMetrics loginMetrics) {
+		this.loginMetrics = loginMetrics;
+	}
+	
+	@Autowired(required = false)
+	public void setRefreshTokenWriteBehind(RefreshTokenWriteBehind refreshTokenWriteBehind) {
+		this.refreshTokenWriteBehind = refreshTokenWriteBehind;
 	}
 	
 	/**
@@ -37,37 +105,103 @@ public class TokenStorageService {
 	 * @param accessToken Access Token
 	 */
 	public void saveAccessToken(String userId, String accessToken) {
-		String key = "access_token:" + userId;
-		redisTemplate.opsForValue().set(
-			key, 
-			accessToken, 
-			ACCESS_TOKEN_EXPIRATION_MINUTES, 
-			TimeUnit.MINUTES
-		);
-		System.out.println("✅ [Token Storage] Access Token 저장 완료 (Redis)");
-		System.out.println("   - Key: " + key);
-		System.out.println("   - Expiration: " + ACCESS_TOKEN_EXPIRATION_MINUTES + " minutes");
+		pipelined(operations -> writeAccessToken(operations, userId, accessToken));
+		log.debug(LogMarkers.SAMPLED, "Access token saved to Redis: userId={}, ttlMinutes={}",
+			userId, ACCESS_TOKEN_EXPIRATION_MINUTES);
 	}
 	
 	/**
-	 * Access Token을 Redis에서 조회
+	 * Access Token을 조회 (L1 로컬 캐시 → L2 Redis 순서)
+	 * - L1이 켜져 있으면 Redis GET과 PTTL을 파이프라인으로 함께 보내 L1 항목의 만료를 맞춘다
 	 * @param userId 사용자 ID
 	 * @return Access Token 또는 null
 	 */
 	public String getAccessToken(String userId) {
+		if (nearCache != null) {
+			String cached = nearCache.get(userId);
+			if (cached != null) {
+				return cached;
+			}
+		}
 		String key = "access_token:" + userId;
-		return redisTemplate.opsForValue().get(key);
+		if (nearCache == null) {
+			return redisTemplate.opsForValue().get(key);
+		}
+		// 값과 남은 TTL을 한 번의 왕복으로 받아 L1 만료를 Redis 만료에 맞춘다
+		List<Object> results = pipelined(operations -> {
+			operations.opsForValue().get(key);
+			operations.getExpire(key, TimeUnit.MILLISECONDS);
+		});
+		String accessToken = (String) results.get(0);
+		nearCache.recordL2Lookup(accessToken != null);
+		if (accessToken != null && results.get(1) instanceof Long remainingMillis) {
+			nearCache.put(userId, accessToken, Duration.ofMillis(remainingMillis));
+		}
+		return accessToken;
 	}
 	
 	/**
 	 * Access Token을 Redis에서 삭제
+	 * - 검증 캐시가 켜져 있으면 삭제된 토큰의 캐시 항목도 즉시 무효화
+	 * - 폐기 레지스트리가 켜져 있으면 삭제된 토큰의 jti를 폐기 목록에 추가 (만료 전 재사용 차단)
 	 * @param userId 사용자 ID
 	 */
 	public void deleteAccessToken(String userId) {
-		String key = "access_token:" + userId;
-		redisTemplate.delete(key);
-		System.out.println("✅ [Token Storage] Access Token 삭제 완료 (Redis)");
-		System.out.println("   - Key: " + key);
+		invalidateVerifiedTokens(pipelined(operations -> removeAccessToken(operations, userId)));
+		log.debug("Access token deleted from Redis: userId={}", userId);
+	}
+	
+	/**
+	 * 여러 사용자의 Access Token을 한 번의 Redis 파이프라인으로 저장
+	 * @param accessTokensByUserId 사용자 ID → Access Token
+	 */
+	public void saveAccessTokens(Map<String, String> accessTokensByUserId) {
+		if (accessTokensByUserId.isEmpty()) {
+			return;
+		}
+		pipelined(operations -> accessTokensByUserId.forEach((userId, accessToken) ->
+			writeAccessToken(operations, userId, accessToken)));
+		log.info("Access tokens saved to Redis: count={}", accessTokensByUserId.size());
+	}
+	
+	/**
+	 * 여러 사용자의 Access Token을 한 번의 Redis 파이프라인으로 삭제 (관리자 일괄 로그아웃)
+	 * @param userIds 사용자 ID 목록
+	 */
+	public void deleteAccessTokens(Collection<String> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		List<Object> revokedTokens = pipelined(operations -> userIds.forEach(userId ->
+			removeAccessToken(operations, userId)));
+		invalidateVerifiedTokens(revokedTokens);
+		log.info("Access tokens deleted from Redis: count={}", userIds.size());
+	}
+	
+	/**
+	 * 로그인 시 발급한 토큰 저장
+	 * - Redis 명령은 하나의 파이프라인(1회 왕복)으로 전송
+	 * - Redis 저장과 Refresh Token DB 저장을 동시에 실행
+	 * - write-behind 모드에서는 Refresh Token을 큐에 넣고 다른 로그인과 묶인 배치가 커밋될 때까지 기다린다
+	 * - Refresh Token 상태도 같은 파이프라인으로 Redis에 시드 (회전 fast path)
+	 * - 두 작업은 각각 redis / postgres 로그인 단계로 기록
+	 * @param userId 사용자 ID
+	 * @param accessToken Access Token
+	 * @param refreshToken Refresh Token
+	 * @param provider OAuth 제공자
+	 * @param refreshTokenExpiresAt Refresh Token 만료 시간
+	 */
+	public void saveLoginTokens(String userId, String accessToken, String refreshToken, String provider,
+			LocalDateTime refreshTokenExpiresAt) {
+		CompletableFuture<Void> redisWrite = CompletableFuture.runAsync(() -> stage(provider, "redis", () -> pipelined(operations -> {
+			writeAccessToken(operations, userId, accessToken);
+			if (refreshTokenStateStore != null) {
+				refreshTokenStateStore.seed(operations, userId, provider, refreshToken, refreshTokenExpiresAt);
+			}
+		})), taskExecutor);
+		stage(provider, "postgres", () -> saveRefreshToken(userId, refreshToken, provider, refreshTokenExpiresAt));
+		join(redisWrite);
+		log.debug(LogMarkers.SAMPLED, "Login tokens saved: userId={}, provider={}", userId, provider);
 	}
 	
 	/**
@@ -78,35 +212,52 @@ public class TokenStorageService {
 	 * @param expiresAt 만료 시간
 	 */
 	public void saveRefreshToken(String userId, String refreshToken, String provider, LocalDateTime expiresAt) {
-		// 기존 토큰이 있으면 삭제
-		refreshTokenRepository.findByUserIdAndProvider(userId, provider)
-			.ifPresent(existing -> refreshTokenRepository.delete(existing));
-		
-		// 새 토큰 저장
-		RefreshToken tokenEntity = RefreshToken.builder()
-			.token(refreshToken)
-			.userId(userId)
-			.provider(provider)
-			.expiresAt(expiresAt)
-			.isRevoked(false)
-			.build();
+		if (refreshTokenWriteBehind != null) {
+			// 배경 스레드의 JDBC 배치가 커밋될 때까지 대기 (최종 실패 시 예외 → 로그인 실패)
+			refreshTokenWriteBehind.save(userId, refreshToken, provider, expiresAt);
+			return;
+		}
 		
-		refreshTokenRepository.save(tokenEntity);
-		System.out.println("✅ [Token Storage] Refresh Token 저장 완료 (Neon DB)");
-		System.out.println("   - User ID: " + userId);
-		System.out.println("   - Provider: " + provider);
-		System.out.println("   - Expires At: " + expiresAt);
+		// (userId, provider) 기준 upsert - 기존 토큰이 있으면 교체 (1회 왕복)
+		refreshTokenRepository.upsert(TokenDigest.sha256(refreshToken), userId, provider, expiresAt, LocalDateTime.now());
+		log.debug(LogMarkers.SAMPLED, "Refresh token saved: userId={}, provider={}, expiresAt={}",
+			userId, provider, expiresAt);
+	}
+	
+	/**
+	 * 회전으로 발급한 Refresh Token을 DB에 비동기로 반영 (호출 측은 기다리지 않음)
+	 * - 회전 상태는 Redis 사본이 먼저 갖고 있으므로 DB는 Redis에 상태가 없을 때 시드하는 용도
+	 * - write-behind 모드면 배치 큐에 넣고 (커밋 전에는 findPending으로 조회), 아니면 taskExecutor에서 upsert
+	 * - 실패하면 로그만 남긴다 (Redis 사본이 만료되기 전까지 회전은 계속 동작)
+	 * @return DB 반영 완료 시점 (테스트/종료 처리용)
+	 */
+	public CompletableFuture<Void> saveRefreshTokenAsync(String userId, String refreshToken, String provider,
+			LocalDateTime expiresAt) {
+		CompletableFuture<Void> write = refreshTokenWriteBehind != null
+			? refreshTokenWriteBehind.submit(userId, refreshToken, provider, expiresAt)
+			: CompletableFuture.runAsync(() -> saveRefreshToken(userId, refreshToken, provider, expiresAt), taskExecutor);
+		return write.whenComplete((ignored, error) -> {
+			if (error != null) {
+				log.error("Rotated refresh token was not persisted: userId={}, provider={}", userId, provider, error);
+			}
+		});
 	}
 	
 	/**
 	 * Refresh Token을 DB에서 조회
+	 * - write-behind 모드에서는 아직 반영되지 않은 토큰을 먼저 확인
 	 * @param token Refresh Token
 	 * @return RefreshToken Entity 또는 null
 	 */
 	public RefreshToken getRefreshToken(String token) {
-		return refreshTokenRepository.findByToken(token)
+		if (refreshTokenWriteBehind != null) {
+			RefreshToken pending = refreshTokenWriteBehind.findPending(token);
+			if (pending != null) {
+				return pending.getExpiresAt().isAfter(LocalDateTime.now()) ? pending : null;
+			}
+		}
+		return refreshTokenRepository.findActiveByTokenHash(TokenDigest.sha256(token), LocalDateTime.now())
 			.filter(t -> !t.getIsRevoked())
-			.filter(t -> t.getExpiresAt().isAfter(LocalDateTime.now()))
 			.orElse(null);
 	}
 	
@@ -115,12 +266,17 @@ public class TokenStorageService {
 	 * @param token Refresh Token
 	 */
 	public void revokeRefreshToken(String token) {
-		refreshTokenRepository.findByToken(token)
+		if (refreshTokenStateStore != null) {
+			refreshTokenStateStore.revoke(token);
+		}
+		if (refreshTokenWriteBehind != null) {
+			refreshTokenWriteBehind.awaitToken(token);
+		}
+		refreshTokenRepository.findActiveByTokenHash(TokenDigest.sha256(token), LocalDateTime.now())
 			.ifPresent(tokenEntity -> {
 				tokenEntity.setIsRevoked(true);
 				refreshTokenRepository.save(tokenEntity);
-				System.out.println("✅ [Token Storage] Refresh Token 취소 완료 (Neon DB)");
-				System.out.println("   - Token ID: " + tokenEntity.getId());
+				log.info("Refresh token revoked: id={}", tokenEntity.getId());
 			});
 	}
 	
@@ -130,19 +286,94 @@ public class TokenStorageService {
 	 * @param provider OAuth 제공자
 	 */
 	public void deleteAllTokens(String userId, String provider) {
-		// Access Token 삭제
-		deleteAccessToken(userId);
+		// Access Token 삭제 (Redis)와 Refresh Token 취소 (DB)를 동시에 실행
+		CompletableFuture<Void> redisDelete = CompletableFuture.runAsync(() -> deleteAccessToken(userId), taskExecutor);
 		
 		// Refresh Token 삭제
-		refreshTokenRepository.findByUserIdAndProvider(userId, provider)
-			.ifPresent(tokenEntity -> {
-				tokenEntity.setIsRevoked(true);
-				refreshTokenRepository.save(tokenEntity);
-			});
-		
-		System.out.println("✅ [Token Storage] 모든 토큰 삭제 완료");
-		System.out.println("   - User ID: " + userId);
-		System.out.println("   - Provider: " + provider);
+		if (refreshTokenStateStore != null) {
+			refreshTokenStateStore.revokeCurrent(userId, provider);
+		}
+		if (refreshTokenWriteBehind != null) {
+			refreshTokenWriteBehind.awaitUser(userId, provider);
+		}
+		refreshTokenRepository.revokeByUserIdAndProvider(userId, provider, LocalDateTime.now());
+		join(redisDelete);
+		log.info("All tokens revoked: userId={}, provider={}", userId, provider);
+	}
+	
+	/**
+	 * 파이프라인에 Access Token 저장 명령 추가 (L1 캐시 갱신 + 다른 인스턴스 무효화 메시지)
+	 */
+	private void writeAccessToken(RedisOperations<String, String> operations, String userId, String accessToken) {
+		operations.opsForValue().set(
+			"access_token:" + userId,
+			accessToken,
+			ACCESS_TOKEN_EXPIRATION_MINUTES,
+			TimeUnit.MINUTES
+		);
+		if (nearCache != null) {
+			nearCache.put(userId, accessToken, Duration.ofMinutes(ACCESS_TOKEN_EXPIRATION_MINUTES));
+			operations.convertAndSend(AccessTokenNearCache.INVALIDATION_CHANNEL, nearCache.invalidationMessage(userId));
+		}
+	}
+	
+	/**
+	 * 파이프라인에 Access Token 삭제(GETDEL) 명령 추가 (L1 캐시 제거 + 다른 인스턴스 무효화 메시지)
+	 */
+	private void removeAccessToken(RedisOperations<String, String> operations, String userId) {
+		operations.opsForValue().getAndDelete("access_token:" + userId);
+		if (nearCache != null) {
+			nearCache.invalidate(userId);
+			operations.convertAndSend(AccessTokenNearCache.INVALIDATION_CHANNEL, nearCache.invalidationMessage(userId));
+		}
+	}
+	
+	/**
+	 * 여러 Redis 명령을 하나의 파이프라인으로 전송하고 결과 목록을 반환
+	 */
+	private List<Object> pipelined(Consumer<RedisOperations<String, String>> commands) {
+		return redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				commands.accept((RedisOperations<String, String>) operations);
+				return null;
+			}
+		});
+	}
+	
+	private void invalidateVerifiedTokens(List<Object> revokedTokens) {
+		if (verifiedTokenCache == null && revocationRegistry == null) {
+			return;
+		}
+		for (Object revokedToken : revokedTokens) {
+			if (revokedToken instanceof String token) {
+				if (verifiedTokenCache != null) {
+					verifiedTokenCache.invalidate(token);
+				}
+				if (revocationRegistry != null) {
+					revocationRegistry.revokeToken(token);
+				}
+			}
+		}
+	}
+	
+	private void stage(String provider, String stage, Runnable work) {
+		if (loginMetrics == null) {
+			work.run();
+			return;
+		}
+		loginMetrics.run(provider, stage, work);
+	}
+	
+	private static void join(CompletableFuture<Void> future) {
+		try {
+			future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
 	}
 }
-
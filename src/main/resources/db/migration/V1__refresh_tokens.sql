@@ -0,0 +1,10 @@
+-- 기존 ddl-auto=update 로 생성되던 refresh_tokens 스키마
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token      VARCHAR(255) NOT NULL UNIQUE,
+    user_id    VARCHAR(255) NOT NULL,
+    provider   VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    is_revoked BOOLEAN      NOT NULL
+);
@@ -0,0 +1,10 @@
+-- (user_id, provider)당 Refresh Token은 1개 (INSERT ... ON CONFLICT 대상)
+-- 동시 로그인으로 생긴 중복은 가장 최근 행만 남기고 정리
+DELETE FROM refresh_tokens r
+USING refresh_tokens newer
+WHERE r.user_id = newer.user_id
+  AND r.provider = newer.provider
+  AND (r.created_at, r.id) < (newer.created_at, newer.id);
+
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT uk_refresh_tokens_user_id_provider UNIQUE (user_id, provider);
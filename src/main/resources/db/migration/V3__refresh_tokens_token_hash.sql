@@ -0,0 +1,32 @@
+-- Refresh Token은 원문 대신 고정 길이 SHA-256 다이제스트(32바이트)로 저장/조회
+-- 긴 JWT 문자열에 대한 넓은 B-tree 대신 32바이트 키의 좁은 B-tree 사용
+ALTER TABLE refresh_tokens ADD COLUMN token_hash BYTEA;
+
+UPDATE refresh_tokens
+SET token_hash = sha256(convert_to(token, 'UTF8'))
+WHERE token_hash IS NULL;
+
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash);
+
+-- 원문 컬럼은 더 이상 쓰지 않음: 유니크 제약(이름은 생성 방식에 따라 다름)과 NOT NULL 제거
+DO $$
+DECLARE
+    c record;
+BEGIN
+    FOR c IN
+        SELECT con.conname
+        FROM pg_constraint con
+        JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = ANY (con.conkey)
+        WHERE con.conrelid = 'refresh_tokens'::regclass
+          AND con.contype = 'u'
+          AND cardinality(con.conkey) = 1
+          AND a.attname = 'token'
+    LOOP
+        EXECUTE format('ALTER TABLE refresh_tokens DROP CONSTRAINT %I', c.conname);
+    END LOOP;
+END $$;
+
+ALTER TABLE refresh_tokens ALTER COLUMN token DROP NOT NULL;
+UPDATE refresh_tokens SET token = NULL;
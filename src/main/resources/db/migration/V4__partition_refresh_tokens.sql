@@ -0,0 +1,56 @@
+-- refresh_tokens를 expires_at 기준 월별 RANGE 파티션으로 전환
+-- - 만료는 행 삭제 대신 지난 파티션 DROP (RefreshTokenPartitionManager)
+-- - 파티션 테이블의 유니크 제약에는 파티션 키가 포함되어야 하므로
+--   (user_id, provider) / token_hash 는 파티션별 일반 인덱스로 바뀌고,
+--   (user_id, provider)당 1건 보장은 advisory lock + 교체 쓰기로 처리 (RefreshTokenRepository)
+-- - 여기서는 이번 달부터 기존 행의 max(expires_at)이 속한 달(최소 2개월 뒤)까지 만들고,
+--   이후 파티션은 애플리케이션이 미리 생성 (RefreshTokenPartitionManager)
+-- - 범위 밖 행은 DEFAULT 파티션이 받는다 (삽입 실패 대신, 해당 월 파티션 생성 시 옮겨짐)
+ALTER TABLE refresh_tokens RENAME TO refresh_tokens_heap;
+
+CREATE SEQUENCE IF NOT EXISTS refresh_tokens_id_seq;
+SELECT setval('refresh_tokens_id_seq', COALESCE((SELECT max(id) FROM refresh_tokens_heap), 0) + 1, false);
+
+CREATE TABLE refresh_tokens (
+    id         BIGINT       NOT NULL DEFAULT nextval('refresh_tokens_id_seq'),
+    token_hash BYTEA        NOT NULL,
+    user_id    VARCHAR(255) NOT NULL,
+    provider   VARCHAR(255) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    is_revoked BOOLEAN      NOT NULL,
+    PRIMARY KEY (id, expires_at)
+) PARTITION BY RANGE (expires_at);
+
+ALTER SEQUENCE refresh_tokens_id_seq OWNED BY refresh_tokens.id;
+
+CREATE INDEX ix_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+CREATE INDEX ix_refresh_tokens_user_id_provider ON refresh_tokens (user_id, provider);
+
+CREATE TABLE refresh_tokens_default PARTITION OF refresh_tokens DEFAULT;
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', now())::date;
+    last_month DATE := greatest(
+        month_start + INTERVAL '2 months',
+        date_trunc('month', (SELECT max(expires_at) FROM refresh_tokens_heap)))::date;
+    months INT := (extract(YEAR FROM age(last_month, month_start)) * 12
+        + extract(MONTH FROM age(last_month, month_start)))::int;
+    i INT;
+BEGIN
+    FOR i IN 0..months LOOP
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF refresh_tokens FOR VALUES FROM (%L) TO (%L)',
+            'refresh_tokens_p' || to_char(month_start + make_interval(months => i), 'YYYYMM'),
+            month_start + make_interval(months => i),
+            month_start + make_interval(months => i + 1));
+    END LOOP;
+END $$;
+
+-- 모든 행을 옮김 (이번 달 이전에 만료된 행은 DEFAULT로 들어가고 파티션 관리 작업이 정리)
+INSERT INTO refresh_tokens (id, token_hash, user_id, provider, expires_at, created_at, is_revoked)
+SELECT id, token_hash, user_id, provider, expires_at, created_at, is_revoked
+FROM refresh_tokens_heap;
+
+DROP TABLE refresh_tokens_heap;
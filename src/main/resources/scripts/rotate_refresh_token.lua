@@ -0,0 +1,51 @@
+-- Refresh Token 회전 (RefreshTokenStateStore)
+-- KEYS[1] 제시된 토큰 상태, KEYS[2] 새 토큰 상태, KEYS[3] access_token:{userId}
+-- ARGV[1] 토큰 subject(userId)      ARGV[2] 현재 시각(ms)
+-- ARGV[3] 새 토큰 만료 시각(ms)     ARGV[4] 상태 키 TTL(ms)
+-- ARGV[5] 새 Access Token          ARGV[6] Access Token TTL(s)
+-- ARGV[7] 새 토큰 다이제스트(hex)   ARGV[8] DB에서 읽은 provider ('' = 시드 없음)
+-- ARGV[9] DB에서 읽은 만료 시각(ms) ARGV[10] 무효화 채널 ('' = 발행 안 함)
+-- ARGV[11] 무효화 메시지
+-- 반환: {status, userId, provider}
+--   ok / miss (Redis에 상태 없음, DB 확인 필요) / reuse (이미 회전된 토큰 재사용)
+--   revoked / expired / invalid
+local state = redis.call('HMGET', KEYS[1], 'status', 'user', 'provider', 'exp')
+local status, user, provider, exp = state[1], state[2], state[3], state[4]
+if not status then
+  if ARGV[8] == '' then
+    return {'miss'}
+  end
+  status, user, provider, exp = 'active', ARGV[1], ARGV[8], ARGV[9]
+end
+if user ~= ARGV[1] then
+  return {'invalid'}
+end
+
+-- 사용자/제공자별 현재 유효한 토큰 (재사용 감지 시 함께 폐기)
+local current = 'refresh_token:current:' .. user .. ':' .. provider
+
+if status == 'rotated' then
+  local head = redis.call('GET', current)
+  if head then
+    redis.call('HSET', 'refresh_token:' .. head, 'status', 'revoked')
+  end
+  redis.call('DEL', KEYS[3])
+  return {'reuse', user, provider}
+end
+if status ~= 'active' then
+  return {status, user, provider}
+end
+if tonumber(exp) <= tonumber(ARGV[2]) then
+  return {'expired', user, provider}
+end
+
+redis.call('HSET', KEYS[1], 'status', 'rotated', 'user', user, 'provider', provider, 'exp', exp)
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+redis.call('HSET', KEYS[2], 'status', 'active', 'user', user, 'provider', provider, 'exp', ARGV[3])
+redis.call('PEXPIRE', KEYS[2], ARGV[4])
+redis.call('SET', current, ARGV[7], 'PX', ARGV[4])
+redis.call('SET', KEYS[3], ARGV[5], 'EX', ARGV[6])
+if ARGV[10] ~= '' then
+  redis.call('PUBLISH', ARGV[10], ARGV[11])
+end
+return {'ok', user, provider}
@@ -0,0 +1,90 @@
+package com.elianayesol.api.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CorsFilterTests {
+
+	private final CorsFilter filter = new CorsFilter(properties(List.of(
+		"https://elianayesol.com",
+		"https://*.elianayesol.com"
+	)));
+
+	@Test
+	void matchesExactAndWildcardOrigins() {
+		assertThat(filter.isAllowedOrigin("https://elianayesol.com")).isTrue();
+		assertThat(filter.isAllowedOrigin("https://www.elianayesol.com")).isTrue();
+		assertThat(filter.isAllowedOrigin("https://a.b.elianayesol.com")).isTrue();
+
+		assertThat(filter.isAllowedOrigin("http://www.elianayesol.com")).isFalse();
+		assertThat(filter.isAllowedOrigin("https://evilelianayesol.com")).isFalse();
+		assertThat(filter.isAllowedOrigin("https://evil.com/.elianayesol.com")).isFalse();
+		assertThat(filter.isAllowedOrigin("https://.elianayesol.com.evil.com")).isFalse();
+	}
+
+	@Test
+	void answersPreflightWithoutCallingChain() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/oauth/google/login");
+		request.addHeader("Origin", "https://www.elianayesol.com");
+		request.addHeader("Access-Control-Request-Method", "POST");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(request, response, chain);
+
+		assertThat(chain.getRequest()).isNull();
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader("Access-Control-Allow-Origin")).isEqualTo("https://www.elianayesol.com");
+		assertThat(response.getHeader("Access-Control-Allow-Methods")).isEqualTo("GET, POST");
+		assertThat(response.getHeader("Access-Control-Max-Age")).isEqualTo("7200");
+	}
+
+	@Test
+	void rejectsPreflightFromUnknownOrigin() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/oauth/google/login");
+		request.addHeader("Origin", "https://example.com");
+		request.addHeader("Access-Control-Request-Method", "POST");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, new MockFilterChain());
+
+		assertThat(response.getStatus()).isEqualTo(403);
+		assertThat(response.getHeader("Access-Control-Allow-Origin")).isNull();
+	}
+
+	@Test
+	void passesActualRequestThroughWithHeaders() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/oauth/google/login");
+		request.addHeader("Origin", "https://elianayesol.com");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockFilterChain chain = new MockFilterChain();
+
+		filter.doFilter(request, response, chain);
+
+		assertThat(chain.getRequest()).isSameAs(request);
+		assertThat(response.getHeader("Access-Control-Allow-Origin")).isEqualTo("https://elianayesol.com");
+		assertThat(response.getHeader("Access-Control-Allow-Credentials")).isEqualTo("true");
+		assertThat(response.getHeader("Vary")).isEqualTo("Origin");
+	}
+
+	@Test
+	void rejectsUnsupportedPattern() {
+		assertThatThrownBy(() -> new CorsFilter(properties(List.of("https://www.*.com"))))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static CorsProperties properties(List<String> origins) {
+		CorsProperties properties = new CorsProperties();
+		properties.setAllowedOrigins(origins);
+		properties.setAllowedMethods(List.of("GET", "POST"));
+		properties.setMaxAge(7200);
+		return properties;
+	}
+}
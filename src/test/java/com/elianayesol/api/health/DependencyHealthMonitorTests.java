@@ -0,0 +1,99 @@
+package com.elianayesol.api.health;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DependencyHealthMonitorTests {
+
+	private static final String UNREACHABLE = "http://127.0.0.1:1/";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final CountDownLatch redisReleased = new CountDownLatch(1);
+	private final AtomicInteger redisCalls = new AtomicInteger();
+	private DependencyHealthMonitor monitor;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() throws SQLException {
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		// 인터럽트를 무시하고 멈추는 점검 (응답 없는 커넥션)
+		when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation -> {
+			redisCalls.incrementAndGet();
+			while (true) {
+				try {
+					redisReleased.await();
+					return "PONG";
+				} catch (InterruptedException ignored) {
+					// 계속 대기
+				}
+			}
+		});
+		DataSource dataSource = mock(DataSource.class);
+		when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+		monitor = new DependencyHealthMonitor(redisTemplate, dataSource, new SimpleMeterRegistry(), Duration.ofMillis(300),
+				Duration.ofMillis(100), Duration.ZERO, UNREACHABLE, UNREACHABLE, UNREACHABLE, UNREACHABLE, UNREACHABLE, UNREACHABLE, "api-service", "8080");
+	}
+
+	@AfterEach
+	void tearDown() {
+		redisReleased.countDown();
+		monitor.shutdown();
+	}
+
+	@Test
+	void hungProbeIsReportedWithoutBlockingLaterRounds() throws Exception {
+		monitor.refresh();
+		assertThat(dependency("redis").path("error").asText()).startsWith("timeout after 300ms");
+		assertThat(dependency("database").path("status").asText()).isEqualTo("DOWN");
+
+		long startedAt = System.nanoTime();
+		monitor.refresh();
+		assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+		assertThat(dependency("redis").path("error").asText()).isEqualTo("previous probe still running after cancel");
+		assertThat(redisCalls).hasValue(1);
+		assertThat(monitor.getSnapshot().up()).isFalse();
+
+		redisReleased.countDown();
+		Thread.sleep(100);
+		monitor.refresh();
+		assertThat(dependency("redis").path("status").asText()).isEqualTo("UP");
+		assertThat(redisCalls).hasValue(2);
+	}
+
+	@Test
+	void staleSnapshotIsReportedWithItsAge() throws Exception {
+		// interval 100ms × 2 + timeout 300ms 동안 점검이 돌지 않음 (멈춘 스케줄러)
+		Thread.sleep(600);
+
+		JsonNode stale = objectMapper.readTree(monitor.getSnapshot().json());
+		assertThat(stale.path("stale").asBoolean()).isTrue();
+		assertThat(stale.path("snapshotAgeMs").asLong()).isGreaterThanOrEqualTo(500);
+
+		redisReleased.countDown();
+		monitor.refresh();
+		JsonNode fresh = objectMapper.readTree(monitor.getSnapshot().json());
+		assertThat(fresh.path("stale").asBoolean()).isFalse();
+		assertThat(fresh.has("snapshotAgeMs")).isFalse();
+	}
+
+		private JsonNode dependency(String name) throws Exception {
+		return objectMapper.readTree(monitor.getSnapshot().json()).path("dependencies").path(name);
+	}
+}
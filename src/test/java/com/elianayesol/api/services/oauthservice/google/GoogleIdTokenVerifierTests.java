@@ -0,0 +1,205 @@
+package com.elianayesol.api.services.oauthservice.google;
+
+import com.elianayesol.api.services.oauthservice.google.dto.GoogleUserInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.ExpectedCount.manyTimes;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class GoogleIdTokenVerifierTests {
+
+	private static final String JWKS_URI = "https://www.googleapis.com/oauth2/v3/certs";
+	private static final String CLIENT_ID = "test-client.apps.googleusercontent.com";
+
+	private KeyPair keyPair;
+	private MockRestServiceServer server;
+	private GoogleIdTokenVerifier verifier;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		keyPair = generator.generateKeyPair();
+
+		RestTemplate restTemplate = new RestTemplate();
+		server = MockRestServiceServer.bindTo(restTemplate).build();
+		HttpHeaders headers = new HttpHeaders();
+		headers.setCacheControl("public, max-age=20000, must-revalidate, no-transform");
+		server.expect(once(), requestTo(JWKS_URI))
+				.andRespond(withSuccess(jwks("kid-1", (RSAPublicKey) keyPair.getPublic()), MediaType.APPLICATION_JSON)
+						.headers(headers));
+
+		verifier = verifier(restTemplate, Duration.ofSeconds(30));
+	}
+
+	@Test
+	void verifiedClaimsBecomeUserInfo() {
+		GoogleUserInfo userInfo = verifier.verify(idToken("kid-1", "https://accounts.google.com", CLIENT_ID));
+
+		assertThat(userInfo).isNotNull();
+		assertThat(userInfo.getId()).isEqualTo("109876543210");
+		assertThat(userInfo.getEmail()).isEqualTo("user@example.com");
+		assertThat(userInfo.getVerifiedEmail()).isTrue();
+		assertThat(userInfo.getName()).isEqualTo("Test User");
+		server.verify();
+	}
+
+	@Test
+	void rejectsWrongAudienceIssuerAndUnknownKey() {
+		assertThat(verifier.verify(idToken("kid-1", "https://accounts.google.com", "other-client"))).isNull();
+		assertThat(verifier.verify(idToken("kid-1", "https://evil.example.com", CLIENT_ID))).isNull();
+		// 처음 보는 kid는 최소 갱신 간격 안이라 다시 받지 않고 거부
+		assertThat(verifier.verify(idToken("kid-2", "https://accounts.google.com", CLIENT_ID))).isNull();
+		assertThat(verifier.verify(null)).isNull();
+		server.verify();
+	}
+
+	@Test
+	void unknownKidsFetchAtMostOncePerInterval() {
+		assertThat(verifier.verify(idToken("kid-1", "https://accounts.google.com", CLIENT_ID))).isNotNull();
+
+		// 키 교체를 가장한 모르는 kid가 몰려와도 최소 간격 안에서는 JWKS를 다시 받지 않는다 (두 번째 요청이면 서버가 실패)
+		for (int i = 0; i < 50; i++) {
+			assertThat(verifier.verify(idToken("rotated-" + i, "https://accounts.google.com", CLIENT_ID))).isNull();
+		}
+		server.verify();
+	}
+
+	@Test
+	void concurrentRefreshesShareOneFetch() throws Exception {
+		AtomicInteger fetches = new AtomicInteger();
+		CountDownLatch fetching = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		RestTemplate restTemplate = new RestTemplate();
+		MockRestServiceServer blockingServer = MockRestServiceServer.bindTo(restTemplate).build();
+		blockingServer.expect(manyTimes(), requestTo(JWKS_URI)).andRespond(request -> {
+			fetches.incrementAndGet();
+			fetching.countDown();
+			await(release);
+			return withSuccess(jwks("kid-1", (RSAPublicKey) keyPair.getPublic()), MediaType.APPLICATION_JSON)
+					.createResponse(request);
+		});
+		GoogleIdTokenVerifier coldVerifier = verifier(restTemplate, Duration.ZERO);
+		String idToken = idToken("kid-1", "https://accounts.google.com", CLIENT_ID);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<GoogleUserInfo>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> coldVerifier.verify(idToken)));
+			}
+			assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+			Thread.sleep(200);
+			release.countDown();
+			for (Future<GoogleUserInfo> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS)).isNotNull();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(fetches).hasValue(1);
+	}
+
+	@Test
+	void cachedKeysKeepVerifyingWhileRefreshRuns() throws Exception {
+		AtomicInteger fetches = new AtomicInteger();
+		CountDownLatch fetching = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		RestTemplate restTemplate = new RestTemplate();
+		MockRestServiceServer blockingServer = MockRestServiceServer.bindTo(restTemplate).build();
+		blockingServer.expect(manyTimes(), requestTo(JWKS_URI)).andRespond(request -> {
+			if (fetches.incrementAndGet() > 1) {
+				fetching.countDown();
+				await(release);
+			}
+			return withSuccess(jwks("kid-1", (RSAPublicKey) keyPair.getPublic()), MediaType.APPLICATION_JSON)
+					.createResponse(request);
+		});
+		GoogleIdTokenVerifier warmVerifier = verifier(restTemplate, Duration.ZERO);
+		String idToken = idToken("kid-1", "https://accounts.google.com", CLIENT_ID);
+		assertThat(warmVerifier.verify(idToken)).isNotNull();
+
+		Thread refresher = Thread.ofVirtual().start(warmVerifier::refresh);
+		try {
+			assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+			assertThat(CompletableFuture.supplyAsync(() -> warmVerifier.verify(idToken)))
+					.succeedsWithin(Duration.ofSeconds(1))
+					.isNotNull();
+		} finally {
+			release.countDown();
+			refresher.join();
+		}
+		assertThat(fetches).hasValue(2);
+	}
+
+	private static GoogleIdTokenVerifier verifier(RestTemplate restTemplate, Duration minRefreshInterval) {
+		return new GoogleIdTokenVerifier(restTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+				CLIENT_ID, JWKS_URI, minRefreshInterval);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private String idToken(String kid, String issuer, String audience) {
+		long now = System.currentTimeMillis();
+		return Jwts.builder()
+				.header().keyId(kid).and()
+				.issuer(issuer)
+				.audience().add(audience).and()
+				.subject("109876543210")
+				.claim("email", "user@example.com")
+				.claim("email_verified", true)
+				.claim("name", "Test User")
+				.issuedAt(new Date(now))
+				.expiration(new Date(now + 3_600_000))
+				.signWith(keyPair.getPrivate())
+				.compact();
+	}
+
+	private static String jwks(String kid, RSAPublicKey key) {
+		return "{\"keys\":[{\"kty\":\"RSA\",\"alg\":\"RS256\",\"use\":\"sig\",\"kid\":\"" + kid + "\","
+				+ "\"n\":\"" + base64Url(key.getModulus()) + "\",\"e\":\"" + base64Url(key.getPublicExponent()) + "\"}]}";
+	}
+
+	private static String base64Url(BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length > 1 && bytes[0] == 0) {
+			bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+}
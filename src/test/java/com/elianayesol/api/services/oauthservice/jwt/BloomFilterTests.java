@@ -0,0 +1,44 @@
+package com.elianayesol.api.services.oauthservice.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTests {
+
+	@Test
+	void containsEveryInsertedElement() {
+		long bitCount = BloomFilter.optimalBitCount(1000, 0.01);
+		BloomFilter filter = new BloomFilter(bitCount, BloomFilter.optimalHashCount(1000, bitCount));
+		String[] inserted = new String[1000];
+		for (int i = 0; i < inserted.length; i++) {
+			inserted[i] = UUID.randomUUID().toString();
+			filter.put(inserted[i]);
+		}
+
+		for (String element : inserted) {
+			assertThat(filter.mightContain(element)).isTrue();
+		}
+		int falsePositives = 0;
+		for (int i = 0; i < 10000; i++) {
+			if (filter.mightContain(UUID.randomUUID().toString())) {
+				falsePositives++;
+			}
+		}
+		assertThat(falsePositives).isLessThan(300);
+	}
+
+	@Test
+	void usesRedisBitOrder() {
+		BloomFilter filter = new BloomFilter(16, 1);
+		filter.setBit(0);
+		filter.setBit(9);
+
+		assertThat(filter.toByteArray()).containsExactly(0x80, 0x40);
+
+		BloomFilter copy = BloomFilter.fromBytes(16, 1, filter.toByteArray());
+		assertThat(copy.toByteArray()).containsExactly(filter.toByteArray());
+	}
+}
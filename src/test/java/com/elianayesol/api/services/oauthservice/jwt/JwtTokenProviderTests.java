@@ -0,0 +1,117 @@
+package com.elianayesol.api.services.oauthservice.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class JwtTokenProviderTests {
+
+	private JwtProperties properties;
+	private JwtTokenProvider provider;
+
+	@BeforeEach
+	void setUp() {
+		properties = new JwtProperties();
+		properties.setSecret("test-secret-key-at-least-256-bits-long-for-hs256-algorithm-tests-only");
+		properties.setExpiration(60000L);
+		properties.setRefreshExpiration(120000L);
+		provider = new JwtTokenProvider(properties);
+	}
+
+	@Test
+	void parseAndValidateReturnsClaims() {
+		String token = provider.generateAccessToken("user-1", Map.of("email", "user@example.com"));
+
+		JwtValidationResult result = provider.parseAndValidate(token);
+
+		assertThat(result.isValid()).isTrue();
+		assertThat(result.getClaims().getSubject()).isEqualTo("user-1");
+		assertThat(result.getClaims().get("email")).isEqualTo("user@example.com");
+	}
+
+	@Test
+	void parseAndValidateReportsFailureReason() {
+		String token = provider.generateRefreshToken("user-1");
+
+		assertThat(provider.parseAndValidate(null).getFailure()).isEqualTo(JwtValidationResult.Failure.EMPTY);
+		assertThat(provider.parseAndValidate("not-a-jwt").getFailure()).isEqualTo(JwtValidationResult.Failure.MALFORMED);
+		assertThat(provider.parseAndValidate(token.substring(0, token.length() - 2) + "xx").getFailure())
+				.isEqualTo(JwtValidationResult.Failure.INVALID_SIGNATURE);
+
+		properties.setExpiration(-1000L);
+		String expired = provider.generateAccessToken("user-1", null);
+		assertThat(provider.parseAndValidate(expired).getFailure()).isEqualTo(JwtValidationResult.Failure.EXPIRED);
+	}
+
+	@Test
+	void verifiedTokenCacheServesAndInvalidates() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(properties, new SimpleMeterRegistry());
+		provider.setVerifiedTokenCache(cache);
+		String token = provider.generateAccessToken("user-1", null);
+
+		Claims first = provider.parseAndValidate(token).getClaims();
+		assertThat(cache.get(token)).isSameAs(first);
+		assertThat(provider.parseAndValidate(token).getClaims()).isSameAs(first);
+
+		cache.invalidate(token);
+		assertThat(cache.get(token)).isNull();
+	}
+
+	@Test
+	void asymmetricSigningUsesKidAndPublishesJwks() {
+		String legacyToken = provider.generateAccessToken("user-1", null);
+		properties.getSigning().setAllowEphemeralKeys(true);
+		properties.getSigning().setLegacyHmacUntil(Instant.now().plusSeconds(3600));
+
+		for (String algorithm : new String[] {"ES256", "EdDSA"}) {
+			properties.getSigning().setAlgorithm(algorithm);
+			JwtKeyRing keyRing = new JwtKeyRing(properties);
+			JwtTokenProvider asymmetric = new JwtTokenProvider(properties, keyRing);
+
+			String token = asymmetric.generateAccessToken("user-1", null);
+
+			assertThat(asymmetric.parseAndValidate(token).isValid()).isTrue();
+			assertThat(asymmetric.parseAndValidate(legacyToken).isValid()).isTrue();
+			assertThat(provider.parseAndValidate(token).getFailure())
+					.isEqualTo(JwtValidationResult.Failure.INVALID_SIGNATURE);
+			assertThat(new String(keyRing.getJwksJson(), StandardCharsets.UTF_8))
+					.contains("\"kid\":\"" + keyRing.getActiveKid() + "\"")
+					.contains("\"alg\":\"" + algorithm + "\"");
+		}
+	}
+
+	@Test
+	void asymmetricModeRejectsHmacTokensWithoutKidOutsideMigrationWindow() {
+		String legacyToken = provider.generateAccessToken("user-1", null);
+		properties.getSigning().setAlgorithm("ES256");
+		properties.getSigning().setAllowEphemeralKeys(true);
+		JwtTokenProvider asymmetric = new JwtTokenProvider(properties, new JwtKeyRing(properties));
+
+		assertThat(asymmetric.parseAndValidate(legacyToken).getFailure())
+				.isEqualTo(JwtValidationResult.Failure.INVALID_SIGNATURE);
+
+		properties.getSigning().setLegacyHmacUntil(Instant.now().plusSeconds(3600));
+		assertThat(asymmetric.parseAndValidate(legacyToken).isValid()).isTrue();
+
+		properties.getSigning().setLegacyHmacUntil(Instant.now().minusSeconds(1));
+		assertThat(asymmetric.parseAndValidate(legacyToken).getFailure())
+				.isEqualTo(JwtValidationResult.Failure.INVALID_SIGNATURE);
+	}
+
+	@Test
+	void asymmetricModeWithoutKeysFailsFast() {
+		properties.getSigning().setAlgorithm("EdDSA");
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> new JwtKeyRing(properties))
+				.withMessageContaining("jwt.signing.keys");
+	}
+}
@@ -0,0 +1,106 @@
+package com.elianayesol.api.services.oauthservice.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationRegistryTests {
+
+	private RedisTemplate<String, String> redisTemplate;
+	private ValueOperations<String, String> valueOperations;
+	private ZSetOperations<String, String> zSetOperations;
+	private final List<Runnable> reloads = new ArrayList<>();
+	private TokenRevocationRegistry registry;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		zSetOperations = mock(ZSetOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		JwtProperties properties = new JwtProperties();
+		properties.getRevocation().setExpectedInsertions(1000);
+		registry = new TokenRevocationRegistry(redisTemplate, mock(RedisMessageListenerContainer.class), properties,
+				new SimpleMeterRegistry(), reloads::add);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void rebuildReleasesOnlyItsOwnLock() {
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+		when(zSetOperations.range(TokenRevocationRegistry.REVOKED_KEY, 0, -1)).thenReturn(Set.of());
+
+		registry.rebuild();
+
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("jwt:revoked:rebuild-lock")), anyString());
+		verify(redisTemplate, never()).delete(anyString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void reloadMessageIsHandedOffAndNeverRebuilds() {
+		registry.onMessage(message("reload"), null);
+		registry.onMessage(message("reload"), null);
+
+		// 리스너 스레드에서는 Redis를 호출하지 않고, 연달아 온 reload는 하나로 합친다
+		verifyNoInteractions(redisTemplate);
+		assertThat(reloads).hasSize(1);
+
+		when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(null);
+		reloads.get(0).run();
+
+		verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void revocationsReceivedDuringReloadSurviveTheSwap() {
+		long bitCount = BloomFilter.optimalBitCount(1000, 0.01);
+		byte[] emptyBitmap = new BloomFilter(bitCount, BloomFilter.optimalHashCount(1000, bitCount)).toByteArray();
+		when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation -> {
+			registry.onMessage(message("add:jti-during-reload"), null);
+			return emptyBitmap;
+		});
+		when(zSetOperations.score(eq(TokenRevocationRegistry.REVOKED_KEY), anyString()))
+				.thenReturn((double) (System.currentTimeMillis() + 60_000));
+
+		registry.onMessage(message("reload"), null);
+		reloads.get(0).run();
+
+		assertThat(registry.isRevoked("jti-during-reload")).isTrue();
+		verify(zSetOperations, never()).removeRangeByScore(anyString(), anyDouble(), anyDouble());
+		verify(zSetOperations, never()).range(anyString(), anyLong(), anyLong());
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(TokenRevocationRegistry.CHANNEL.getBytes(StandardCharsets.UTF_8),
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,53 @@
+package com.elianayesol.api.services.oauthservice.kakao;
+
+import com.elianayesol.api.services.oauthservice.resilience.ProviderResilience;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class KakaoServiceTests {
+
+	private static final String CLIENT_ID = "kakao-client";
+
+	private KakaoService kakaoService;
+
+	@BeforeEach
+	void setUp() {
+		kakaoService = new KakaoService(mock(RestTemplate.class), mock(ProviderResilience.class), new ObjectMapper());
+		ReflectionTestUtils.setField(kakaoService, "clientId", CLIENT_ID);
+	}
+
+	@Test
+	void subjectIsReturnedOnlyForMatchingIssuerAudienceAndExpiry() {
+		long future = Instant.now().plusSeconds(600).getEpochSecond();
+		long past = Instant.now().minusSeconds(600).getEpochSecond();
+
+		assertThat(kakaoService.idTokenSubject(idToken(KakaoService.ISSUER, "\"" + CLIENT_ID + "\"", future)))
+				.isEqualTo("12345");
+		assertThat(kakaoService.idTokenSubject(idToken(KakaoService.ISSUER, "[\"other\",\"" + CLIENT_ID + "\"]", future)))
+				.isEqualTo("12345");
+
+		assertThat(kakaoService.idTokenSubject(idToken("https://evil.example.com", "\"" + CLIENT_ID + "\"", future)))
+				.isNull();
+		assertThat(kakaoService.idTokenSubject(idToken(KakaoService.ISSUER, "\"other-client\"", future))).isNull();
+		assertThat(kakaoService.idTokenSubject(idToken(KakaoService.ISSUER, "\"" + CLIENT_ID + "\"", past))).isNull();
+		assertThat(kakaoService.idTokenSubject("not-a-jwt")).isNull();
+		assertThat(kakaoService.idTokenSubject(null)).isNull();
+	}
+
+	private static String idToken(String issuer, String audienceJson, long exp) {
+		String payload = "{\"iss\":\"" + issuer + "\",\"aud\":" + audienceJson + ",\"sub\":\"12345\",\"exp\":" + exp + "}";
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+				+ encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+	}
+}
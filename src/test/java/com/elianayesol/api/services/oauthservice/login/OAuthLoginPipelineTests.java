@@ -0,0 +1,137 @@
+package com.elianayesol.api.services.oauthservice.login;
+
+import com.elianayesol.api.services.oauthservice.jwt.JwtProperties;
+import com.elianayesol.api.services.oauthservice.jwt.JwtTokenProvider;
+import com.elianayesol.api.services.oauthservice.token.TokenStorageService;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OAuthLoginPipelineTests {
+
+	private final OAuthProviderAdapter adapter = mock(OAuthProviderAdapter.class);
+	private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+	private final TokenStorageService tokenStorageService = mock(TokenStorageService.class);
+	private final AtomicReference<Thread> signingThread = new AtomicReference<>();
+
+	@BeforeEach
+	void setUp() {
+		when(adapter.getProvider()).thenReturn("google");
+		when(adapter.exchangeCode("code", null)).thenReturn(new OAuthProviderToken("provider-token", "user-1"));
+		when(jwtTokenProvider.generateRefreshToken("user-1")).thenAnswer(invocation -> {
+			signingThread.set(Thread.currentThread());
+			return "refresh-1";
+		});
+		when(jwtTokenProvider.generateAccessToken(anyString(), any())).thenReturn("access-1");
+	}
+
+	@Test
+	void deadlineInterruptsProfileFetchAndNeverStartsStorage() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		when(adapter.fetchProfile(any())).thenAnswer(invocation -> {
+			try {
+				Thread.sleep(10_000);
+			} catch (InterruptedException e) {
+				interrupted.countDown();
+				throw e;
+			}
+			return profile();
+		});
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> pipeline(Duration.ofMillis(200)).login("google", "code", null))
+				.withMessage("OAuth login deadline exceeded");
+
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+		verifyNoInteractions(tokenStorageService);
+	}
+
+	@Test
+	void signingAndStorageRunOnCallerThreadAndStorageOutlivesDeadline() {
+		when(adapter.fetchProfile(any())).thenReturn(profile());
+		AtomicReference<Thread> storageThread = new AtomicReference<>();
+		AtomicBoolean storageInterrupted = new AtomicBoolean();
+		doAnswer(invocation -> {
+			storageThread.set(Thread.currentThread());
+			try {
+				Thread.sleep(400);
+			} catch (InterruptedException e) {
+				storageInterrupted.set(true);
+			}
+			return null;
+		}).when(tokenStorageService).saveLoginTokens(anyString(), anyString(), anyString(), anyString(), any());
+
+		OAuthLoginResult result = pipeline(Duration.ofMillis(200)).login("google", "code", null);
+
+		assertThat(result.getRefreshToken()).isEqualTo("refresh-1");
+		assertThat(signingThread.get()).isSameAs(Thread.currentThread());
+		assertThat(storageThread.get()).isSameAs(Thread.currentThread());
+		assertThat(storageInterrupted).isFalse();
+		verify(tokenStorageService).saveLoginTokens(anyString(), anyString(), anyString(), anyString(), any());
+	}
+
+	@Test
+	void profileIncludedInTokenIsNotForked() {
+		when(adapter.exchangeCode("code", null)).thenReturn(new OAuthProviderToken("provider-token", "user-1") {
+			@Override
+			public boolean isProfileIncluded() {
+				return true;
+			}
+		});
+		AtomicReference<Thread> profileThread = new AtomicReference<>();
+		when(adapter.fetchProfile(any())).thenAnswer(invocation -> {
+			profileThread.set(Thread.currentThread());
+			return profile();
+		});
+
+		OAuthLoginResult result = pipeline(Duration.ofSeconds(5)).login("google", "code", null);
+
+		assertThat(result.getRefreshToken()).isEqualTo("refresh-1");
+		assertThat(profileThread.get()).isSameAs(Thread.currentThread());
+		verify(jwtTokenProvider).generateRefreshToken("user-1");
+	}
+
+	@Test
+	void profileFailureFailsLoginWithoutStorage() {
+		when(adapter.fetchProfile(any())).thenThrow(new IllegalArgumentException("user-info failed"));
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> pipeline(Duration.ofSeconds(5)).login("google", "code", null))
+				.withMessage("user-info failed");
+		verifyNoInteractions(tokenStorageService);
+	}
+
+	private OAuthLoginPipeline pipeline(Duration deadline) {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setRefreshExpiration(Duration.ofDays(30).toMillis());
+		return new OAuthLoginPipeline(List.of(adapter), jwtTokenProvider, tokenStorageService, jwtProperties,
+				new LoginMetrics(ObservationRegistry.NOOP), runnable -> runnable, deadline);
+	}
+
+	private static OAuthUserProfile profile() {
+		return OAuthUserProfile.builder()
+				.provider("google")
+				.id("user-1")
+				.claims(Map.of())
+				.build();
+	}
+}
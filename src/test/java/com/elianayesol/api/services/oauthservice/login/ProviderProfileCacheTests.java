@@ -0,0 +1,70 @@
+package com.elianayesol.api.services.oauthservice.login;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProviderProfileCacheTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ValueOperations<String, String> valueOperations;
+	private ProviderProfileCache cache;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		ProfileCacheProperties properties = new ProfileCacheProperties();
+		properties.setTtl(Map.of("kakao", Duration.ofMinutes(10)));
+		cache = new ProviderProfileCache(redisTemplate, new ObjectMapper(), properties, meterRegistry);
+	}
+
+	@Test
+	void hitsAndMissesAreCountedPerProvider() {
+		when(valueOperations.get(ProviderProfileCache.KEY_PREFIX + "kakao:user-1"))
+				.thenReturn("{\"e\":\"user@example.com\",\"c\":{\"role\":\"USER\"}}");
+		when(valueOperations.get(ProviderProfileCache.KEY_PREFIX + "kakao:user-2")).thenReturn(null);
+		when(valueOperations.get(ProviderProfileCache.KEY_PREFIX + "kakao:user-3"))
+				.thenThrow(new QueryTimeoutException("redis timeout"));
+
+		OAuthUserProfile hit = cache.get("kakao", "user-1");
+		assertThat(cache.get("kakao", "user-2")).isNull();
+		assertThat(cache.get("kakao", "user-3")).isNull();
+
+		assertThat(hit.getId()).isEqualTo("user-1");
+		assertThat(hit.getEmail()).isEqualTo("user@example.com");
+		assertThat(gets("kakao", "hit")).isEqualTo(1);
+		assertThat(gets("kakao", "miss")).isEqualTo(2);
+		assertThat(meterRegistry.get("oauth.profile.cache.hit.ratio").tag("provider", "kakao").gauge().value())
+				.isEqualTo(1.0 / 3);
+	}
+
+	@Test
+	void uncachedProviderRecordsNothing() {
+		assertThat(cache.get("naver", "user-1")).isNull();
+
+		assertThat(meterRegistry.find(ProviderProfileCache.GETS_METER).counters()).isEmpty();
+		assertThat(meterRegistry.find("cache.gets").counters()).isEmpty();
+	}
+
+	private double gets(String provider, String result) {
+		return meterRegistry.get(ProviderProfileCache.GETS_METER)
+				.tag("provider", provider)
+				.tag("result", result)
+				.counter()
+				.count();
+	}
+}
@@ -0,0 +1,71 @@
+package com.elianayesol.api.services.oauthservice.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProviderCircuitBreakerTests {
+
+	private ProviderResilienceProperties.CircuitBreaker properties;
+
+	@BeforeEach
+	void setUp() {
+		properties = new ProviderResilienceProperties.CircuitBreaker();
+		properties.setWindowSize(4);
+		properties.setMinimumCalls(4);
+		properties.setFailureRateThreshold(50);
+		properties.setHalfOpenCalls(2);
+	}
+
+	@Test
+	void opensWhenFailureRateReachesThreshold() {
+		ProviderCircuitBreaker breaker = new ProviderCircuitBreaker("kakao", properties);
+
+		breaker.record(false);
+		breaker.record(true);
+		breaker.record(false);
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+
+		breaker.record(true);
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+		assertThat(breaker.tryAcquire()).isFalse();
+	}
+
+	@Test
+	void halfOpenAllowsLimitedTrialsAndClosesOnSuccess() {
+		properties.setOpenDuration(Duration.ZERO);
+		ProviderCircuitBreaker breaker = new ProviderCircuitBreaker("naver", properties);
+		for (int i = 0; i < 4; i++) {
+			breaker.record(true);
+		}
+
+		assertThat(breaker.tryAcquire()).isTrue();
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.HALF_OPEN);
+		assertThat(breaker.tryAcquire()).isTrue();
+		assertThat(breaker.tryAcquire()).isFalse();
+
+		// 결과 없이 끝난 시험 호출은 자리를 돌려준다
+		breaker.release();
+		assertThat(breaker.tryAcquire()).isTrue();
+
+		breaker.record(false);
+		breaker.record(false);
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void halfOpenFailureReopens() {
+		properties.setOpenDuration(Duration.ZERO);
+		ProviderCircuitBreaker breaker = new ProviderCircuitBreaker("google", properties);
+		for (int i = 0; i < 4; i++) {
+			breaker.record(true);
+		}
+
+		assertThat(breaker.tryAcquire()).isTrue();
+		breaker.record(true);
+		assertThat(breaker.getState()).isEqualTo(ProviderCircuitBreaker.State.OPEN);
+	}
+}
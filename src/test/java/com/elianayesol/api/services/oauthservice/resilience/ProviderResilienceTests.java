@@ -0,0 +1,206 @@
+package com.elianayesol.api.services.oauthservice.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProviderResilienceTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ProviderResilienceProperties properties;
+
+	@BeforeEach
+	void setUp() {
+		properties = new ProviderResilienceProperties();
+		properties.setCallTimeout(Duration.ofSeconds(2));
+		properties.getBulkhead().setMaxConcurrent(4);
+		properties.getBulkhead().setMaxWait(Duration.ofMillis(10));
+		properties.getRetry().setBackoff(Duration.ofMillis(1));
+		properties.getRetry().setBudget(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void fullBulkheadRejectsWithoutCallingProvider() throws Exception {
+		properties.getBulkhead().setMaxConcurrent(1);
+		ProviderResilience resilience = resilience();
+		CountDownLatch calling = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> resilience.call("kakao", "token", false, () -> {
+			calling.countDown();
+			await(release);
+			return "first";
+		}));
+		assertThat(calling.await(5, TimeUnit.SECONDS)).isTrue();
+
+		AtomicInteger secondCalls = new AtomicInteger();
+		assertThatThrownBy(() -> resilience.call("kakao", "token", false, secondCalls::incrementAndGet))
+				.isInstanceOf(ProviderResilience.RejectedException.class)
+				.hasMessageContaining("bulkhead is full");
+		// 다른 제공자는 독립된 bulkhead
+		assertThat(resilience.call("naver", "token", false, () -> "naver")).isEqualTo("naver");
+
+		release.countDown();
+		assertThat(first).succeedsWithin(Duration.ofSeconds(5)).isEqualTo("first");
+		assertThat(secondCalls).hasValue(0);
+		assertThat(calls("kakao", "rejected")).isEqualTo(1);
+	}
+
+	@Test
+	void idempotentCallsRetryProviderFailuresOnly() {
+		ProviderResilience resilience = resilience();
+		AtomicInteger userInfoCalls = new AtomicInteger();
+		String result = resilience.call("google", "userinfo", true, () -> {
+			if (userInfoCalls.incrementAndGet() < 3) {
+				throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+			}
+			return "profile";
+		});
+
+		assertThat(result).isEqualTo("profile");
+		assertThat(userInfoCalls).hasValue(3);
+		assertThat(counter("oauth.provider.retries", "userinfo")).isEqualTo(2);
+
+		// 인가 코드 교환(비멱등)과 4xx는 재시도하지 않는다
+		AtomicInteger tokenCalls = new AtomicInteger();
+		assertThatThrownBy(() -> resilience.call("google", "token", false, () -> {
+			tokenCalls.incrementAndGet();
+			throw new HttpServerErrorException(HttpStatus.BAD_GATEWAY);
+		})).isInstanceOf(HttpServerErrorException.class);
+		AtomicInteger badRequestCalls = new AtomicInteger();
+		assertThatThrownBy(() -> resilience.call("google", "userinfo", true, () -> {
+			badRequestCalls.incrementAndGet();
+			throw new HttpClientErrorException(HttpStatus.UNAUTHORIZED);
+		})).isInstanceOf(HttpClientErrorException.class);
+		assertThat(tokenCalls).hasValue(1);
+		assertThat(badRequestCalls).hasValue(1);
+	}
+
+	@Test
+	void slowAttemptIsHedgedAndCancelled() throws Exception {
+		properties.getHedge().setEnabled(true);
+		properties.getHedge().setMinDelay(Duration.ofMillis(50));
+		ProviderResilience resilience = resilience();
+		AtomicInteger attempts = new AtomicInteger();
+		CountDownLatch slowInterrupted = new CountDownLatch(1);
+
+		String result = resilience.call("kakao", "userinfo", true, () -> {
+			if (attempts.incrementAndGet() == 1) {
+				try {
+					Thread.sleep(10_000);
+				} catch (InterruptedException e) {
+					slowInterrupted.countDown();
+				}
+				return "slow";
+			}
+			return "hedged";
+		});
+
+		assertThat(result).isEqualTo("hedged");
+		assertThat(counter("oauth.provider.hedges", "userinfo")).isEqualTo(1);
+		assertThat(slowInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+		awaitBulkheadDrained("kakao");
+		assertThat(calls("kakao", "success")).isEqualTo(1);
+	}
+
+	@Test
+	void noHedgeWhenDelayExceedsRemainingTime() throws Exception {
+		properties.setCallTimeout(Duration.ofMillis(100));
+		properties.getHedge().setEnabled(true);
+		properties.getHedge().setMinDelay(Duration.ofMillis(500));
+		properties.getRetry().setMaxAttempts(1);
+		ProviderResilience resilience = resilience();
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> resilience.call("kakao", "userinfo", true, () -> {
+					attempts.incrementAndGet();
+					try {
+						Thread.sleep(10_000);
+					} catch (InterruptedException ignored) {
+						// 취소됨
+					}
+					return "slow";
+				}))
+				.withMessageContaining("timed out after 100ms");
+
+		awaitBulkheadDrained("kakao");
+		assertThat(counter("oauth.provider.hedges", "userinfo")).isZero();
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void timeoutIsRecordedOnceAndLateSuccessIsIgnored() throws Exception {
+		properties.setCallTimeout(Duration.ofMillis(100));
+		properties.getCircuitBreaker().setWindowSize(2);
+		properties.getCircuitBreaker().setMinimumCalls(2);
+		properties.getCircuitBreaker().setFailureRateThreshold(50);
+		ProviderResilience resilience = resilience();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> resilience.call("naver", "token", false, () -> {
+					// interrupt를 무시하고 늦게 성공하는 제공자 호출
+					long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+					while (System.nanoTime() < until) {
+						try {
+							Thread.sleep(10);
+						} catch (InterruptedException ignored) {
+							// 계속 진행
+						}
+					}
+					return "late";
+				}))
+				.withMessageContaining("timed out after 100ms");
+
+		awaitBulkheadDrained("naver");
+		assertThat(calls("naver", "timeout")).isEqualTo(1);
+		assertThat(calls("naver", "success")).isZero();
+		// 늦은 성공까지 기록됐다면 2건 중 1건 실패(50%)로 열렸을 것
+		assertThat(resilience.getCircuitState("naver")).isEqualTo(ProviderCircuitBreaker.State.CLOSED.name());
+	}
+
+	private ProviderResilience resilience() {
+		return new ProviderResilience(properties, meterRegistry, runnable -> runnable);
+	}
+
+	private long calls(String provider, String outcome) {
+		Timer timer = meterRegistry.find("oauth.provider.call").tag("provider", provider).tag("outcome", outcome).timer();
+		return timer != null ? timer.count() : 0;
+	}
+
+	private double counter(String name, String operation) {
+		Counter counter = meterRegistry.find(name).tag("operation", operation).counter();
+		return counter != null ? counter.count() : 0;
+	}
+
+	private void awaitBulkheadDrained(String provider) throws InterruptedException {
+		long until = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get("oauth.provider.bulkhead.available").tag("provider", provider).gauge().value()
+				< properties.getBulkhead().getMaxConcurrent()) {
+			assertThat(System.nanoTime()).isLessThan(until);
+			Thread.sleep(10);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
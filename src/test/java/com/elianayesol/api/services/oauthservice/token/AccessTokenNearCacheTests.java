@@ -0,0 +1,58 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class AccessTokenNearCacheTests {
+
+	private final AtomicLong nanos = new AtomicLong();
+	private AccessTokenNearCache nearCache;
+
+	@BeforeEach
+	void setUp() {
+		nearCache = new AccessTokenNearCache(mock(RedisMessageListenerContainer.class), new SimpleMeterRegistry(),
+				100, Duration.ofMinutes(5), nanos::get);
+	}
+
+	@Test
+	void entryExpiresWithRemainingRedisTtl() {
+		nearCache.put("user-1", "token-1", Duration.ofSeconds(3));
+
+		advance(Duration.ofSeconds(2));
+		assertThat(nearCache.get("user-1")).isEqualTo("token-1");
+
+		advance(Duration.ofSeconds(2));
+		assertThat(nearCache.get("user-1")).isNull();
+	}
+
+	@Test
+	void entryNeverOutlivesConfiguredTtl() {
+		nearCache.put("user-1", "token-1", Duration.ofMinutes(15));
+
+		advance(Duration.ofMinutes(4));
+		assertThat(nearCache.get("user-1")).isEqualTo("token-1");
+
+		advance(Duration.ofMinutes(2));
+		assertThat(nearCache.get("user-1")).isNull();
+	}
+
+	@Test
+	void expiredRedisTtlIsNotCached() {
+		nearCache.put("user-1", "token-1", Duration.ofMinutes(1));
+		nearCache.put("user-1", "token-2", Duration.ZERO);
+
+		assertThat(nearCache.get("user-1")).isNull();
+	}
+
+	private void advance(Duration duration) {
+		nanos.addAndGet(duration.toNanos());
+	}
+}
@@ -0,0 +1,50 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class RefreshTokenPartitionManagerTests {
+
+	@Test
+	void monthsAheadMustCoverRefreshExpiration() {
+		assertThatCode(() -> RefreshTokenPartitionManager.validateCoverage(2, Duration.ofDays(30)))
+				.doesNotThrowAnyException();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> RefreshTokenPartitionManager.validateCoverage(2, Duration.ofDays(60)))
+				.withMessageContaining("needs at least 3");
+		assertThatIllegalStateException()
+				.isThrownBy(() -> RefreshTokenPartitionManager.validateCoverage(1, Duration.ofDays(28)));
+	}
+
+	@Test
+	void minimumMonthsAheadLeavesRoomForAMissedRun() {
+		assertThat(RefreshTokenPartitionManager.minimumMonthsAhead(Duration.ofDays(27))).isEqualTo(1);
+		assertThat(RefreshTokenPartitionManager.minimumMonthsAhead(Duration.ofDays(30))).isEqualTo(2);
+		assertThat(RefreshTokenPartitionManager.minimumMonthsAhead(Duration.ofDays(90))).isEqualTo(4);
+	}
+
+	@Test
+	void partitionNamesDoNotCollideWithDefaultPartition() {
+		assertThat(RefreshTokenPartitionManager.partitionName(YearMonth.of(2026, 1))).isEqualTo("refresh_tokens_p202601");
+		assertThat(RefreshTokenPartitionManager.DEFAULT_PARTITION)
+				.doesNotStartWith(RefreshTokenPartitionManager.PARTITION_PREFIX);
+	}
+
+	@Test
+	void detachesBeforeDropAndOnlyConcurrentlyWithoutDefaultPartition() {
+		assertThat(RefreshTokenPartitionManager.detachSql("refresh_tokens_p202601", false, true))
+				.isEqualTo("ALTER TABLE refresh_tokens DETACH PARTITION refresh_tokens_p202601 CONCURRENTLY");
+		// DEFAULT 파티션이 있으면 PostgreSQL이 CONCURRENTLY를 거부
+		assertThat(RefreshTokenPartitionManager.detachSql("refresh_tokens_p202601", false, false))
+				.isEqualTo("ALTER TABLE refresh_tokens DETACH PARTITION refresh_tokens_p202601");
+		assertThat(RefreshTokenPartitionManager.detachSql("refresh_tokens_p202601", true, true))
+				.isEqualTo("ALTER TABLE refresh_tokens DETACH PARTITION refresh_tokens_p202601 FINALIZE");
+	}
+}
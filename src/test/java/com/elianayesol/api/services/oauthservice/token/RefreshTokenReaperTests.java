@@ -0,0 +1,47 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenReaperTests {
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void cutoffIsBoundFromJvmClock() {
+		NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(eq(RefreshTokenReaper.LOCK_KEY), any(), any(Duration.class))).thenReturn(true);
+		when(jdbcTemplate.queryForList(eq(RefreshTokenReaper.PURGE_SQL), any(MapSqlParameterSource.class), eq(Long.class)))
+				.thenReturn(List.of(1L, 2L));
+		RefreshTokenReaper reaper = new RefreshTokenReaper(jdbcTemplate, redisTemplate, new SimpleMeterRegistry(),
+				1000, 0, Duration.ofMinutes(1), "00:00", "00:00", "UTC");
+
+		reaper.purge();
+
+		ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+		verify(jdbcTemplate).queryForList(eq(RefreshTokenReaper.PURGE_SQL), params.capture(), eq(Long.class));
+		assertThat(RefreshTokenReaper.PURGE_SQL).contains("expires_at > :now").doesNotContain("now()");
+		assertThat((LocalDateTime) params.getValue().getValue("now"))
+				.isCloseTo(LocalDateTime.now(), within(5, ChronoUnit.SECONDS));
+	}
+}
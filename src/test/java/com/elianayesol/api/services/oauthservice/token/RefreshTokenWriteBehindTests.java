@@ -0,0 +1,104 @@
+package com.elianayesol.api.services.oauthservice.token;
+
+import com.elianayesol.api.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenWriteBehindTests {
+
+	private static final LocalDateTime EXPIRES_AT = LocalDateTime.now().plusDays(30);
+
+	private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+	private RefreshTokenWriteBehind writeBehind;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		if (writeBehind != null) {
+			writeBehind.shutdown();
+		}
+	}
+
+	@Test
+	void transientFailureIsRetriedBeforeSaveReturns() {
+		when(jdbcTemplate.batchUpdate(eq(RefreshTokenRepository.REPLACE_SQL), any(SqlParameterSource[].class)))
+				.thenThrow(new QueryTimeoutException("timeout"))
+				.thenReturn(new int[] {1});
+		writeBehind = writeBehind(Duration.ofSeconds(5));
+
+		writeBehind.save("user-1", "refresh-1", "kakao", EXPIRES_AT);
+
+		verify(jdbcTemplate, times(2)).batchUpdate(eq(RefreshTokenRepository.REPLACE_SQL), any(SqlParameterSource[].class));
+		assertThat(writeBehind.findPending("refresh-1")).isNull();
+	}
+
+	@Test
+	void lostWriteFailsTheSave() {
+		when(jdbcTemplate.batchUpdate(eq(RefreshTokenRepository.REPLACE_SQL), any(SqlParameterSource[].class)))
+				.thenThrow(new QueryTimeoutException("timeout"));
+		writeBehind = writeBehind(Duration.ofSeconds(5));
+
+		assertThatThrownBy(() -> writeBehind.save("user-1", "refresh-1", "kakao", EXPIRES_AT))
+				.isInstanceOf(QueryTimeoutException.class);
+		verify(jdbcTemplate, times(3)).batchUpdate(eq(RefreshTokenRepository.REPLACE_SQL), any(SqlParameterSource[].class));
+		assertThat(writeBehind.findPending("refresh-1")).isNull();
+	}
+
+	@Test
+	void shutdownDrainsQueuedWrites() throws Exception {
+		CountDownLatch flushing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(jdbcTemplate.batchUpdate(eq(RefreshTokenRepository.REPLACE_SQL), any(SqlParameterSource[].class)))
+				.thenAnswer(invocation -> {
+					flushing.countDown();
+					release.await();
+					return new int[] {1};
+				})
+				.thenReturn(new int[] {1});
+		writeBehind = writeBehind(Duration.ofSeconds(5));
+
+		CompletableFuture<Void> first = writeBehind.submit("user-1", "refresh-1", "kakao", EXPIRES_AT);
+		assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Void> second = writeBehind.submit("user-2", "refresh-2", "kakao", EXPIRES_AT);
+		CompletableFuture<Void> third = writeBehind.submit("user-3", "refresh-3", "naver", EXPIRES_AT);
+
+		CompletableFuture<Void> shutdown = CompletableFuture.runAsync(() -> {
+			try {
+				writeBehind.shutdown();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		release.countDown();
+		shutdown.get(5, TimeUnit.SECONDS);
+		writeBehind = null;
+
+		assertThat(CompletableFuture.allOf(first, second, third)).succeedsWithin(Duration.ZERO);
+		verify(jdbcTemplate, atLeast(2)).batchUpdate(eq(RefreshTokenRepository.REPLACE_SQL), any(SqlParameterSource[].class));
+	}
+
+	private RefreshTokenWriteBehind writeBehind(Duration commitTimeout) {
+		return new RefreshTokenWriteBehind(jdbcTemplate, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+				100, 50, Duration.ofMillis(10), Duration.ofSeconds(1), 3, Duration.ofMillis(1), commitTimeout);
+	}
+}